@@ -0,0 +1,10 @@
+package com.gotcha._global.cache;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ * @param origin 발행 노드 ID (자신이 보낸 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key 캐시 키 (null이면 전체 비우기)
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
@@ -0,0 +1,152 @@
+package com.gotcha._global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * L1(노드 로컬 Caffeine) + L2(Redis) 2단계 캐시.
+ *
+ * 조회: L1 → L2 순서로 확인하고 L2 적중 시 L1에 채웁니다.
+ * 변경(put/evict/clear): L2에 먼저 반영한 뒤 L1을 갱신하고 다른 노드에 무효화를 전파합니다.
+ * 티어별 적중/미스는 cache.tier.requests{cache, tier, result} 로 기록됩니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+    private final CacheInvalidationBroker broker;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    public TwoLevelCache(Cache redisCache,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache,
+                         CacheInvalidationBroker broker,
+                         MeterRegistry meterRegistry) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.broker = broker;
+
+        String name = redisCache.getName();
+        this.l1Hit = counter(meterRegistry, name, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, name, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, name, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, name, "l2", "miss");
+        Gauge.builder("cache.tier.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            l1Hit.increment();
+            return local;
+        }
+        l1Miss.increment();
+
+        ValueWrapper remote = redisCache.get(key);
+        if (remote == null) {
+            l2Miss.increment();
+            return null;
+        }
+        l2Hit.increment();
+        localCache.put(localKey, remote);
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = redisCache.get(key, valueLoader);
+        localCache.put(localKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        String localKey = localKey(key);
+        localCache.put(localKey, new SimpleValueWrapper(value));
+        broker.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        broker.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        broker.publishClear(getName());
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 L1에서만 제거
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 다른 노드의 전체 비우기 메시지 수신 시 L1만 비움
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,68 @@
+package com.gotcha._global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gotcha._global.config.NearCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+/**
+ * RedisCacheManager 앞단에 노드 로컬 Caffeine near-cache를 두는 CacheManager.
+ *
+ * near-cache 대상(cache.near.cache-names)만 {@link TwoLevelCache}로 감싸고 나머지는 Redis 캐시를 그대로 반환합니다.
+ * 트랜잭션 인식은 이 매니저에서 처리하므로 내부 RedisCacheManager는 transactionAware가 아니어야 합니다.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final NearCacheProperties properties;
+    private final CacheInvalidationBroker broker;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                NearCacheProperties properties,
+                                CacheInvalidationBroker broker,
+                                MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.broker = broker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        redisCacheManager.initializeCaches();
+        return redisCacheManager.getCacheNames().stream()
+                .map(redisCacheManager::getCache)
+                .filter(Objects::nonNull)
+                .map(this::decorateWithNearCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        return redisCache != null ? decorateWithNearCache(redisCache) : null;
+    }
+
+    private Cache decorateWithNearCache(Cache redisCache) {
+        if (!properties.isEnabled() || !properties.getCacheNames().contains(redisCache.getName())) {
+            return redisCache;
+        }
+
+        TwoLevelCache cache = new TwoLevelCache(
+                redisCache,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(Duration.ofSeconds(properties.getExpireAfterWriteSeconds()))
+                        .build(),
+                broker,
+                meterRegistry);
+        broker.register(cache);
+        return cache;
+    }
+}
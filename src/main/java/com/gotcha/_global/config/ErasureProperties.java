@@ -0,0 +1,26 @@
+package com.gotcha._global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "erasure")
+@Getter
+@Setter
+public class ErasureProperties {
+
+    // 한 트랜잭션에서 삭제하는 최대 행 수
+    private int chunkSize = 500;
+    // 청크 사이 대기 시간 (다른 트랜잭션에 락을 양보)
+    private long chunkPauseMs = 0;
+    // 대기/재시도/중단된 작업 확인 주기
+    private long pollIntervalMs = 30_000;
+    // 실행 중인 작업 선점 유지 시간 (청크마다 갱신, 노드 종료 시 이후 다른 노드가 이어서 실행)
+    private long leaseSeconds = 120;
+    // 실패 시 재시도 한도 (초과 시 FAILED)
+    private int maxAttempts = 5;
+    // 재시도 간격
+    private long retryDelaySeconds = 60;
+}
@@ -0,0 +1,98 @@
+package com.gotcha._global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "file-upload")
+@Getter
+@Setter
+public class FileUploadProperties {
+
+    private Pipeline pipeline = new Pipeline();
+    private Heic heic = new Heic();
+    private Presigned presigned = new Presigned();
+    private Deletion deletion = new Deletion();
+    private Dedup dedup = new Dedup();
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+        // 디코딩/WebP 인코딩 스레드 수 (0이면 CPU 코어 수)
+        private int encodeThreads = 0;
+        // 인코딩 대기열 크기 (가득 차면 요청 스레드에서 직접 처리)
+        private int encodeQueueCapacity = 64;
+        // 동시에 디코딩 중인 이미지가 차지할 수 있는 메모리 상한 (MB, 픽셀 수로 추정)
+        private int decodeMemoryBudgetMb = 256;
+        // 메모리 상한에 걸렸을 때 대기 시간 (초과 시 요청 거절)
+        private long admissionTimeoutMs = 5_000;
+        // 인코딩 + 업로드 전체 대기 시간
+        private long uploadTimeoutSeconds = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Heic {
+        // 변환 명령 ({input}이 없으면 원본을 stdin으로, {output}이 없으면 stdout을 결과 파일로 연결)
+        private String command = "heif-convert {input} {output}";
+        // 동시에 실행하는 변환 프로세스 수
+        private int maxConcurrent = 2;
+        // 변환 슬롯 대기 시간 (초과 시 요청 거절)
+        private long queueTimeoutMs = 5_000;
+        // 변환 프로세스 제한 시간 (초과 시 종료 후 원본 업로드)
+        private long timeoutSeconds = 30;
+        // 변환 결과 파일 위치 (비어 있으면 시스템 임시 디렉터리, 예: /dev/shm)
+        private String workDir = "";
+    }
+
+    @Getter
+    @Setter
+    public static class Presigned {
+        // presigned PUT URL 유효 시간
+        private long urlExpirySeconds = 600;
+        // 클라이언트가 직접 올리는 원본 위치 (aws.s3.prefix 아래, 처리 후 삭제)
+        private String rawPrefix = "raw/";
+        // 이 노드에서 처리 워커 실행 여부 (false면 API 노드는 발급/조회만 담당)
+        private boolean workerEnabled = true;
+        // 동시에 처리하는 업로드 수
+        private int workerThreads = 2;
+        // 업로드 완료 세션 조회 주기
+        private long pollIntervalMs = 2_000;
+        // 한 번에 가져오는 세션 수
+        private int batchSize = 10;
+        // 업로드되지 않은 세션 / 처리 중 멈춘 세션 만료 시간
+        private long sessionTtlMinutes = 60;
+        // 일시적 오류(처리 슬롯 포화, S3 오류) 처리 시도 한도 (초과 시 FAILED)
+        private int maxProcessingAttempts = 5;
+        // 일시적 오류 재시도 간격 (실패할 때마다 2배, 최대 10분)
+        private long retryBaseDelayMs = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Deletion {
+        // DeleteObjects 한 번에 보내는 키 수 (S3 최대 1000)
+        private int batchSize = 1_000;
+        // 커밋 이후 즉시 처리 외에 재시도/다른 노드 기록을 처리하는 주기
+        private long pollIntervalMs = 10_000;
+        // 선점 후 처리 완료를 기다리는 시간 (노드 종료 시 이후 다른 노드가 처리)
+        private long leaseSeconds = 60;
+        // 재시도 한도 (초과 시 DEAD로 남김)
+        private int maxAttempts = 8;
+        // 재시도 간격 (실패할 때마다 2배, 최대 1시간)
+        private long retryBaseDelayMs = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Dedup {
+        // 업로드 후 게시글/리뷰/가게/프로필에 연결되지 않은(참조 0) 파일 보관 시간 (초과 시 삭제)
+        private long unclaimedTtlHours = 24;
+        // 연결되지 않은 파일 정리 주기
+        private long sweepIntervalMs = 600_000;
+        // 한 번에 정리하는 파일 수
+        private int sweepBatchSize = 100;
+    }
+}
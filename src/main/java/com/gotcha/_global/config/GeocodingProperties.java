@@ -0,0 +1,23 @@
+package com.gotcha._global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "geocoding.cache")
+@Getter
+@Setter
+public class GeocodingProperties {
+
+    private boolean enabled = true;
+    // 캐시 키 geohash 자릿수 (9자리 ≈ 4.8m x 4.8m 셀, 셀 안의 좌표는 같은 주소로 간주)
+    private int geohashPrecision = 9;
+    // 주소 조회 결과 보관 기간 (Redis)
+    private long ttlDays = 30;
+    // 주소 없음 결과 캐시 여부
+    private boolean negativeCaching = true;
+    // 주소 없음 결과 보관 기간 (Redis)
+    private long negativeTtlHours = 24;
+}
@@ -0,0 +1,32 @@
+package com.gotcha._global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    // 전체 커넥션 풀 크기
+    private int maxConnections = 100;
+    // 호스트(라우트)별 최대 커넥션 수
+    private int maxConnectionsPerRoute = 20;
+    // TCP 연결 타임아웃
+    private long connectTimeoutMs = 3_000;
+    // 응답(소켓 읽기) 타임아웃
+    private long readTimeoutMs = 5_000;
+    // 풀에서 커넥션을 얻기까지 대기 한도 (풀 포화 시 빠르게 실패)
+    private long poolAcquireTimeoutMs = 1_000;
+    // 이 시간 이상 유휴 상태인 커넥션 정리
+    private long idleEvictSeconds = 30;
+    // 커넥션 최대 수명 (DNS 변경 반영)
+    private long connectionTimeToLiveSeconds = 300;
+    // 재사용 전 커넥션 검증 기준 유휴 시간
+    private long validateAfterInactivityMs = 2_000;
+    // 호스트별 풀 메트릭 갱신 주기
+    private long metricsRefreshIntervalMs = 15_000;
+}
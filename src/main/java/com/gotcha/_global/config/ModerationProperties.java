@@ -0,0 +1,22 @@
+package com.gotcha._global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "moderation")
+@Getter
+@Setter
+public class ModerationProperties {
+
+    // 금칙어 목록 위치 (ko.txt, en.txt가 있는 디렉터리, 예: file:/etc/gotcha/forbidden-words/)
+    private String forbiddenWordsLocation = "classpath:forbidden-words/";
+    // 금칙어 목록 변경 확인 주기
+    private long reloadIntervalMs = 60_000;
+    // 기존 콘텐츠 재검사 keyset 페이지 크기
+    private int rescanPageSize = 500;
+    // 대상 콘텐츠가 삭제된 검출 기록 정리 주기 (일괄 삭제 등 삭제 시점에 지우지 못한 기록)
+    private long orphanSweepIntervalMs = 3_600_000;
+}
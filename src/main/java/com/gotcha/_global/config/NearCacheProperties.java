@@ -0,0 +1,19 @@
+package com.gotcha._global.config;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.near")
+@Getter
+@Setter
+public class NearCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 1_000;
+    private long expireAfterWriteSeconds = 60;
+    private List<String> cacheNames = List.of("shop-detail", "blocked-user-ids", "user-status", "geocode");
+}
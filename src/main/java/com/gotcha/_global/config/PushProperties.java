@@ -13,6 +13,8 @@ public class PushProperties {
 
     private Vapid vapid = new Vapid();
     private Apns apns = new Apns();
+    private Broadcast broadcast = new Broadcast();
+    private Cleanup cleanup = new Cleanup();
 
     @Getter
     @Setter
@@ -31,4 +33,26 @@ public class PushProperties {
         private String bundleId;
         private boolean production;
     }
+
+    @Getter
+    @Setter
+    public static class Broadcast {
+        // 구독/기기 토큰 keyset 페이지 크기
+        private int pageSize = 500;
+        // 동시에 진행하는 Web Push HTTP 요청 수
+        private int webPushConcurrency = 64;
+        // 응답을 기다리는 APNS 요청 상한 (초과 시 발송 대기)
+        private int apnsMaxInFlight = 1_000;
+        // 완료된 작업 진행 상황 보관 시간
+        private long jobRetentionMinutes = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Cleanup {
+        // 만료/무효 토큰이 이 개수만큼 쌓이면 즉시 일괄 삭제
+        private int flushSize = 500;
+        // 주기적 일괄 삭제 간격
+        private long flushIntervalMs = 5_000;
+    }
 }
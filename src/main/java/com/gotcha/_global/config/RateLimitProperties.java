@@ -1,5 +1,7 @@
 package com.gotcha._global.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -12,7 +14,41 @@ import org.springframework.context.annotation.Configuration;
 public class RateLimitProperties {
 
     private boolean enabled = true;
+    // 비로그인 요청 (IP 버킷)
     private int capacity = 100;
     private int refillTokens = 100;
     private int refillDurationSeconds = 60;
+
+    // 로그인 요청 (JWT 사용자 ID 버킷, 통신사 NAT 뒤 사용자끼리 IP 버킷을 공유하지 않도록 분리)
+    private int authenticatedCapacity = 300;
+    private int authenticatedRefillTokens = 300;
+
+    // 토큰이 있는 요청의 JWT 검증 전 IP 버킷 (검증 비용 보호용, 같은 IP 뒤의 여러 사용자를 고려해 크게 설정)
+    private int preAuthCapacity = 1_000;
+    private int preAuthRefillTokens = 1_000;
+
+    // 경로별 토큰 비용 (위에서부터 처음 일치하는 규칙 적용, 일치하는 규칙이 없으면 1)
+    private List<Route> routes = new ArrayList<>();
+
+    // Redis 공용 버킷 사용 여부 (false면 노드별 인메모리 버킷)
+    private boolean distributed = false;
+    // Redis에서 한 번에 미리 가져올 토큰 수
+    private int prefetchTokens = 5;
+    // 미리 가져온 토큰 보관 시간 (만료 시 남은 토큰은 버림)
+    private long prefetchTtlMillis = 1_000;
+    // Redis 오류 후 인메모리 버킷으로 대체하는 시간
+    private int redisRetryBackoffSeconds = 30;
+
+    @Getter
+    @Setter
+    public static class Route {
+        // 메트릭 태그로 쓰이는 규칙 이름
+        private String name;
+        // PathPattern 형식 경로 (예: /api/shops/*/reviews)
+        private String pattern;
+        // 적용할 HTTP 메서드 (비어 있으면 전체)
+        private List<String> methods = new ArrayList<>();
+        // 요청당 소비 토큰 수 (0이면 제한하지 않음)
+        private int cost = 1;
+    }
 }
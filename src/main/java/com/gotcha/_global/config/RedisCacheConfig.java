@@ -2,7 +2,12 @@ package com.gotcha._global.config;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gotcha._global.cache.CacheInvalidationBroker;
+import com.gotcha._global.cache.TwoLevelCacheManager;
+import com.gotcha._global.external.kakao.dto.GeocodeResult;
 import com.gotcha.domain.shop.dto.ShopDetailResponse;
+import com.gotcha.domain.user.dto.UserStatusSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,6 +16,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -21,7 +27,11 @@ import java.time.Duration;
 @EnableCaching
 public class RedisCacheConfig {
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper,
+                                     NearCacheProperties nearCacheProperties,
+                                     CacheInvalidationBroker cacheInvalidationBroker,
+                                     GeocodingProperties geocodingProperties,
+                                     MeterRegistry meterRegistry) {
         StringRedisSerializer keySerializer = new StringRedisSerializer();
 
         // shop-detail: ShopDetailResponse 타입 명시로 @class 없이 안정적인 직렬화/역직렬화
@@ -47,18 +57,61 @@ public class RedisCacheConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(blockedUserIdsSerializer))
                 .entryTtl(Duration.ofMinutes(10L));
 
+        // user-status: 인증 사용자 상태 스냅샷 (상태 변경 시 명시적으로 무효화, TTL은 안전망)
+        Jackson2JsonRedisSerializer<UserStatusSnapshot> userStatusSerializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, UserStatusSnapshot.class);
+
+        RedisCacheConfiguration userStatusConfig = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(keySerializer))
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(userStatusSerializer))
+                .entryTtl(Duration.ofMinutes(10L));
+
+        // geocode: 역지오코딩 결과 (주소 없음 결과는 짧은 TTL)
+        Jackson2JsonRedisSerializer<GeocodeResult> geocodeSerializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, GeocodeResult.class);
+        Duration geocodeTtl = Duration.ofDays(geocodingProperties.getTtlDays());
+        Duration geocodeNegativeTtl = Duration.ofHours(geocodingProperties.getNegativeTtlHours());
+
+        RedisCacheConfiguration geocodeConfig = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(keySerializer))
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(geocodeSerializer))
+                .entryTtl((key, value) ->
+                        value instanceof GeocodeResult result && !result.found() ? geocodeNegativeTtl : geocodeTtl);
+
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(keySerializer))
                 .entryTtl(Duration.ofMinutes(1L));
 
-        return RedisCacheManager
+        RedisCacheManager redisCacheManager = RedisCacheManager
                 .RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
-                .transactionAware()
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("shop-detail", shopDetailConfig)
                 .withCacheConfiguration("blocked-user-ids", blockedUserIdsConfig)
+                .withCacheConfiguration("user-status", userStatusConfig)
+                .withCacheConfiguration("geocode", geocodeConfig)
                 .build();
+
+        // L1(Caffeine) + L2(Redis), 커밋 이후에 put/evict 반영 (트랜잭션 인식은 바깥 매니저에서 처리)
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, nearCacheProperties, cacheInvalidationBroker, meterRegistry);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    /**
+     * L1 캐시 무효화 채널 구독용 컨테이너 (리스너는 애플리케이션 기동 후 등록)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
     }
 }
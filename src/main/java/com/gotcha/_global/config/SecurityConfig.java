@@ -137,6 +137,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/shops/save").authenticated()
                         // Public - file upload (used by reviews, reports, etc.)
                         .requestMatchers(HttpMethod.POST, "/api/files/**").permitAll()
+                        // Public - presigned upload status polling
+                        .requestMatchers(HttpMethod.GET, "/api/files/presigned/*").permitAll()
                         // Public - Push VAPID key
                         .requestMatchers(HttpMethod.GET, "/api/push/vapid-key").permitAll()
                         // Authenticated - Push subscription
@@ -183,7 +185,9 @@ public class SecurityConfig {
                         .failureHandler(oAuth2AuthenticationFailureHandler)
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // JWT 검증 전 IP 단위 제한, 검증 후 사용자 ID 단위 제한
                 .addFilterBefore(rateLimitFilter, jwtAuthenticationFilter.getClass())
+                .addFilterAfter(rateLimitFilter.userFilter(), jwtAuthenticationFilter.getClass())
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                 .build();
     }
@@ -0,0 +1,17 @@
+package com.gotcha._global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "shop.spatial-index")
+@Getter
+@Setter
+public class ShopSpatialIndexProperties {
+
+    private boolean enabled = false;
+    private double cellSizeDegrees = 0.01;
+    private long consistencyCheckIntervalMs = 300_000;
+}
@@ -0,0 +1,56 @@
+package com.gotcha._global.external;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 커넥션 풀 호스트별 사용량 메트릭.
+ *
+ * 풀의 라우트(호스트)는 호출이 생길 때 늘어나므로 주기적으로 라우트별 통계를 다시 읽어 게이지를 갱신합니다.
+ * http.client.pool.connections{host, state=leased|available|pending}, http.client.pool.max{host}
+ * pending이 0보다 크면 해당 호스트의 풀이 포화되어 커넥션 대기가 발생하고 있다는 뜻입니다.
+ */
+@Component
+public class HttpClientPoolMetrics {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final MultiGauge connections;
+    private final MultiGauge maxConnections;
+
+    public HttpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager,
+                                 MeterRegistry meterRegistry) {
+        this.connectionManager = connectionManager;
+        this.connections = MultiGauge.builder("http.client.pool.connections")
+                .description("External API connection pool usage per host")
+                .register(meterRegistry);
+        this.maxConnections = MultiGauge.builder("http.client.pool.max")
+                .description("External API connection pool limit per host")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${http-client.metrics-refresh-interval-ms:15000}")
+    public void refresh() {
+        List<MultiGauge.Row<?>> connectionRows = new ArrayList<>();
+        List<MultiGauge.Row<?>> maxRows = new ArrayList<>();
+
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            String host = route.getTargetHost().getHostName();
+            PoolStats stats = connectionManager.getStats(route);
+            connectionRows.add(MultiGauge.Row.of(Tags.of("host", host, "state", "leased"), stats.getLeased()));
+            connectionRows.add(MultiGauge.Row.of(Tags.of("host", host, "state", "available"), stats.getAvailable()));
+            connectionRows.add(MultiGauge.Row.of(Tags.of("host", host, "state", "pending"), stats.getPending()));
+            maxRows.add(MultiGauge.Row.of(Tags.of("host", host), stats.getMax()));
+        }
+
+        connections.register(connectionRows, true);
+        maxConnections.register(maxRows, true);
+    }
+}
@@ -0,0 +1,188 @@
+package com.gotcha._global.external.kakao;
+
+import com.gotcha._global.config.GeocodingProperties;
+import com.gotcha._global.external.kakao.dto.AddressInfo;
+import com.gotcha._global.external.kakao.dto.GeocodeResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역지오코딩 결과 캐시 (geocode, L1 Caffeine + L2 Redis).
+ *
+ * 좌표를 geohash 셀로 양자화한 값을 키로 사용하므로 같은/인접 좌표는 외부 API를 다시 호출하지 않습니다.
+ * 같은 키의 동시 조회는 노드 안에서 하나의 호출로 합치고, 주소 없음 결과도 짧은 TTL로 캐시합니다.
+ * 외부 API 오류는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class GeocodingCache {
+
+    static final String CACHE_NAME = "geocode";
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private final Cache cache;
+    private final GeocodingProperties properties;
+    private final ConcurrentHashMap<String, CompletableFuture<GeocodeResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public GeocodingCache(CacheManager cacheManager,
+                          GeocodingProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.cache = unwrap(cacheManager.getCache(CACHE_NAME));
+        this.properties = properties;
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("geocoding.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 외부 API 결과는 DB 트랜잭션과 무관하므로 커밋을 기다리지 않고 바로 저장
+     */
+    private static Cache unwrap(Cache cache) {
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            return decorator.getTargetCache();
+        }
+        return cache;
+    }
+
+    /**
+     * 좌표의 주소 조회 (캐시 → 진행 중인 같은 키 조회 → loader 순)
+     * @param loader 외부 API 조회 (주소가 없으면 empty, 호출 실패 시 예외)
+     * @return 주소 (주소 없음이면 empty)
+     */
+    public Optional<AddressInfo> get(Double latitude, Double longitude, Supplier<Optional<AddressInfo>> loader) {
+        if (!properties.isEnabled() || cache == null) {
+            return loader.get();
+        }
+
+        String key = geohash(latitude, longitude, properties.getGeohashPrecision());
+        GeocodeResult cached = read(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.toOptional();
+        }
+
+        CompletableFuture<GeocodeResult> pending = new CompletableFuture<>();
+        CompletableFuture<GeocodeResult> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing).toOptional();
+        }
+
+        try {
+            // 앞선 조회가 캐시에 저장한 직후 들어온 경우
+            GeocodeResult stored = read(key);
+            if (stored != null) {
+                hitCounter.increment();
+                pending.complete(stored);
+                return stored.toOptional();
+            }
+
+            missCounter.increment();
+            GeocodeResult result = GeocodeResult.of(loader.get());
+            if (result.found() || properties.isNegativeCaching()) {
+                write(key, result);
+            }
+            pending.complete(result);
+            return result.toOptional();
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private static GeocodeResult await(CompletableFuture<GeocodeResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Redis 장애 시 캐시 미스로 처리 (가게 등록은 외부 API 호출로 계속 진행)
+     */
+    private GeocodeResult read(String key) {
+        try {
+            return cache.get(key, GeocodeResult.class);
+        } catch (RuntimeException e) {
+            log.warn("Geocoding cache read failed - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, GeocodeResult result) {
+        try {
+            cache.put(key, result);
+        } catch (RuntimeException e) {
+            log.warn("Geocoding cache write failed - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 좌표 → geohash (자릿수마다 5비트, 경도/위도 비트를 번갈아 이분)
+     */
+    static String geohash(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+}
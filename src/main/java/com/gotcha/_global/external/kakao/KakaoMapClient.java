@@ -3,6 +3,7 @@ package com.gotcha._global.external.kakao;
 import com.gotcha._global.external.kakao.dto.AddressInfo;
 import com.gotcha._global.external.kakao.dto.KakaoAddressResponse;
 import com.gotcha.domain.shop.exception.ShopException;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,16 +14,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KakaoMapClient {
 
-    private static final String COORD_TO_ADDRESS_PATH = "/v2/local/geo/coord2address.json";
+    // 좌표는 URI 변수로 전달 (http.client.requests 메트릭의 uri 태그가 좌표마다 늘어나지 않도록)
+    private static final String COORD_TO_ADDRESS_PATH = "/v2/local/geo/coord2address.json?x={x}&y={y}";
 
     private final RestTemplate restTemplate;
+    private final GeocodingCache geocodingCache;
 
     @Value("${kakao.api.rest-api-key}")
     private String restApiKey;
@@ -31,34 +33,29 @@ public class KakaoMapClient {
     private String baseUrl;
 
     public KakaoAddressResponse convertCoordinateToAddress(Double longitude, Double latitude) {
-        String url = buildUrl(longitude, latitude);
-        log.info("Kakao API URL: {}", url);
-
-        HttpHeaders headers = createHeaders();
-        log.info("Request headers prepared");
+        KakaoAddressResponse body = requestAddress(longitude, latitude);
+        if (body == null || !body.hasResult()) {
+            log.warn("No address found for coordinates: lat={}, lng={}", latitude, longitude);
+            throw ShopException.addressNotFound(latitude, longitude);
+        }
+        return body;
+    }
 
-        HttpEntity<Void> request = new HttpEntity<>(headers);
+    private KakaoAddressResponse requestAddress(Double longitude, Double latitude) {
+        HttpEntity<Void> request = new HttpEntity<>(createHeaders());
 
         try {
-            log.info("Calling Kakao API...");
             ResponseEntity<KakaoAddressResponse> response = restTemplate.exchange(
-                    url,
+                    baseUrl + COORD_TO_ADDRESS_PATH,
                     HttpMethod.GET,
                     request,
-                    KakaoAddressResponse.class
+                    KakaoAddressResponse.class,
+                    longitude,
+                    latitude
             );
 
-            log.info("Kakao API response status: {}", response.getStatusCode());
-            KakaoAddressResponse body = response.getBody();
-            log.info("Response body: {}", body);
-
-            if (body == null || !body.hasResult()) {
-                log.warn("No address found for coordinates: lat={}, lng={}", latitude, longitude);
-                throw ShopException.addressNotFound(latitude, longitude);
-            }
-
-            log.info("Successfully retrieved address from Kakao API");
-            return body;
+            log.debug("Kakao API response - status: {}, body: {}", response.getStatusCode(), response.getBody());
+            return response.getBody();
 
         } catch (RestClientException e) {
             log.error("Kakao API call failed: lat={}, lng={}", latitude, longitude, e);
@@ -66,22 +63,21 @@ public class KakaoMapClient {
         }
     }
 
-    private String buildUrl(Double longitude, Double latitude) {
-        return UriComponentsBuilder.fromHttpUrl(baseUrl + COORD_TO_ADDRESS_PATH)
-                .queryParam("x", longitude)
-                .queryParam("y", latitude)
-                .toUriString();
-    }
-
+    /**
+     * 좌표 → 주소 (역지오코딩 캐시 경유, 주소가 없으면 ShopException)
+     */
     public AddressInfo getAddressInfo(Double latitude, Double longitude) {
-        KakaoAddressResponse response = convertCoordinateToAddress(longitude, latitude);
-        AddressInfo addressInfo = AddressInfo.from(response);
+        return geocodingCache.get(latitude, longitude, () -> fetchAddressInfo(latitude, longitude))
+                .orElseThrow(() -> ShopException.addressNotFound(latitude, longitude));
+    }
 
-        if (addressInfo == null) {
-            throw ShopException.addressNotFound(latitude, longitude);
+    private Optional<AddressInfo> fetchAddressInfo(Double latitude, Double longitude) {
+        KakaoAddressResponse response = requestAddress(longitude, latitude);
+        if (response == null || !response.hasResult()) {
+            log.warn("No address found for coordinates: lat={}, lng={}", latitude, longitude);
+            return Optional.empty();
         }
-
-        return addressInfo;
+        return Optional.ofNullable(AddressInfo.from(response));
     }
 
     private HttpHeaders createHeaders() {
@@ -0,0 +1,23 @@
+package com.gotcha._global.external.kakao.dto;
+
+import java.util.Optional;
+
+/**
+ * 역지오코딩 캐시 값 (address가 null이면 주소 없음 결과)
+ */
+public record GeocodeResult(
+        AddressInfo address
+) {
+
+    public static GeocodeResult of(Optional<AddressInfo> address) {
+        return new GeocodeResult(address.orElse(null));
+    }
+
+    public boolean found() {
+        return address != null;
+    }
+
+    public Optional<AddressInfo> toOptional() {
+        return Optional.ofNullable(address);
+    }
+}
@@ -0,0 +1,189 @@
+package com.gotcha._global.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gotcha._global.config.RateLimitProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 클러스터 공용 토큰 버킷.
+ *
+ * 버킷 상태(남은 토큰, 마지막 갱신 시각)는 Redis 해시 하나에 두고 Lua 스크립트로 원자적으로 리필/차감합니다.
+ * 요청마다 Redis를 왕복하지 않도록 노드는 토큰을 묶음(rate-limit.prefetch-tokens)으로 미리 가져와 로컬에서 소진하고,
+ * 거부된 클라이언트는 리필 예정 시각까지 로컬에서 바로 거부합니다.
+ * 비용이 2 이상인 요청은 비용만큼의 토큰을 한 번에 확보할 수 있을 때만 허용합니다.
+ * Redis 오류 시 empty를 반환하며 일정 시간(rate-limit.redis-retry-backoff-seconds) 동안 Redis 호출을 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class DistributedRateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1] 버킷 키, ARGV: 용량, 리필 토큰 수, 리필 주기(ms), 요청 토큰 수, 최소 허용 토큰 수
+    // 반환: {허용 토큰 수, 남은 토큰 수, 최소 허용 토큰이 없을 때 충전까지 대기(ms)}
+    private static final RedisScript<List> TAKE_TOKENS = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local refill_tokens = tonumber(ARGV[2])
+            local refill_millis = tonumber(ARGV[3])
+            local requested = tonumber(ARGV[4])
+            local minimum = tonumber(ARGV[5])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            if now > ts then
+                tokens = math.min(capacity, tokens + (now - ts) * refill_tokens / refill_millis)
+                ts = now
+            end
+            local granted = 0
+            if tokens >= minimum then
+                granted = math.min(requested, math.floor(tokens))
+            end
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_tokens) * refill_millis + 1000)
+            local wait = 0
+            if granted == 0 then
+                wait = math.ceil((minimum - tokens) * refill_millis / refill_tokens)
+            end
+            return {granted, math.floor(tokens), wait}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+
+    // 클라이언트별로 Redis에서 미리 받아 둔 토큰 (오래 쥐고 있지 않도록 짧게 만료)
+    private final Cache<String, Lease> leases;
+    private volatile long redisRetryAtNanos;
+
+    public DistributedRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties rateLimitProperties) {
+        this.redisTemplate = redisTemplate;
+        this.rateLimitProperties = rateLimitProperties;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(rateLimitProperties.getPrefetchTtlMillis()))
+                .build();
+    }
+
+    /**
+     * 토큰 소비 시도
+     * @param bucketKey 버킷 키 (예: ip:1.2.3.4, user:42)
+     * @param cost 소비할 토큰 수 (용량 이하)
+     * @param capacity 버킷 용량
+     * @param refillTokens 리필 주기마다 채워지는 토큰 수
+     * @return 판정 결과 (Redis를 사용할 수 없으면 empty → 호출 측에서 로컬 버킷 사용)
+     */
+    public Optional<Decision> tryConsume(String bucketKey, int cost, int capacity, int refillTokens) {
+        long now = System.nanoTime();
+        Lease lease = leases.getIfPresent(bucketKey);
+        if (lease != null) {
+            if (lease.tryTake(cost)) {
+                return Optional.of(Decision.allowed(lease.remaining()));
+            }
+            // 더 비싼 요청이 거부된 경우 더 싼 요청은 Redis에서 다시 판정
+            if (now < lease.retryAtNanos && cost >= lease.rejectedCost) {
+                return Optional.of(Decision.rejected(lease.retryAtNanos - now));
+            }
+        }
+
+        if (now < redisRetryAtNanos) {
+            return Optional.empty();
+        }
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TAKE_TOKENS, List.of(KEY_PREFIX + bucketKey),
+                    String.valueOf(capacity),
+                    String.valueOf(refillTokens),
+                    String.valueOf(TimeUnit.SECONDS.toMillis(rateLimitProperties.getRefillDurationSeconds())),
+                    String.valueOf(Math.max(cost, rateLimitProperties.getPrefetchTokens())),
+                    String.valueOf(cost));
+        } catch (Exception e) {
+            redisRetryAtNanos = now + TimeUnit.SECONDS.toNanos(rateLimitProperties.getRedisRetryBackoffSeconds());
+            log.warn("Redis rate limiter unavailable, falling back to local buckets for {}s: {}",
+                    rateLimitProperties.getRedisRetryBackoffSeconds(), e.getMessage());
+            return Optional.empty();
+        }
+        if (result == null || result.size() < 3) {
+            return Optional.empty();
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        long remaining = ((Number) result.get(1)).longValue();
+        long waitMillis = ((Number) result.get(2)).longValue();
+
+        if (granted == 0) {
+            long waitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, waitMillis));
+            leases.put(bucketKey, new Lease(0, remaining, now + waitNanos, cost));
+            return Optional.of(Decision.rejected(waitNanos));
+        }
+        // 비용만큼은 이번 요청에 사용하고 나머지는 로컬에서 소진
+        if (granted > cost) {
+            leases.put(bucketKey, new Lease(granted - cost, remaining, now, 0));
+        } else {
+            leases.invalidate(bucketKey);
+        }
+        return Optional.of(Decision.allowed(remaining + granted - cost));
+    }
+
+    /**
+     * 토큰 소비 판정 결과
+     * @param consumed 허용 여부
+     * @param remainingTokens 남은 토큰 수 (미리 받아 둔 토큰 포함, 근사값)
+     * @param nanosToWait 거부 시 다음 토큰까지 대기 시간
+     */
+    public record Decision(boolean consumed, long remainingTokens, long nanosToWait) {
+
+        static Decision allowed(long remainingTokens) {
+            return new Decision(true, remainingTokens, 0);
+        }
+
+        static Decision rejected(long nanosToWait) {
+            return new Decision(false, 0, nanosToWait);
+        }
+    }
+
+    private static final class Lease {
+
+        private final AtomicLong tokens;
+        private final long remainingHint;
+        private final long retryAtNanos;
+        private final int rejectedCost;
+
+        private Lease(long tokens, long remainingHint, long retryAtNanos, int rejectedCost) {
+            this.tokens = new AtomicLong(tokens);
+            this.remainingHint = remainingHint;
+            this.retryAtNanos = retryAtNanos;
+            this.rejectedCost = rejectedCost;
+        }
+
+        boolean tryTake(int cost) {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < cost) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - cost));
+            return true;
+        }
+
+        long remaining() {
+            return remainingHint + tokens.get();
+        }
+    }
+}
@@ -8,72 +8,176 @@ import com.gotcha._global.config.RateLimitProperties;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * 요청 비용 기반 Rate Limiting (2단계).
+ *
+ * 1단계(이 필터, JwtAuthenticationFilter 이전): JWT 검증 비용을 치르기 전에 IP 단위로 제한합니다.
+ * 토큰이 없는 요청은 IP 버킷에서 경로별 비용(rate-limit.routes)만큼, 토큰이 있는 요청은 인증 전 IP 버킷에서 1만큼 소비합니다.
+ * 2단계(userFilter(), JwtAuthenticationFilter 이후): 인증된 요청은 사용자 ID 버킷에서 경로별 비용만큼 소비하고,
+ * 토큰이 유효하지 않아 인증되지 않은 요청은 IP 버킷에서 경로별 비용만큼 소비합니다.
+ * 거부 건수는 rate_limit.rejected{route, principal} 로 기록됩니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final RateLimitProperties rateLimitProperties;
     private final ObjectMapper objectMapper;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final RateLimitRouteTable routeTable;
+    // 규칙별, 버킷 종류별(ordinal) 거부 카운터
+    private final Map<RateLimitRouteTable.Route, Counter[]> rejectedCounters;
     private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
             .maximumSize(10_000)
             .expireAfterAccess(10, TimeUnit.MINUTES)
             .build();
+    private final Filter userFilter = new UserRateLimitFilter();
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties,
+                           ObjectMapper objectMapper,
+                           DistributedRateLimiter distributedRateLimiter,
+                           MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.objectMapper = objectMapper;
+        this.distributedRateLimiter = distributedRateLimiter;
+        this.routeTable = RateLimitRouteTable.compile(rateLimitProperties.getRoutes());
+
+        Map<RateLimitRouteTable.Route, Counter[]> counters = new HashMap<>();
+        for (RateLimitRouteTable.Route route : routeTable.routes()) {
+            Counter[] byFamily = new Counter[BucketFamily.values().length];
+            for (BucketFamily family : BucketFamily.values()) {
+                byFamily[family.ordinal()] = Counter.builder("rate_limit.rejected")
+                        .tag("route", route.name())
+                        .tag("principal", family.keyPrefix)
+                        .register(meterRegistry);
+            }
+            counters.put(route, byFamily);
+        }
+        this.rejectedCounters = Map.copyOf(counters);
+    }
+
+    /**
+     * JwtAuthenticationFilter 이후에 실행할 2단계 필터 (사용자 ID 버킷)
+     */
+    public Filter userFilter() {
+        return userFilter;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        if (!rateLimitProperties.isEnabled()) {
+        RateLimitRouteTable.Route route = resolveRoute(request);
+        if (route == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String clientIp = getClientIp(request);
-        Bucket bucket = buckets.get(clientIp, this::createBucket);
+        // 토큰 검증 전이므로 토큰이 있는 요청은 같은 IP 뒤의 여러 사용자를 고려한 버킷에서 1만큼만 소비
+        boolean consumed = hasBearerToken(request)
+                ? enforce(request, response, route, BucketFamily.PRE_AUTH, 1, getClientIp(request))
+                : enforce(request, response, route, BucketFamily.IP, route.cost(), getClientIp(request));
+        if (consumed) {
+            filterChain.doFilter(request, response);
+        }
+    }
 
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+    /**
+     * 제한 대상 경로 규칙 (제한하지 않으면 null)
+     */
+    private RateLimitRouteTable.Route resolveRoute(HttpServletRequest request) {
+        if (!rateLimitProperties.isEnabled()) {
+            return null;
+        }
+        RateLimitRouteTable.Route route = routeTable.resolve(request.getMethod(), request.getRequestURI());
+        return route.isExempt() ? null : route;
+    }
 
-        if (probe.isConsumed()) {
-            response.setHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
-            filterChain.doFilter(request, response);
-        } else {
-            long waitTimeSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill()));
-            response.setHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(waitTimeSeconds));
+    /**
+     * 버킷에서 토큰을 소비하고, 부족하면 429 응답 작성
+     * @return 요청을 계속 진행해도 되면 true
+     */
+    private boolean enforce(HttpServletRequest request, HttpServletResponse response,
+                            RateLimitRouteTable.Route route, BucketFamily family, int cost,
+                            Object principal) throws IOException {
+        String bucketKey = family.keyPrefix + ":" + principal;
+        DistributedRateLimiter.Decision decision = tryConsume(bucketKey, family, cost);
+
+        if (decision.consumed()) {
+            response.setHeader("X-Rate-Limit-Remaining", String.valueOf(decision.remainingTokens()));
+            return true;
+        }
+
+        long waitTimeSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.nanosToWait()));
+        response.setHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(waitTimeSeconds));
+
+        rejectedCounters.get(route)[family.ordinal()].increment();
+        log.warn("Rate limit exceeded - key: {}, route: {}", bucketKey, route.name());
 
-            log.warn("Rate limit exceeded for IP: {}", clientIp);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ApiResponse<Void> errorResponse = ApiResponse.error(
+                "RATE_LIMIT_EXCEEDED",
+                "Too many requests. Please try again after " + waitTimeSeconds + " seconds."
+        );
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        return false;
+    }
 
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setCharacterEncoding("UTF-8");
+    /**
+     * 분산 모드면 Redis 공용 버킷, 아니거나 Redis를 사용할 수 없으면 노드별 인메모리 버킷으로 판정
+     */
+    private DistributedRateLimiter.Decision tryConsume(String bucketKey, BucketFamily family, int routeCost) {
+        int capacity = family.capacity(rateLimitProperties);
+        // 용량보다 비싼 요청이 영원히 거부되지 않도록 비용은 용량으로 제한
+        int cost = Math.min(routeCost, capacity);
 
-            ApiResponse<Void> errorResponse = ApiResponse.error(
-                    "RATE_LIMIT_EXCEEDED",
-                    "Too many requests. Please try again after " + waitTimeSeconds + " seconds."
-            );
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        if (rateLimitProperties.isDistributed()) {
+            Optional<DistributedRateLimiter.Decision> decision = distributedRateLimiter.tryConsume(
+                    bucketKey, cost, capacity, family.refillTokens(rateLimitProperties));
+            if (decision.isPresent()) {
+                return decision.get();
+            }
         }
+
+        ConsumptionProbe probe = buckets.get(bucketKey, key -> createBucket(family))
+                .tryConsumeAndReturnRemaining(cost);
+        return new DistributedRateLimiter.Decision(
+                probe.isConsumed(), probe.getRemainingTokens(), probe.getNanosToWaitForRefill());
     }
 
-    private Bucket createBucket(String clientIp) {
+    private Bucket createBucket(BucketFamily family) {
         Bandwidth limit = Bandwidth.builder()
-                .capacity(rateLimitProperties.getCapacity())
+                .capacity(family.capacity(rateLimitProperties))
                 .refillGreedy(
-                        rateLimitProperties.getRefillTokens(),
+                        family.refillTokens(rateLimitProperties),
                         Duration.ofSeconds(rateLimitProperties.getRefillDurationSeconds())
                 )
                 .build();
@@ -89,4 +193,71 @@ public class RateLimitFilter extends OncePerRequestFilter {
         // (server.forward-headers-strategy: framework 설정 필요)
         return request.getRemoteAddr();
     }
+
+    private boolean hasBearerToken(HttpServletRequest request) {
+        String authorization = request.getHeader(AUTHORIZATION_HEADER);
+        return StringUtils.hasText(authorization) && authorization.startsWith(BEARER_PREFIX);
+    }
+
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    /**
+     * 2단계: JWT 인증 결과에 따라 사용자 ID 버킷 또는 IP 버킷에서 경로별 비용만큼 소비
+     * (토큰이 없는 요청은 1단계에서 이미 IP 버킷으로 처리)
+     */
+    private class UserRateLimitFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+
+            RateLimitRouteTable.Route route = resolveRoute(request);
+            if (route == null || !hasBearerToken(request)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            Long userId = getAuthenticatedUserId();
+            boolean consumed = userId != null
+                    ? enforce(request, response, route, BucketFamily.USER, route.cost(), userId)
+                    : enforce(request, response, route, BucketFamily.IP, route.cost(), getClientIp(request));
+            if (consumed) {
+                filterChain.doFilter(request, response);
+            }
+        }
+    }
+
+    private enum BucketFamily {
+        IP("ip"),
+        PRE_AUTH("pre-auth"),
+        USER("user");
+
+        private final String keyPrefix;
+
+        BucketFamily(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        int capacity(RateLimitProperties properties) {
+            return switch (this) {
+                case IP -> properties.getCapacity();
+                case PRE_AUTH -> properties.getPreAuthCapacity();
+                case USER -> properties.getAuthenticatedCapacity();
+            };
+        }
+
+        int refillTokens(RateLimitProperties properties) {
+            return switch (this) {
+                case IP -> properties.getRefillTokens();
+                case PRE_AUTH -> properties.getPreAuthRefillTokens();
+                case USER -> properties.getAuthenticatedRefillTokens();
+            };
+        }
+    }
 }
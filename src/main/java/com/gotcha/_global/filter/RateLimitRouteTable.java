@@ -0,0 +1,115 @@
+package com.gotcha._global.filter;
+
+import com.gotcha._global.config.RateLimitProperties;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 요청 경로 → 토큰 비용 규칙 테이블 (불변).
+ *
+ * 설정된 경로 패턴은 생성 시 한 번만 PathPattern으로 파싱하고, 메서드별로 적용 가능한 규칙만 모아 두어
+ * 요청마다 해당 메서드의 규칙만 순서대로 비교합니다. 일치하는 규칙이 없으면 기본 규칙(비용 1)을 반환합니다.
+ */
+public final class RateLimitRouteTable {
+
+    public static final Route DEFAULT_ROUTE = new Route("default", 1);
+
+    private final List<Route> routes;
+    private final Map<String, List<CompiledRule>> rulesByMethod;
+    private final List<CompiledRule> anyMethodRules;
+
+    private RateLimitRouteTable(List<Route> routes, Map<String, List<CompiledRule>> rulesByMethod,
+                                List<CompiledRule> anyMethodRules) {
+        this.routes = routes;
+        this.rulesByMethod = rulesByMethod;
+        this.anyMethodRules = anyMethodRules;
+    }
+
+    public static RateLimitRouteTable compile(List<RateLimitProperties.Route> configured) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        List<Route> routes = new ArrayList<>();
+        List<CompiledRule> rules = new ArrayList<>();
+        routes.add(DEFAULT_ROUTE);
+
+        for (RateLimitProperties.Route config : configured) {
+            if (config.getPattern() == null || config.getPattern().isBlank()) {
+                throw new IllegalArgumentException("rate-limit.routes[].pattern is required");
+            }
+            String name = config.getName() != null && !config.getName().isBlank()
+                    ? config.getName()
+                    : config.getPattern();
+            Route route = new Route(name, Math.max(0, config.getCost()));
+            List<String> methods = config.getMethods().stream()
+                    .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                    .toList();
+            routes.add(route);
+            rules.add(new CompiledRule(parser.parse(config.getPattern()), methods, route));
+        }
+
+        // 선언 순서를 유지한 채 메서드별 규칙 목록 구성 (메서드 미지정 규칙은 모든 목록에 포함)
+        Map<String, List<CompiledRule>> rulesByMethod = new HashMap<>();
+        List<CompiledRule> anyMethodRules = new ArrayList<>();
+        for (CompiledRule rule : rules) {
+            for (String method : rule.methods()) {
+                rulesByMethod.computeIfAbsent(method, key -> new ArrayList<>());
+            }
+        }
+        for (CompiledRule rule : rules) {
+            if (rule.methods().isEmpty()) {
+                anyMethodRules.add(rule);
+                rulesByMethod.values().forEach(list -> list.add(rule));
+            } else {
+                rule.methods().forEach(method -> rulesByMethod.get(method).add(rule));
+            }
+        }
+
+        Map<String, List<CompiledRule>> frozen = new HashMap<>();
+        rulesByMethod.forEach((method, list) -> frozen.put(method, List.copyOf(list)));
+        return new RateLimitRouteTable(List.copyOf(routes), Map.copyOf(frozen), List.copyOf(anyMethodRules));
+    }
+
+    /**
+     * 요청에 적용할 규칙 (처음 일치하는 규칙, 없으면 기본 규칙)
+     */
+    public Route resolve(String method, String path) {
+        List<CompiledRule> rules = rulesByMethod.getOrDefault(method, anyMethodRules);
+        if (rules.isEmpty()) {
+            return DEFAULT_ROUTE;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledRule rule : rules) {
+            if (rule.pattern().matches(pathContainer)) {
+                return rule.route();
+            }
+        }
+        return DEFAULT_ROUTE;
+    }
+
+    /**
+     * 기본 규칙을 포함한 전체 규칙 (메트릭 사전 등록용)
+     */
+    public List<Route> routes() {
+        return routes;
+    }
+
+    /**
+     * 토큰 비용 규칙
+     * @param name 규칙 이름 (메트릭 태그)
+     * @param cost 요청당 소비 토큰 수 (0이면 제한하지 않음)
+     */
+    public record Route(String name, int cost) {
+
+        public boolean isExempt() {
+            return cost == 0;
+        }
+    }
+
+    private record CompiledRule(PathPattern pattern, List<String> methods, Route route) {
+    }
+}
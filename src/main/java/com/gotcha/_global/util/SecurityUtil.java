@@ -1,46 +1,64 @@
 package com.gotcha._global.util;
 
 import com.gotcha.domain.auth.exception.AuthException;
+import com.gotcha.domain.user.dto.UserStatusSnapshot;
 import com.gotcha.domain.user.entity.User;
 import com.gotcha.domain.user.entity.UserStatus;
 import com.gotcha.domain.user.repository.UserRepository;
+import com.gotcha.domain.user.service.UserStatusService;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class SecurityUtil {
 
     private final UserRepository userRepository;
+    private final UserStatusService userStatusService;
 
-    @Transactional
+    /**
+     * 현재 사용자 (상태 검증 후 지연 로딩 참조 반환)
+     * 탈퇴/정지/차단 여부는 user-status 캐시로 확인하므로 id나 연관관계만 쓰는 호출은 users 조회가 없고,
+     * 다른 필드에 처음 접근할 때 한 번 조회합니다.
+     */
     public User getCurrentUser() {
+        UserStatusSnapshot snapshot = getCurrentUserStatus();
+        return userRepository.getReferenceById(snapshot.userId());
+    }
+
+    /**
+     * 현재 사용자 상태 검증 후 스냅샷 반환 (id/권한만 필요한 경우)
+     */
+    public UserStatusSnapshot getCurrentUserStatus() {
         Long userId = getCurrentUserId();
-        User user = userRepository.findById(userId)
-                .orElseThrow(AuthException::unauthorized);
+        UserStatusSnapshot snapshot = userStatusService.getSnapshot(userId);
+        if (snapshot == null) {
+            throw AuthException.unauthorized();
+        }
 
         // 탈퇴한 사용자 차단
-        if (Boolean.TRUE.equals(user.getIsDeleted())) {
+        if (Boolean.TRUE.equals(snapshot.deleted())) {
             throw AuthException.userDeleted();
         }
 
         // SUSPENDED 사용자: 기간 만료 시 자동 복구, 미만료 시 차단
-        if (user.isSuspended()) {
-            if (!user.checkAndRestoreIfSuspensionExpired()) {
+        if (snapshot.status() == UserStatus.SUSPENDED) {
+            if (!snapshot.suspensionExpiredAt(LocalDateTime.now())) {
                 throw AuthException.userSuspended(
-                        user.getSuspendedUntil() != null ? user.getSuspendedUntil().toString() : "unknown");
+                        snapshot.suspendedUntil() != null ? snapshot.suspendedUntil().toString() : "unknown");
             }
+            userStatusService.restoreIfSuspensionExpired(userId);
         }
 
         // BANNED 사용자 차단
-        if (user.isBanned()) {
+        if (snapshot.status() == UserStatus.BANNED) {
             throw AuthException.userBanned();
         }
 
-        return user;
+        return snapshot;
     }
 
     public Long getCurrentUserId() {
@@ -32,14 +32,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = resolveToken(request);
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                String userTypeStr = jwtTokenProvider.getUserTypeFromToken(token);
-                String role = resolveRole(userTypeStr);
+            // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+            JwtPrincipal principal = StringUtils.hasText(token) ? jwtTokenProvider.parsePrincipal(token) : null;
+
+            if (principal != null) {
+                String role = resolveRole(principal.userType());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
+                                principal.userId(),
                                 null,
                                 Collections.singletonList(new SimpleGrantedAuthority(role))
                         );
@@ -0,0 +1,16 @@
+package com.gotcha.domain.auth.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT에서 추출한 인증 정보
+ * @param userId 사용자 ID (subject)
+ * @param userType 사용자 유형 (Refresh Token에는 없음)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtPrincipal(Long userId, String userType, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
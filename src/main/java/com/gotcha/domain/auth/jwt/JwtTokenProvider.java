@@ -1,14 +1,23 @@
 package com.gotcha.domain.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.gotcha.domain.auth.exception.AuthException;
 import com.gotcha.domain.user.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,10 +25,22 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     private final SecretKey secretKey;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
 
+    // 파서는 불변·스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser parser;
+
+    // 검증이 끝난 토큰 (키: 토큰 SHA-256, 토큰 만료 시각까지만 보관)
+    private final Cache<String, JwtPrincipal> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(Expiry.creating((String digest, JwtPrincipal principal) ->
+                    Duration.between(Instant.now(), principal.expiresAt())))
+            .build();
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
@@ -27,6 +48,9 @@ public class JwtTokenProvider {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String generateAccessToken(User user) {
@@ -56,12 +80,53 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/검증해 인증 정보 반환 (검증된 토큰은 만료 전까지 캐시)
+     * @return 유효하지 않은 토큰이면 null
+     * @throws AuthException 만료된 토큰
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String digest = digest(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        Claims claims;
+        try {
+            claims = getClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw AuthException.tokenExpired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+        JwtPrincipal principal;
+        try {
+            principal = new JwtPrincipal(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get("userType", String.class),
+                    claims.getExpiration().toInstant());
+        } catch (IllegalArgumentException | JwtException e) {
+            return null;
+        }
+        verifiedTokens.put(digest, principal);
+        return principal;
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             throw AuthException.tokenExpired();
@@ -81,10 +146,15 @@ public class JwtTokenProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
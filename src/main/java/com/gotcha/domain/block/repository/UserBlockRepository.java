@@ -30,4 +30,10 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM UserBlock ub WHERE ub.blocker.id = :userId OR ub.blocked.id = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 탈퇴 청크 대상 id 조회 (차단한 것 + 차단당한 것)
+     */
+    @Query("SELECT ub.id FROM UserBlock ub WHERE ub.blocker.id = :userId OR ub.blocked.id = :userId ORDER BY ub.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -1,6 +1,8 @@
 package com.gotcha.domain.chat.repository;
 
 import com.gotcha.domain.chat.entity.Chat;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,4 +17,10 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Chat c WHERE c.chatRoom.id IN :chatRoomIds")
     void deleteByChatRoomIdIn(@Param("chatRoomIds") java.util.List<Long> chatRoomIds);
+
+    /**
+     * 탈퇴 청크 대상 id 조회 (사용자가 참여한 채팅방의 모든 메시지)
+     */
+    @Query("SELECT c.id FROM Chat c WHERE c.chatRoom.user1.id = :userId OR c.chatRoom.user2.id = :userId ORDER BY c.id")
+    List<Long> findIdsByRoomUserId(@Param("userId") Long userId, Pageable pageable);
 }
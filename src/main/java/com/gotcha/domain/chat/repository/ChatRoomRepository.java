@@ -2,6 +2,7 @@ package com.gotcha.domain.chat.repository;
 
 import com.gotcha.domain.chat.entity.ChatRoom;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,4 +16,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM ChatRoom cr WHERE cr.user1.id = :userId OR cr.user2.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 탈퇴 청크 대상 id 조회
+     */
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.user1.id = :userId OR cr.user2.id = :userId ORDER BY cr.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
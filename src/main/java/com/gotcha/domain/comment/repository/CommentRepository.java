@@ -1,6 +1,7 @@
 package com.gotcha.domain.comment.repository;
 
 import com.gotcha.domain.comment.entity.Comment;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,4 +24,13 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM Comment c WHERE c.shop.id = :shopId")
     void deleteAllByShopId(@Param("shopId") Long shopId);
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.shop.id = :shopId ORDER BY c.id")
+    List<Long> findIdsByShopId(@Param("shopId") Long shopId, Pageable pageable);
 }
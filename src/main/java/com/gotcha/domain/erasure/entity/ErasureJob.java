@@ -0,0 +1,90 @@
+package com.gotcha.domain.erasure.entity;
+
+import com.gotcha._global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 삭제/회원 탈퇴 연쇄 삭제 작업.
+ * 단계(ErasurePlan)별 청크를 커밋할 때마다 진행 위치를 함께 기록하므로 중단되어도 이어서 실행할 수 있습니다.
+ */
+@Entity
+@Table(name = "erasure_jobs", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"target_type", "target_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ErasureJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private ErasureTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ErasureJobStatus status;
+
+    // 다음에 실행할 단계 (완료된 단계는 건너뜀)
+    @Column(name = "step_index", nullable = false)
+    private int stepIndex;
+
+    @Column(name = "current_step", length = 50)
+    private String currentStep;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public ErasureJob(ErasureTargetType targetType, Long targetId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.status = ErasureJobStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패한 작업을 다시 대기 상태로 (진행 위치는 유지)
+     */
+    public void restart() {
+        if (this.status != ErasureJobStatus.FAILED) {
+            return;
+        }
+        this.status = ErasureJobStatus.PENDING;
+        this.attempts = 0;
+        this.lastError = null;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return this.status == ErasureJobStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.gotcha.domain.erasure.entity;
+
+public enum ErasureJobStatus {
+
+    PENDING("실행 대기"),
+    RUNNING("실행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    ErasureJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
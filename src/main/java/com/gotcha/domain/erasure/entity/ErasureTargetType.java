@@ -0,0 +1,17 @@
+package com.gotcha.domain.erasure.entity;
+
+public enum ErasureTargetType {
+
+    SHOP("가게 삭제"),
+    USER("회원 탈퇴");
+
+    private final String description;
+
+    ErasureTargetType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,69 @@
+package com.gotcha.domain.erasure.repository;
+
+import com.gotcha.domain.erasure.entity.ErasureJob;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ErasureJobRepository extends JpaRepository<ErasureJob, Long> {
+
+    Optional<ErasureJob> findByTargetTypeAndTargetId(ErasureTargetType targetType, Long targetId);
+
+    /**
+     * 실행할 작업 (재시도 시각이 된 대기 작업 + 선점이 만료된 실행 중 작업)
+     */
+    @Query("SELECT j.id FROM ErasureJob j "
+            + "WHERE j.status IN (com.gotcha.domain.erasure.entity.ErasureJobStatus.PENDING, "
+            + "com.gotcha.domain.erasure.entity.ErasureJobStatus.RUNNING) "
+            + "AND j.nextAttemptAt <= :now ORDER BY j.id")
+    List<Long> findRunnableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 작업 선점 (실행 중 작업은 선점이 만료된 경우만, next_attempt_at을 선점 만료 시각으로 사용)
+     * @return 선점 여부
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE erasure_jobs SET status = 'RUNNING', next_attempt_at = :leaseUntil, updated_at = now() "
+            + "WHERE id = :id AND status IN ('PENDING', 'RUNNING') AND next_attempt_at <= :now", nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 청크 진행 기록 (청크 삭제와 같은 트랜잭션에서 실행, 선점 연장)
+     */
+    @Modifying
+    @Query(value = "UPDATE erasure_jobs SET step_index = :stepIndex, current_step = :step, "
+            + "deleted_rows = deleted_rows + :deleted, next_attempt_at = :leaseUntil, updated_at = now() "
+            + "WHERE id = :id", nativeQuery = true)
+    int recordProgress(@Param("id") Long id,
+                       @Param("stepIndex") int stepIndex,
+                       @Param("step") String step,
+                       @Param("deleted") long deleted,
+                       @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE erasure_jobs SET status = 'COMPLETED', completed_at = now(), last_error = NULL, "
+            + "updated_at = now() WHERE id = :id", nativeQuery = true)
+    int markCompleted(@Param("id") Long id);
+
+    /**
+     * 실패 기록 (재시도 한도 내면 대기 상태로 되돌림)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE erasure_jobs SET attempts = attempts + 1, last_error = :error, "
+            + "status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, "
+            + "next_attempt_at = :retryAt, updated_at = now() WHERE id = :id", nativeQuery = true)
+    int recordFailure(@Param("id") Long id,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("retryAt") LocalDateTime retryAt);
+}
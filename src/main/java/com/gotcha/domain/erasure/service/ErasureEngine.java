@@ -0,0 +1,224 @@
+package com.gotcha.domain.erasure.service;
+
+import com.gotcha._global.config.ErasureProperties;
+import com.gotcha.domain.erasure.entity.ErasureJob;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import com.gotcha.domain.erasure.repository.ErasureJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가게 삭제/회원 탈퇴 연쇄 삭제 실행기.
+ *
+ * 요청 트랜잭션에서는 erasure_jobs에 작업만 기록하고, 커밋 이후 백그라운드 스레드가 ErasurePlan의 단계를
+ * 청크(erasure.chunk-size) 단위의 짧은 트랜잭션으로 실행합니다. 청크마다 진행 위치를 같은 트랜잭션에 기록하므로
+ * 실패하거나 노드가 종료되어도 다음 주기에 마지막으로 커밋된 단계부터 이어서 실행합니다.
+ */
+@Slf4j
+@Service
+public class ErasureEngine {
+
+    private static final int POLL_BATCH_SIZE = 20;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ErasureJobRepository erasureJobRepository;
+    private final ErasurePlan erasurePlan;
+    private final ErasureProperties erasureProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public ErasureEngine(ErasureJobRepository erasureJobRepository,
+                         ErasurePlan erasurePlan,
+                         ErasureProperties erasureProperties,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.erasureJobRepository = erasureJobRepository;
+        this.erasurePlan = erasurePlan;
+        this.erasureProperties = erasureProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "erasure");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중이던 작업은 선점이 만료된 뒤 다른 노드(또는 재시작 후) 이어서 실행
+        executor.shutdownNow();
+    }
+
+    /**
+     * 연쇄 삭제 작업 등록 (호출 측 트랜잭션에 참여, 커밋 이후 실행 시작)
+     * 같은 대상의 작업이 이미 있으면 재사용하며, 실패한 작업은 다시 대기 상태로 돌립니다.
+     * @return 작업 id
+     */
+    public Long schedule(ErasureTargetType targetType, Long targetId) {
+        ErasureJob job = erasureJobRepository.findByTargetTypeAndTargetId(targetType, targetId)
+                .orElseGet(() -> erasureJobRepository.save(new ErasureJob(targetType, targetId)));
+        job.restart();
+
+        Long jobId = job.getId();
+        runAfterCommit(() -> submit(jobId));
+        log.info("Erasure job scheduled - jobId: {}, targetType: {}, targetId: {}", jobId, targetType, targetId);
+        return jobId;
+    }
+
+    /**
+     * 재시도 시각이 된 작업 + 선점이 만료된 작업 실행
+     */
+    @Scheduled(fixedDelayString = "${erasure.poll-interval-ms:30000}")
+    public void poll() {
+        erasureJobRepository.findRunnableIds(LocalDateTime.now(), PageRequest.of(0, POLL_BATCH_SIZE))
+                .forEach(this::submit);
+    }
+
+    private void submit(Long jobId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } catch (Exception e) {
+                    // 다음 주기에 다시 시도
+                    log.error("Erasure job run failed - jobId: {}, error: {}", jobId, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Erasure executor is shut down, job will be picked up later - jobId: {}", jobId);
+        }
+    }
+
+    /**
+     * 작업 선점 후 남은 단계를 청크 단위로 실행
+     * 호출 측 트랜잭션이 있으면 청크가 해당 트랜잭션에 참여합니다.
+     * @return 작업 완료 여부 (선점 실패/실패/중단 시 false)
+     */
+    public boolean run(Long jobId) {
+        if (erasureJobRepository.claim(jobId, LocalDateTime.now(), leaseUntil()) == 0) {
+            return false;
+        }
+        ErasureJob job = erasureJobRepository.findById(jobId).orElseThrow();
+        ErasureTargetType targetType = job.getTargetType();
+        List<ErasureStep> steps = erasurePlan.stepsFor(targetType);
+        int chunkSize = Math.max(1, erasureProperties.getChunkSize());
+
+        Counter rowCounter = Counter.builder("erasure.rows")
+                .tag("target", targetType.name())
+                .register(meterRegistry);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+        long deletedRows = 0;
+        String currentStep = null;
+
+        try {
+            for (int stepIndex = job.getStepIndex(); stepIndex < steps.size(); stepIndex++) {
+                ErasureStep step = steps.get(stepIndex);
+                currentStep = step.name();
+                long stepRows = 0;
+                int processed;
+                do {
+                    processed = runChunk(jobId, job.getTargetId(), stepIndex, step, chunkSize);
+                    stepRows += processed;
+                    rowCounter.increment(processed);
+                    if (processed > 0 && !pause()) {
+                        result = "interrupted";
+                        return false;
+                    }
+                } while (processed > 0);
+
+                deletedRows += stepRows;
+                if (stepRows > 0) {
+                    log.info("Erasure step completed - jobId: {}, step: {} ({}/{}), rows: {}",
+                            jobId, step.name(), stepIndex + 1, steps.size(), stepRows);
+                }
+            }
+
+            erasureJobRepository.markCompleted(jobId);
+            result = "completed";
+            log.info("Erasure job completed - jobId: {}, targetType: {}, targetId: {}, deletedRows: {}",
+                    jobId, targetType, job.getTargetId(), deletedRows);
+            return true;
+        } catch (Exception e) {
+            log.error("Erasure job failed - jobId: {}, step: {}, error: {}", jobId, currentStep, e.getMessage(), e);
+            erasureJobRepository.recordFailure(jobId, truncate(currentStep + ": " + e.getMessage()),
+                    erasureProperties.getMaxAttempts(),
+                    LocalDateTime.now().plusSeconds(erasureProperties.getRetryDelaySeconds()));
+            return false;
+        } finally {
+            sample.stop(Timer.builder("erasure.job")
+                    .tag("target", targetType.name())
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 청크 하나 처리 + 진행 위치 기록 (같은 트랜잭션, 처리한 행이 없으면 다음 단계로 이동)
+     */
+    private int runChunk(Long jobId, Long targetId, int stepIndex, ErasureStep step, int chunkSize) {
+        Integer processed = transactionTemplate.execute(status -> {
+            int count = step.action().run(targetId, chunkSize);
+            erasureJobRepository.recordProgress(jobId, count > 0 ? stepIndex : stepIndex + 1,
+                    step.name(), count, leaseUntil());
+            return count;
+        });
+        return processed != null ? processed : 0;
+    }
+
+    /**
+     * 청크 사이 대기 (다른 트랜잭션에 락 양보)
+     * @return 계속 진행 여부 (인터럽트 시 false)
+     */
+    private boolean pause() {
+        long pauseMs = erasureProperties.getChunkPauseMs();
+        if (pauseMs <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(erasureProperties.getLeaseSeconds());
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
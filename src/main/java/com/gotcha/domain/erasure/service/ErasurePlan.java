@@ -0,0 +1,208 @@
+package com.gotcha.domain.erasure.service;
+
+import com.gotcha.domain.block.repository.UserBlockRepository;
+import com.gotcha.domain.chat.repository.ChatRepository;
+import com.gotcha.domain.chat.repository.ChatRoomRepository;
+import com.gotcha.domain.comment.repository.CommentRepository;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import com.gotcha.domain.favorite.repository.FavoriteRepository;
+import com.gotcha.domain.file.service.FileStorageService;
+import com.gotcha.domain.inquiry.repository.InquiryRepository;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import com.gotcha.domain.moderation.repository.ContentFlagRepository;
+import com.gotcha.domain.post.repository.PostCommentLikeRepository;
+import com.gotcha.domain.post.repository.PostCommentRepository;
+import com.gotcha.domain.post.repository.PostCommentRepository.PostCommentCount;
+import com.gotcha.domain.post.repository.PostImageRepository;
+import com.gotcha.domain.post.repository.PostLikeRepository;
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.post.service.PopularPostRanking;
+import com.gotcha.domain.post.service.PostCounterBuffer;
+import com.gotcha.domain.review.repository.ReviewImageRepository;
+import com.gotcha.domain.review.repository.ReviewLikeRepository;
+import com.gotcha.domain.review.repository.ReviewRepository;
+import com.gotcha.domain.shop.entity.Shop;
+import com.gotcha.domain.shop.repository.ShopRepository;
+import com.gotcha.domain.shop.repository.ShopSuggestionRepository;
+import com.gotcha.domain.user.repository.UserPermissionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 삭제/회원 탈퇴 연쇄 삭제 순서.
+ *
+ * 자식 테이블부터 부모 테이블 순으로 단계를 나열하며, 각 단계는 id 청크 조회 후 id IN 일괄 삭제로 처리합니다.
+ * 진행 위치는 단계 순번으로 기록되므로 단계를 추가/변경할 때는 기존 순번이 바뀌지 않도록 뒤에 덧붙입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErasurePlan {
+
+    private final FavoriteRepository favoriteRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewImageRepository reviewImageRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final CommentRepository commentRepository;
+    private final UserPermissionRepository userPermissionRepository;
+    private final ShopRepository shopRepository;
+    private final ShopSuggestionRepository shopSuggestionRepository;
+    private final InquiryRepository inquiryRepository;
+    private final ChatRepository chatRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final PostCommentLikeRepository postCommentLikeRepository;
+    private final UserBlockRepository userBlockRepository;
+    private final ContentFlagRepository contentFlagRepository;
+    private final PopularPostRanking popularPostRanking;
+    private final PostCounterBuffer postCounterBuffer;
+    private final FileStorageService fileStorageService;
+    private final CacheManager cacheManager;
+
+    @Value("${shop.default-image-url}")
+    private String defaultShopImageUrl;
+
+    public List<ErasureStep> stepsFor(ErasureTargetType targetType) {
+        return switch (targetType) {
+            case SHOP -> shopSteps();
+            case USER -> userSteps();
+        };
+    }
+
+    /**
+     * 회원 탈퇴 (사용자 행은 탈퇴 시점에 soft delete 되므로 연관 데이터만 삭제)
+     */
+    private List<ErasureStep> userSteps() {
+        return List.of(
+                ErasureStep.of("favorites", favoriteRepository::findIdsByUserId,
+                        favoriteRepository::deleteAllByIdInBatch),
+                // 다른 사람 리뷰에 누른 좋아요 삭제 후 해당 리뷰 좋아요 수 재계산
+                ErasureStep.of("review_likes_given", reviewLikeRepository::findIdsByUserId, ids -> {
+                    List<Long> reviewIds = reviewLikeRepository.findReviewIdsByIdIn(ids);
+                    reviewLikeRepository.deleteAllByIdInBatch(ids);
+                    reviewRepository.recalculateLikeCounts(reviewIds);
+                }),
+                ErasureStep.of("review_images", reviewImageRepository::findIdsByReviewUserId, ids -> {
+                    deleteFiles(reviewImageRepository.findImageUrlsByIdIn(ids));
+                    reviewImageRepository.deleteAllByIdInBatch(ids);
+                }),
+                ErasureStep.of("review_likes_received", reviewLikeRepository::findIdsByReviewUserId,
+                        reviewLikeRepository::deleteAllByIdInBatch),
+                ErasureStep.of("reviews", reviewRepository::findIdsByUserId, ids -> {
+                    contentFlagRepository.deleteByTargetTypeAndTargetIdIn(ModerationTargetType.REVIEW, ids);
+                    reviewRepository.deleteAllByIdInBatch(ids);
+                }),
+                ErasureStep.of("shop_comments", commentRepository::findIdsByUserId,
+                        commentRepository::deleteAllByIdInBatch),
+                ErasureStep.of("permissions", userPermissionRepository::findIdsByUserId,
+                        userPermissionRepository::deleteAllByIdInBatch),
+                ErasureStep.of("shop_suggestions", shopSuggestionRepository::findIdsBySuggesterId,
+                        shopSuggestionRepository::deleteAllByIdInBatch),
+                ErasureStep.of("inquiries", inquiryRepository::findIdsByUserId,
+                        inquiryRepository::deleteAllByIdInBatch),
+                ErasureStep.of("chats", chatRepository::findIdsByRoomUserId,
+                        chatRepository::deleteAllByIdInBatch),
+                ErasureStep.of("chat_rooms", chatRoomRepository::findIdsByUserId,
+                        chatRoomRepository::deleteAllByIdInBatch),
+                ErasureStep.of("post_images", postImageRepository::findIdsByPostUserId, ids -> {
+                    deleteFiles(postImageRepository.findImageUrlsByIdIn(ids));
+                    postImageRepository.deleteAllByIdInBatch(ids);
+                }),
+                ErasureStep.of("post_comment_likes", postCommentLikeRepository::findIdsByCommentOwnerOrPostOwner,
+                        postCommentLikeRepository::deleteAllByIdInBatch),
+                // 삭제될 댓글을 부모로 둔 답글은 parent 참조 해제 (다른 사람 답글은 유지)
+                ErasureStep.of("post_comment_parents", postCommentRepository::findIdsWithParentOwnedBy,
+                        postCommentRepository::clearParentByIdIn),
+                // 다른 사람 게시글에 단 댓글 삭제 후 해당 게시글 댓글 수 차감
+                // (재계산하면 아직 반영되지 않은 다른 댓글의 증감분이 중복 반영되므로 증감분 버퍼로 차감)
+                ErasureStep.of("post_comments", postCommentRepository::findIdsByUserIdOrPostUserId, ids -> {
+                    List<PostCommentCount> counts = postCommentRepository.countPerPostByIdIn(ids);
+                    contentFlagRepository.deleteByTargetTypeAndTargetIdIn(ModerationTargetType.POST_COMMENT, ids);
+                    postCommentRepository.deleteAllByIdInBatch(ids);
+                    counts.forEach(count -> postCounterBuffer.addComment(count.getPostId(), -count.getCommentCount()));
+                }),
+                ErasureStep.of("post_likes", postLikeRepository::findIdsByPostUserId,
+                        postLikeRepository::deleteAllByIdInBatch),
+                ErasureStep.of("posts", postRepository::findIdsByUserId, ids -> {
+                    // 인기글 랭킹에서 제거 (커밋 이후 반영)
+                    popularPostRanking.onPostsDeleted(postRepository.findAllById(ids));
+                    contentFlagRepository.deleteByTargetTypeAndTargetIdIn(ModerationTargetType.POST, ids);
+                    postRepository.deleteAllByIdInBatch(ids);
+                }),
+                ErasureStep.of("user_blocks", userBlockRepository::findIdsByUserId,
+                        userBlockRepository::deleteAllByIdInBatch)
+        );
+    }
+
+    /**
+     * 가게 삭제 (연관 데이터 삭제 후 마지막 단계에서 가게 행 삭제)
+     * 삭제 작업 중에도 가게에 리뷰/찜/댓글이 추가될 수 있으므로 마지막 단계에서 연관 데이터를 다시 정리합니다.
+     */
+    private List<ErasureStep> shopSteps() {
+        List<ErasureStep> childSteps = List.of(
+                ErasureStep.of("review_images", reviewImageRepository::findIdsByReviewShopId, ids -> {
+                    deleteFiles(reviewImageRepository.findImageUrlsByIdIn(ids));
+                    reviewImageRepository.deleteAllByIdInBatch(ids);
+                }),
+                ErasureStep.of("review_likes", reviewLikeRepository::findIdsByReviewShopId,
+                        reviewLikeRepository::deleteAllByIdInBatch),
+                ErasureStep.of("reviews", reviewRepository::findIdsByShopId, ids -> {
+                    contentFlagRepository.deleteByTargetTypeAndTargetIdIn(ModerationTargetType.REVIEW, ids);
+                    reviewRepository.deleteAllByIdInBatch(ids);
+                }),
+                ErasureStep.of("favorites", favoriteRepository::findIdsByShopId,
+                        favoriteRepository::deleteAllByIdInBatch),
+                ErasureStep.of("shop_comments", commentRepository::findIdsByShopId,
+                        commentRepository::deleteAllByIdInBatch),
+                ErasureStep.of("shop_suggestions", shopSuggestionRepository::findIdsByShopId,
+                        shopSuggestionRepository::deleteAllByIdInBatch),
+                // 게시글은 유지하고 가게 참조만 해제
+                ErasureStep.of("post_shop_refs", postRepository::findIdsByShopId,
+                        postRepository::clearShopByIdIn)
+        );
+
+        List<ErasureStep> steps = new ArrayList<>(childSteps);
+        steps.add(ErasureStep.finalStep("shop", childSteps, (shopId, chunkSize) -> deleteShop(shopId)));
+        return List.copyOf(steps);
+    }
+
+    private int deleteShop(Long shopId) {
+        Optional<Shop> shop = shopRepository.findById(shopId);
+        if (shop.isEmpty()) {
+            return 0;
+        }
+        String mainImageUrl = shop.get().getMainImageUrl();
+        if (mainImageUrl != null && !mainImageUrl.equals(defaultShopImageUrl)) {
+            deleteFiles(List.of(mainImageUrl));
+        }
+        shopRepository.delete(shop.get());
+
+        // 삭제 요청 시점과 실제 삭제 사이에 다시 캐시된 상세 정보 제거
+        Cache shopDetail = cacheManager.getCache("shop-detail");
+        if (shopDetail != null) {
+            shopDetail.evict(shopId + ":LATEST");
+            shopDetail.evict(shopId + ":LIKE_COUNT");
+        }
+        return 1;
+    }
+
+    private void deleteFiles(List<String> urls) {
+        for (String url : urls) {
+            try {
+                fileStorageService.deleteFile(url);
+            } catch (Exception e) {
+                log.warn("Failed to delete file: {} - {}", url, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.gotcha.domain.erasure.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 연쇄 삭제의 한 단계.
+ * 실행할 때마다 대상 행을 최대 chunkSize개 처리하며, 처리한 행이 없으면 단계가 끝난 것으로 봅니다.
+ * 처리된 행은 다음 조회에서 다시 나오지 않아야 합니다 (삭제 또는 참조 해제).
+ *
+ * @param name 단계 이름 (진행 기록/로그용)
+ * @param action 청크 하나 처리
+ */
+public record ErasureStep(String name, ChunkAction action) {
+
+    @FunctionalInterface
+    public interface ChunkAction {
+
+        /**
+         * @return 처리한 행 수 (0이면 단계 완료)
+         */
+        int run(Long targetId, int chunkSize);
+    }
+
+    @FunctionalInterface
+    public interface IdSelector {
+
+        List<Long> select(Long targetId, Pageable pageable);
+    }
+
+    /**
+     * 대상 id를 청크 크기만큼 조회해 한 번에 처리하는 단계
+     */
+    public static ErasureStep of(String name, IdSelector selector, Consumer<List<Long>> handler) {
+        return new ErasureStep(name, (targetId, chunkSize) -> {
+            List<Long> ids = selector.select(targetId, PageRequest.of(0, chunkSize));
+            if (!ids.isEmpty()) {
+                handler.accept(ids);
+            }
+            return ids.size();
+        });
+    }
+
+    /**
+     * 부모 행을 삭제하는 마지막 단계.
+     * 앞 단계가 끝난 뒤에 추가된 자식 행(리뷰, 찜, 댓글 등)이 있으면 FK 위반이 나므로,
+     * 같은 트랜잭션에서 자식 단계를 다시 끝까지 실행한 뒤 부모 행을 삭제합니다.
+     */
+    public static ErasureStep finalStep(String name, List<ErasureStep> childSteps, ChunkAction deleteParent) {
+        return new ErasureStep(name, (targetId, chunkSize) -> {
+            int swept = 0;
+            for (ErasureStep step : childSteps) {
+                int processed;
+                while ((processed = step.action().run(targetId, chunkSize)) > 0) {
+                    swept += processed;
+                }
+            }
+            return swept + deleteParent.run(targetId, chunkSize);
+        });
+    }
+}
@@ -46,4 +46,13 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM Favorite f WHERE f.shop.id = :shopId")
     void deleteAllByShopId(@Param("shopId") Long shopId);
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회
+     */
+    @Query("SELECT f.id FROM Favorite f WHERE f.user.id = :userId ORDER BY f.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT f.id FROM Favorite f WHERE f.shop.id = :shopId ORDER BY f.id")
+    List<Long> findIdsByShopId(@Param("shopId") Long shopId, Pageable pageable);
 }
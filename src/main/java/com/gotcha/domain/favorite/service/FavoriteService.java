@@ -10,6 +10,7 @@ import com.gotcha.domain.favorite.repository.FavoriteRepository;
 import com.gotcha.domain.shop.entity.Shop;
 import com.gotcha.domain.shop.exception.ShopException;
 import com.gotcha.domain.shop.repository.ShopRepository;
+import com.gotcha.domain.shop.service.OpenSchedule;
 import com.gotcha.domain.shop.service.ShopService;
 import com.gotcha.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -89,9 +90,11 @@ public class FavoriteService {
         // N+1 방지: JOIN FETCH를 사용하여 Shop을 함께 조회
         Page<Favorite> favoritePage = favoriteRepository.findAllByUserIdWithShop(userId, pageable);
 
+        // 영업 상태는 요청 시점 하나의 기준 시각으로 판단
+        OpenSchedule.Moment now = OpenSchedule.Moment.now();
         List<FavoriteShopResponse> content = favoritePage.getContent().stream()
                 .map(favorite -> {
-                    String openStatus = shopService.getOpenStatus(favorite.getShop().getOpenTime());
+                    String openStatus = shopService.getOpenStatus(favorite.getShop(), now);
                     return FavoriteShopResponse.from(favorite, openStatus);
                 })
                 .collect(Collectors.toList());
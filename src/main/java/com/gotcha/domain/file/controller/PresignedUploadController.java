@@ -0,0 +1,47 @@
+package com.gotcha.domain.file.controller;
+
+import com.gotcha._global.common.ApiResponse;
+import com.gotcha.domain.file.dto.PresignedUploadRequest;
+import com.gotcha.domain.file.dto.PresignedUploadResponse;
+import com.gotcha.domain.file.dto.UploadSessionResponse;
+import com.gotcha.domain.file.service.PresignedUploadService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/files/presigned")
+@RequiredArgsConstructor
+@Profile({"local", "dev", "prod"})
+public class PresignedUploadController implements PresignedUploadControllerApi {
+
+    private final PresignedUploadService presignedUploadService;
+
+    @Override
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<PresignedUploadResponse> issue(@Valid @RequestBody PresignedUploadRequest request) {
+        return ApiResponse.success(presignedUploadService.issue(request));
+    }
+
+    @Override
+    @PostMapping("/{uploadId}/complete")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<UploadSessionResponse> complete(@PathVariable String uploadId) {
+        return ApiResponse.success(presignedUploadService.complete(uploadId));
+    }
+
+    @Override
+    @GetMapping("/{uploadId}")
+    public ApiResponse<UploadSessionResponse> getStatus(@PathVariable String uploadId) {
+        return ApiResponse.success(presignedUploadService.getStatus(uploadId));
+    }
+}
@@ -0,0 +1,66 @@
+package com.gotcha.domain.file.controller;
+
+import com.gotcha._global.common.ApiResponse;
+import com.gotcha.domain.file.dto.PresignedUploadRequest;
+import com.gotcha.domain.file.dto.PresignedUploadResponse;
+import com.gotcha.domain.file.dto.UploadSessionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "File", description = "파일 업로드 API")
+public interface PresignedUploadControllerApi {
+
+    @Operation(
+            summary = "직접 업로드 URL 발급",
+            description = "저장소에 직접 PUT 할 수 있는 presigned URL 발급. " +
+                    "응답의 contentType과 요청한 fileSize를 Content-Type/Content-Length 헤더로 사용해 업로드한 뒤 완료 API를 호출"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "발급 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (크기 초과, 지원하지 않는 형식, 잘못된 폴더)"
+            )
+    })
+    ApiResponse<PresignedUploadResponse> issue(@Valid @RequestBody PresignedUploadRequest request);
+
+    @Operation(
+            summary = "직접 업로드 완료 알림",
+            description = "저장소에 파일이 올라왔는지 확인 후 처리 대기로 전환. 처리 결과는 상태 조회 API로 확인"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "처리 대기"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "업로드된 파일 없음 또는 크기/형식 불일치"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "업로드 요청 없음"
+            )
+    })
+    ApiResponse<UploadSessionResponse> complete(
+            @Parameter(description = "업로드 ID", required = true)
+            @PathVariable String uploadId
+    );
+
+    @Operation(
+            summary = "직접 업로드 처리 상태 조회",
+            description = "COMPLETED이면 fileUrl/thumbnailUrl 사용, FAILED이면 failureReason 확인"
+    )
+    ApiResponse<UploadSessionResponse> getStatus(
+            @Parameter(description = "업로드 ID", required = true)
+            @PathVariable String uploadId
+    );
+}
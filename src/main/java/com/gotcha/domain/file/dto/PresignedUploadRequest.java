@@ -0,0 +1,29 @@
+package com.gotcha.domain.file.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "presigned 업로드 URL 발급 요청")
+public record PresignedUploadRequest(
+
+        @Schema(description = "저장할 폴더 (예: reviews, shops, profiles, posts)", example = "reviews")
+        @NotBlank(message = "폴더명은 필수입니다")
+        String folder,
+
+        @Schema(description = "파일 타입 (업로드 시 같은 Content-Type 헤더 사용)", example = "image/jpeg")
+        @NotBlank(message = "파일 타입은 필수입니다")
+        String contentType,
+
+        @Schema(description = "파일 크기 (bytes, 업로드 시 같은 Content-Length 사용)", example = "102400")
+        @NotNull(message = "파일 크기는 필수입니다")
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        Long fileSize,
+
+        @Schema(description = "원본 파일명", example = "my-photo.jpg", nullable = true)
+        @Size(max = 255, message = "파일명은 255자 이하여야 합니다")
+        String originalFilename
+) {
+}
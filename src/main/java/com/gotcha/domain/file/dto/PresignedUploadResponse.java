@@ -0,0 +1,25 @@
+package com.gotcha.domain.file.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+@Schema(description = "presigned 업로드 URL 발급 응답")
+public record PresignedUploadResponse(
+
+        @Schema(description = "업로드 ID (완료 알림/상태 조회에 사용)", example = "3f2b8c1e-4d5a-4b6c-9e7f-1a2b3c4d5e6f")
+        String uploadId,
+
+        @Schema(description = "PUT으로 파일을 올릴 URL")
+        String uploadUrl,
+
+        @Schema(description = "업로드 시 사용할 Content-Type 헤더", example = "image/jpeg")
+        String contentType,
+
+        @Schema(description = "업로드 URL 만료 시각")
+        Instant expiresAt
+) {
+
+    public static PresignedUploadResponse of(String uploadId, String uploadUrl, String contentType, Instant expiresAt) {
+        return new PresignedUploadResponse(uploadId, uploadUrl, contentType, expiresAt);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gotcha.domain.file.dto;
+
+import com.gotcha.domain.file.entity.UploadSession;
+import com.gotcha.domain.file.entity.UploadStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "presigned 업로드 처리 상태")
+public record UploadSessionResponse(
+
+        @Schema(description = "업로드 ID")
+        String uploadId,
+
+        @Schema(description = "처리 상태", example = "COMPLETED")
+        UploadStatus status,
+
+        @Schema(description = "처리된 파일의 공개 URL (COMPLETED일 때)", nullable = true)
+        String fileUrl,
+
+        @Schema(description = "썸네일 이미지 URL (COMPLETED일 때)", nullable = true)
+        String thumbnailUrl,
+
+        @Schema(description = "원본 파일명", nullable = true)
+        String originalFilename,
+
+        @Schema(description = "파일 크기 (bytes)", example = "102400")
+        Long fileSize,
+
+        @Schema(description = "파일 타입", example = "image/webp")
+        String contentType,
+
+        @Schema(description = "실패 사유 (FAILED일 때)", nullable = true)
+        String failureReason
+) {
+
+    public static UploadSessionResponse from(UploadSession session) {
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getStatus(),
+                session.getFileUrl(),
+                session.getThumbnailUrl(),
+                session.getOriginalFilename(),
+                session.getFileSize(),
+                session.getContentType(),
+                session.getFailureReason()
+        );
+    }
+}
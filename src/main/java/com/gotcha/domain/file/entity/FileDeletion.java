@@ -0,0 +1,73 @@
+package com.gotcha.domain.file.entity;
+
+import com.gotcha._global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * S3 객체 삭제 outbox.
+ * 엔티티 삭제와 같은 트랜잭션에서 기록되고, 커밋 이후 FileDeletionOutbox가 DeleteObjects로 묶어 삭제합니다.
+ */
+@Entity
+@Table(name = "file_deletion_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FileDeletionStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public FileDeletion(String objectKey) {
+        this.objectKey = objectKey;
+        this.status = FileDeletionStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 삭제 실패 기록 (재시도 한도를 넘으면 DEAD로 남겨 수동 확인)
+     */
+    public void recordFailure(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.claimToken = null;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = FileDeletionStatus.DEAD;
+        }
+    }
+
+    public boolean isDead() {
+        return this.status == FileDeletionStatus.DEAD;
+    }
+}
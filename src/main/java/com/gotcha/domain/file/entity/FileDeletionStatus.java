@@ -0,0 +1,17 @@
+package com.gotcha.domain.file.entity;
+
+public enum FileDeletionStatus {
+
+    PENDING("삭제 대기"),
+    DEAD("재시도 한도 초과");
+
+    private final String description;
+
+    FileDeletionStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
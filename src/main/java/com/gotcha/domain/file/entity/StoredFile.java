@@ -0,0 +1,71 @@
+package com.gotcha.domain.file.entity;
+
+import com.gotcha._global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 원본 (폴더, SHA-256) → S3 객체 인덱스.
+ * 같은 폴더에 같은 파일이 다시 업로드되면 기존 객체를 재사용하고, 참조 수가 0이 될 때만 S3 객체를 삭제합니다.
+ */
+@Entity
+@Table(name = "stored_files")
+@IdClass(StoredFile.StoredFileId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFile extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "folder", length = 50)
+    private String folder;
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 500)
+    private String objectKey;
+
+    @Column(name = "thumbnail_key", length = 500)
+    private String thumbnailKey;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Builder
+    public StoredFile(String folder, String contentHash, String objectKey, String thumbnailKey,
+                      String contentType, long fileSize, int refCount) {
+        this.folder = folder;
+        this.contentHash = contentHash;
+        this.objectKey = objectKey;
+        this.thumbnailKey = thumbnailKey;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.refCount = refCount;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class StoredFileId implements Serializable {
+        private String folder;
+        private String contentHash;
+    }
+}
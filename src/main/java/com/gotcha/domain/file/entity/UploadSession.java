@@ -0,0 +1,118 @@
+package com.gotcha.domain.file.entity;
+
+import com.gotcha._global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * presigned URL로 클라이언트가 직접 올리는 업로드 한 건.
+ * 원본은 raw 경로에 올라오고, 처리 워커가 WebP 변환 후 최종 URL을 기록합니다.
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSession extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false, length = 20)
+    private String folder;
+
+    @Column(name = "raw_key", nullable = false, length = 500)
+    private String rawKey;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "original_filename")
+    private String originalFilename;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadStatus status;
+
+    @Column(name = "file_url", length = 1000)
+    private String fileUrl;
+
+    @Column(name = "thumbnail_url", length = 1000)
+    private String thumbnailUrl;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 일시적 오류로 다시 처리 대기로 돌아간 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 재시도 시각 (null이면 바로 처리)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    public UploadSession(String id, String folder, String rawKey, String contentType,
+                         String originalFilename, long fileSize, LocalDateTime expiresAt) {
+        this.id = id;
+        this.folder = folder;
+        this.rawKey = rawKey;
+        this.contentType = contentType;
+        this.originalFilename = originalFilename;
+        this.fileSize = fileSize;
+        this.expiresAt = expiresAt;
+        this.status = UploadStatus.PENDING;
+    }
+
+    public void complete(String fileUrl, String thumbnailUrl, long fileSize, String contentType) {
+        this.fileUrl = fileUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.fileSize = fileSize;
+        this.contentType = contentType;
+        this.status = UploadStatus.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        this.failureReason = truncate(reason);
+        this.status = UploadStatus.FAILED;
+    }
+
+    /**
+     * 일시적 오류 시 처리 대기(UPLOADED)로 되돌림 (재시도 한도 도달 시 FAILED)
+     * @return 재시도 예정 여부
+     */
+    public boolean retryLater(String reason, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            fail(reason);
+            return false;
+        }
+        this.failureReason = truncate(reason);
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = UploadStatus.UPLOADED;
+        return true;
+    }
+
+    public boolean isPending() {
+        return this.status == UploadStatus.PENDING;
+    }
+
+    private static String truncate(String reason) {
+        return reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gotcha.domain.file.entity;
+
+public enum UploadStatus {
+
+    PENDING("업로드 대기"),
+    UPLOADED("업로드 완료, 처리 대기"),
+    PROCESSING("처리 중"),
+    COMPLETED("처리 완료"),
+    FAILED("처리 실패"),
+    EXPIRED("만료");
+
+    private final String description;
+
+    UploadStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.http.HttpStatus;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 @Getter
 @RequiredArgsConstructor
@@ -16,7 +18,10 @@ public enum FileErrorCode implements ErrorCode {
     FILE_TOO_LARGE(BAD_REQUEST, "FL002", "파일 크기가 너무 큽니다"),
     UNSUPPORTED_FILE_TYPE(BAD_REQUEST, "FL003", "지원하지 않는 파일 형식입니다"),
     FILE_UPLOAD_FAILED(INTERNAL_SERVER_ERROR, "FL004", "파일 업로드에 실패했습니다"),
-    FILE_DELETE_FAILED(INTERNAL_SERVER_ERROR, "FL005", "파일 삭제에 실패했습니다");
+    FILE_DELETE_FAILED(INTERNAL_SERVER_ERROR, "FL005", "파일 삭제에 실패했습니다"),
+    FILE_PROCESSING_BUSY(SERVICE_UNAVAILABLE, "FL006", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+    UPLOAD_SESSION_NOT_FOUND(NOT_FOUND, "FL007", "업로드 요청을 찾을 수 없습니다"),
+    UPLOAD_NOT_RECEIVED(BAD_REQUEST, "FL008", "업로드된 파일을 찾을 수 없습니다");
 
     private final HttpStatus status;
     private final String code;
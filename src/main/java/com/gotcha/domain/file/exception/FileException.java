@@ -50,4 +50,16 @@ public class FileException extends BusinessException {
     public static FileException deleteFailed(String message) {
         return new FileException(FileErrorCode.FILE_DELETE_FAILED, message);
     }
+
+    public static FileException processingBusy() {
+        return new FileException(FileErrorCode.FILE_PROCESSING_BUSY);
+    }
+
+    public static FileException uploadSessionNotFound() {
+        return new FileException(FileErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+
+    public static FileException uploadNotReceived() {
+        return new FileException(FileErrorCode.UPLOAD_NOT_RECEIVED);
+    }
 }
@@ -0,0 +1,31 @@
+package com.gotcha.domain.file.repository;
+
+import com.gotcha.domain.file.entity.FileDeletion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    /**
+     * 처리할 삭제 건 선점 (다른 노드가 잠근 행은 건너뛰고, lease가 끝나기 전까지 다시 선점되지 않음)
+     * @return 선점한 건수 (claimToken으로 조회)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE file_deletion_outbox SET claim_token = :claimToken, next_attempt_at = :leaseUntil, "
+            + "updated_at = now() "
+            + "WHERE id IN (SELECT id FROM file_deletion_outbox "
+            + "WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("limit") int limit);
+
+    List<FileDeletion> findAllByClaimToken(String claimToken);
+}
@@ -0,0 +1,80 @@
+package com.gotcha.domain.file.repository;
+
+import com.gotcha.domain.file.entity.StoredFile;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, StoredFile.StoredFileId> {
+
+    /**
+     * 새로 업로드한 객체 등록 (연결 전이므로 참조 수 0, 같은 폴더/해시가 동시에 등록되면 먼저 등록된 쪽 유지)
+     * @return 등록 여부 (0이면 다른 요청이 먼저 등록)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stored_files "
+            + "(folder, content_hash, object_key, thumbnail_key, content_type, file_size, ref_count, created_at, updated_at) "
+            + "VALUES (:folder, :contentHash, :objectKey, :thumbnailKey, :contentType, :fileSize, 0, now(), now()) "
+            + "ON CONFLICT (folder, content_hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("folder") String folder,
+                       @Param("contentHash") String contentHash,
+                       @Param("objectKey") String objectKey,
+                       @Param("thumbnailKey") String thumbnailKey,
+                       @Param("contentType") String contentType,
+                       @Param("fileSize") long fileSize);
+
+    /**
+     * 기존 객체 재사용 표시 (연결 대기 시간을 다시 시작해 정리 대상에서 제외)
+     * @return 0이면 인덱스에 없거나 정리되어 새로 업로드해야 함
+     */
+    @Modifying
+    @Query(value = "UPDATE stored_files SET updated_at = :now "
+            + "WHERE folder = :folder AND content_hash = :contentHash", nativeQuery = true)
+    int touch(@Param("folder") String folder, @Param("contentHash") String contentHash,
+              @Param("now") LocalDateTime now);
+
+    Optional<StoredFile> findByFolderAndContentHash(String folder, String contentHash);
+
+    /**
+     * 엔티티에 연결 (참조 수 증가)
+     * @return 0이면 인덱스에 없는 객체 (중복 제거 도입 전 업로드 등) 또는 이미 정리된 객체
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE stored_files SET ref_count = ref_count + 1, updated_at = now() "
+            + "WHERE object_key = :objectKey", nativeQuery = true)
+    int incrementRefCount(@Param("objectKey") String objectKey);
+
+    /**
+     * 참조 해제 (0이 되면 연결 대기 상태로 돌아가 만료 시 정리)
+     * @return 0이면 인덱스에 없는 객체 (중복 제거 도입 전 업로드 등)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE stored_files SET ref_count = ref_count - 1, updated_at = now() "
+            + "WHERE object_key = :objectKey AND ref_count > 0", nativeQuery = true)
+    int decrementRefCount(@Param("objectKey") String objectKey);
+
+    /**
+     * 연결되지 않은 채 만료된 객체 조회
+     */
+    @Query("SELECT s FROM StoredFile s WHERE s.refCount <= 0 AND s.updatedAt < :cutoff ORDER BY s.updatedAt")
+    List<StoredFile> findUnclaimed(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 만료된 객체 인덱스 삭제 (그 사이 재사용/연결되었으면 삭제하지 않음)
+     * @return 1이면 호출 측에서 S3 객체 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM stored_files WHERE folder = :folder AND content_hash = :contentHash "
+            + "AND ref_count <= 0 AND updated_at < :cutoff", nativeQuery = true)
+    int deleteIfUnclaimed(@Param("folder") String folder, @Param("contentHash") String contentHash,
+                          @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,63 @@
+package com.gotcha.domain.file.repository;
+
+import com.gotcha.domain.file.entity.UploadSession;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * 업로드 완료 표시 (대기 중인 세션만)
+     * @return 변경 여부 (0이면 이미 완료 처리됐거나 만료)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE upload_sessions SET status = 'UPLOADED', file_size = :fileSize, updated_at = :now "
+            + "WHERE id = :id AND status = 'PENDING' AND expires_at > :now", nativeQuery = true)
+    int markUploaded(@Param("id") String id, @Param("fileSize") long fileSize, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 대기 세션 (재시도 대기 중인 세션은 재시도 시각 이후)
+     */
+    @Query("SELECT s.id FROM UploadSession s WHERE s.status = com.gotcha.domain.file.entity.UploadStatus.UPLOADED "
+            + "AND (s.nextAttemptAt IS NULL OR s.nextAttemptAt <= :now) ORDER BY s.updatedAt")
+    List<String> findProcessableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 처리할 세션 선점 (여러 워커 노드가 같은 세션을 처리하지 않도록 조건부 갱신)
+     * @return 선점 여부
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE upload_sessions SET status = 'PROCESSING', updated_at = :now "
+            + "WHERE id = :id AND status = 'UPLOADED'", nativeQuery = true)
+    int claim(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중 노드가 종료되어 멈춘 세션을 다시 처리 대기로
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE upload_sessions SET status = 'UPLOADED', updated_at = :now "
+            + "WHERE status = 'PROCESSING' AND updated_at < :cutoff", nativeQuery = true)
+    int requeueStale(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s FROM UploadSession s WHERE s.status = com.gotcha.domain.file.entity.UploadStatus.PENDING AND s.expiresAt < :now ORDER BY s.expiresAt")
+    List<UploadSession> findExpiredPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 업로드되지 않은 세션 만료
+     * @return 만료 여부 (0이면 그 사이 업로드 완료 처리됨)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE upload_sessions SET status = 'EXPIRED', updated_at = :now "
+            + "WHERE id = :id AND status = 'PENDING'", nativeQuery = true)
+    int expire(@Param("id") String id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,237 @@
+package com.gotcha.domain.file.service;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.entity.FileDeletion;
+import com.gotcha.domain.file.repository.FileDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+/**
+ * S3 객체 삭제 outbox.
+ *
+ * 삭제할 키는 호출 측 트랜잭션 안에서 file_deletion_outbox에 기록만 하므로 요청 지연/트랜잭션 길이가
+ * 이미지 수와 무관합니다. 커밋 이후 백그라운드 스레드가 기록을 선점해 DeleteObjects(최대 1000개)로 묶어 삭제하고,
+ * 실패한 키는 지수 백오프로 재시도하다 한도를 넘으면 DEAD로 남깁니다.
+ * 롤백된 트랜잭션의 기록은 함께 사라지므로 DB에 남은 이미지의 객체가 지워지지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile({"local", "dev", "prod"})
+public class FileDeletionOutbox {
+
+    private static final long MAX_RETRY_DELAY_MS = 3_600_000;
+
+    private final S3Client s3Client;
+    private final FileDeletionRepository fileDeletionRepository;
+    private final FileUploadProperties fileUploadProperties;
+
+    private final ExecutorService drainExecutor;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final Counter deletedCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    public FileDeletionOutbox(S3Client s3Client,
+                              FileDeletionRepository fileDeletionRepository,
+                              FileUploadProperties fileUploadProperties,
+                              MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.fileDeletionRepository = fileDeletionRepository;
+        this.fileUploadProperties = fileUploadProperties;
+        this.drainExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-deletion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deletedCounter = resultCounter(meterRegistry, "deleted");
+        this.retryCounter = resultCounter(meterRegistry, "retry");
+        this.deadCounter = resultCounter(meterRegistry, "dead");
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("file.deletion")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 선점 중이던 기록은 lease가 끝난 뒤 다른 노드(또는 재시작 후) 처리
+        drainExecutor.shutdownNow();
+    }
+
+    /**
+     * 삭제할 키 기록 (호출 측 트랜잭션에 참여, 커밋 이후 삭제 시작)
+     */
+    public void enqueue(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        fileDeletionRepository.saveAll(objectKeys.stream().map(FileDeletion::new).toList());
+        runAfterCommit(this::requestDrain);
+    }
+
+    /**
+     * 재시도 대기/다른 노드에서 기록된 삭제 처리
+     */
+    @Scheduled(fixedDelayString = "${file-upload.deletion.poll-interval-ms:10000}")
+    public void poll() {
+        requestDrain();
+    }
+
+    /**
+     * 백그라운드 삭제 요청 (이미 대기 중이면 합쳐짐)
+     */
+    private void requestDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainExecutor.execute(() -> {
+                drainScheduled.set(false);
+                try {
+                    drain();
+                } catch (Exception e) {
+                    // 다음 주기에 다시 시도
+                    log.error("File deletion drain failed: {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false);
+        }
+    }
+
+    /**
+     * 처리할 기록이 없을 때까지 배치 단위로 삭제
+     * @return 처리한 기록 수
+     */
+    int drain() {
+        FileUploadProperties.Deletion config = fileUploadProperties.getDeletion();
+        int batchSize = Math.min(1_000, Math.max(1, config.getBatchSize()));
+        int processed = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            String claimToken = UUID.randomUUID().toString();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseUntil = now.plusSeconds(config.getLeaseSeconds());
+            if (fileDeletionRepository.claimBatch(claimToken, now, leaseUntil, batchSize) == 0) {
+                break;
+            }
+            List<FileDeletion> batch = fileDeletionRepository.findAllByClaimToken(claimToken);
+            deleteBatch(batch, config);
+            processed += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private void deleteBatch(List<FileDeletion> batch, FileUploadProperties.Deletion config) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 같은 키가 여러 번 기록될 수 있으므로 키 단위로 묶어 전송
+        Map<String, List<FileDeletion>> byKey = new HashMap<>();
+        for (FileDeletion deletion : batch) {
+            byKey.computeIfAbsent(deletion.getObjectKey(), key -> new ArrayList<>()).add(deletion);
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(byKey.keySet().stream()
+                                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                                    .toList())
+                            .quiet(true)
+                            .build())
+                    .build());
+            for (S3Error error : response.errors()) {
+                errors.put(error.key(), error.code() + ": " + error.message());
+            }
+        } catch (Exception e) {
+            log.warn("DeleteObjects failed - keys: {}, error: {}", byKey.size(), e.getMessage());
+            byKey.keySet().forEach(key -> errors.put(key, e.getMessage()));
+        }
+
+        List<FileDeletion> succeeded = new ArrayList<>();
+        List<FileDeletion> failed = new ArrayList<>();
+        for (Map.Entry<String, List<FileDeletion>> entry : byKey.entrySet()) {
+            String error = errors.get(entry.getKey());
+            if (error == null) {
+                succeeded.addAll(entry.getValue());
+                continue;
+            }
+            for (FileDeletion deletion : entry.getValue()) {
+                deletion.recordFailure(error, config.getMaxAttempts(),
+                        LocalDateTime.now().plus(retryDelay(deletion.getAttempts(), config)));
+                failed.add(deletion);
+                if (deletion.isDead()) {
+                    deadCounter.increment();
+                    log.error("File deletion gave up - key: {}, attempts: {}, error: {}",
+                            deletion.getObjectKey(), deletion.getAttempts(), error);
+                } else {
+                    retryCounter.increment();
+                }
+            }
+        }
+
+        if (!succeeded.isEmpty()) {
+            fileDeletionRepository.deleteAllByIdInBatch(succeeded.stream().map(FileDeletion::getId).toList());
+            deletedCounter.increment(succeeded.size());
+        }
+        if (!failed.isEmpty()) {
+            fileDeletionRepository.saveAll(failed);
+        }
+        log.info("File deletion batch processed - deleted: {}, failed: {}", succeeded.size(), failed.size());
+    }
+
+    private Duration retryDelay(int attempts, FileUploadProperties.Deletion config) {
+        long delayMs = config.getRetryBaseDelayMs() << Math.min(attempts, 20);
+        return Duration.ofMillis(Math.min(MAX_RETRY_DELAY_MS, delayMs));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
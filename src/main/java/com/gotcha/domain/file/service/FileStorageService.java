@@ -19,7 +19,16 @@ public interface FileStorageService {
     FileUploadResponse uploadImage(MultipartFile file, String folder);
 
     /**
-     * 스토리지에서 파일 삭제
+     * 업로드한 파일을 엔티티(게시글/리뷰/가게/프로필)에 연결
+     * 참조 수는 연결될 때 올라가며, 업로드 후 연결되지 않은 파일은 일정 시간이 지나면 스토리지에서 삭제됩니다.
+     *
+     * @param fileUrl 연결할 파일의 공개 URL
+     */
+    void claimFile(String fileUrl);
+
+    /**
+     * 스토리지에서 파일 삭제 (연결 해제)
+     * 호출 측 트랜잭션이 커밋된 이후 백그라운드에서 삭제됩니다.
      *
      * @param fileUrl 삭제할 파일의 공개 URL
      */
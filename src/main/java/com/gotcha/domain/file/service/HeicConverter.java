@@ -0,0 +1,173 @@
+package com.gotcha.domain.file.service;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.exception.FileException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HEIC → JPEG 외부 변환기 실행.
+ *
+ * 동시에 실행되는 변환 프로세스 수를 file-upload.heic.max-concurrent로 제한하고, 슬롯을 기다리는 요청 수를 함께 기록합니다.
+ * 변환 명령에 {input}/{output}이 없으면 원본 파일을 stdin으로, stdout을 결과 파일로 OS 수준에서 바로 연결하므로
+ * JVM이 변환 바이트를 복사하지 않습니다 (파이프를 지원하는 변환기 사용 시).
+ * 결과 파일은 work-dir에 만들어지므로 tmpfs(/dev/shm)를 지정하면 디스크 I/O 없이 변환할 수 있습니다.
+ * 지표: file.heic.convert (소요 시간), file.heic.convert.active / queued, file.heic.convert.failures{reason}
+ */
+@Slf4j
+@Component
+public class HeicConverter {
+
+    private static final String INPUT_PLACEHOLDER = "{input}";
+    private static final String OUTPUT_PLACEHOLDER = "{output}";
+
+    private final FileUploadProperties.Heic heicProperties;
+    private final List<String> commandTemplate;
+    private final boolean pipeInput;
+    private final boolean pipeOutput;
+    private final Semaphore slots;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Timer convertTimer;
+    private final Counter timeoutCounter;
+    private final Counter errorCounter;
+
+    public HeicConverter(FileUploadProperties fileUploadProperties, MeterRegistry meterRegistry) {
+        this.heicProperties = fileUploadProperties.getHeic();
+        this.commandTemplate = Arrays.stream(heicProperties.getCommand().trim().split("\\s+")).toList();
+        this.pipeInput = commandTemplate.stream().noneMatch(token -> token.contains(INPUT_PLACEHOLDER));
+        this.pipeOutput = commandTemplate.stream().noneMatch(token -> token.contains(OUTPUT_PLACEHOLDER));
+        this.slots = new Semaphore(Math.max(1, heicProperties.getMaxConcurrent()));
+
+        this.convertTimer = Timer.builder("file.heic.convert").register(meterRegistry);
+        this.timeoutCounter = failureCounter(meterRegistry, "timeout");
+        this.errorCounter = failureCounter(meterRegistry, "error");
+        int maxConcurrent = Math.max(1, heicProperties.getMaxConcurrent());
+        Gauge.builder("file.heic.convert.active", slots, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("file.heic.convert.queued", queued, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("file.heic.convert.failures")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * HEIC 파일을 JPEG 임시 파일로 변환
+     * @return 변환된 JPEG 파일 (호출 측에서 삭제), 변환 실패 시 null
+     * @throws FileException 대기 시간 내에 변환 슬롯을 얻지 못한 경우
+     */
+    public Path convert(Path heicFile) {
+        acquireSlot();
+        try {
+            return convertTimer.record(() -> runConverter(heicFile));
+        } finally {
+            slots.release();
+        }
+    }
+
+    private void acquireSlot() {
+        queued.incrementAndGet();
+        try {
+            if (!slots.tryAcquire(heicProperties.getQueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("HEIC converter busy - queued: {}", queued.get());
+                throw FileException.processingBusy();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw FileException.processingBusy();
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private Path runConverter(Path heicFile) {
+        Path jpegFile = null;
+        try {
+            jpegFile = createOutputFile();
+            ProcessBuilder builder = new ProcessBuilder(buildCommand(heicFile, jpegFile))
+                    .redirectError(ProcessBuilder.Redirect.DISCARD);
+            builder.redirectInput(pipeInput
+                    ? ProcessBuilder.Redirect.from(heicFile.toFile())
+                    : ProcessBuilder.Redirect.PIPE);
+            builder.redirectOutput(pipeOutput
+                    ? ProcessBuilder.Redirect.to(jpegFile.toFile())
+                    : ProcessBuilder.Redirect.DISCARD);
+
+            Process process = builder.start();
+            process.getOutputStream().close();
+
+            if (!process.waitFor(heicProperties.getTimeoutSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                timeoutCounter.increment();
+                log.warn("HEIC conversion timed out after {}s", heicProperties.getTimeoutSeconds());
+                deleteQuietly(jpegFile);
+                return null;
+            }
+
+            int exitCode = process.exitValue();
+            if (exitCode != 0 || Files.size(jpegFile) == 0) {
+                errorCounter.increment();
+                log.warn("HEIC conversion failed with exit code {}", exitCode);
+                deleteQuietly(jpegFile);
+                return null;
+            }
+
+            return jpegFile;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorCounter.increment();
+            deleteQuietly(jpegFile);
+            return null;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("HEIC conversion failed: {}", e.getMessage());
+            deleteQuietly(jpegFile);
+            return null;
+        }
+    }
+
+    private List<String> buildCommand(Path heicFile, Path jpegFile) {
+        List<String> command = new ArrayList<>(commandTemplate.size());
+        for (String token : commandTemplate) {
+            command.add(token
+                    .replace(INPUT_PLACEHOLDER, heicFile.toString())
+                    .replace(OUTPUT_PLACEHOLDER, jpegFile.toString()));
+        }
+        return command;
+    }
+
+    private Path createOutputFile() throws IOException {
+        String workDir = heicProperties.getWorkDir();
+        return (workDir == null || workDir.isBlank())
+                ? Files.createTempFile("heic_", ".jpg")
+                : Files.createTempFile(Path.of(workDir), "heic_", ".jpg");
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.debug("Failed to delete temp file: {}", path);
+            }
+        }
+    }
+}
@@ -1,133 +1,334 @@
 package com.gotcha.domain.file.service;
 
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.exception.FileException;
 import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.metadata.ImageMetadata;
+import com.sksamuel.scrimage.metadata.OrientationTools;
 import com.sksamuel.scrimage.webp.WebpWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import javax.imageio.IIOException;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
-import java.io.ByteArrayInputStream;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 업로드 이미지 WebP 변환.
+ *
+ * 입력은 디스크에 저장된 업로드 파일이며 헤더 확인, HEIC 변환({@link HeicConverter}), 디코딩 모두 파일에서 바로 읽습니다.
+ * 헤더에서 크기를 먼저 읽고 ImageReadParam 서브샘플링으로 본 이미지 크기(1920px)에 가깝게 디코딩하며,
+ * 썸네일은 축소된 본 이미지에서 만듭니다.
+ * 디코딩과 본 이미지/썸네일 인코딩은 크기가 제한된 CPU 풀에서 실행되며 두 인코딩은 병렬로 진행됩니다.
+ * 디코딩된 이미지는 픽셀 수에 비례해 메모리를 차지하므로 헤더에서 읽은 크기로 사용량을 추정하고,
+ * 동시에 처리 중인 이미지의 추정 합계가 상한(file-upload.pipeline.decode-memory-budget-mb)을 넘지 않도록 대기시킵니다.
+ * 단계별 소요 시간은 file.upload.stage{stage} 로 기록됩니다.
+ */
 @Slf4j
 @Service
 public class ImageProcessingService {
 
-    private static final int MAX_DIMENSION = 1920;
+    static final int MAX_DIMENSION = 1920;
     private static final int THUMB_DIMENSION = 400;
     private static final int MAIN_QUALITY = 80;
     private static final int THUMB_QUALITY = 75;
-    private static final long MAX_PIXELS = (long) MAX_DIMENSION * MAX_DIMENSION * 4;
+    // 전체 해상도로 디코딩할 수 있는 최대 픽셀 수 (축소 디코딩을 지원하지 않는 형식에 적용)
+    static final long MAX_PIXELS = (long) MAX_DIMENSION * MAX_DIMENSION * 4;
+    // 축소 디코딩 시 허용하는 원본 최대 픽셀 수
+    static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final long BYTES_PER_MB = 1024 * 1024;
 
-    public record ProcessedImageResult(
-            byte[] mainImageBytes,
-            byte[] thumbnailBytes,
+    private final FileUploadProperties.Pipeline pipelineProperties;
+    private final HeicConverter heicConverter;
+    private final ThreadPoolExecutor encodeExecutor;
+    // 디코딩 메모리 예산 (permit 1개 = 1MB)
+    private final Semaphore decodeMemory;
+
+    private final Timer heicConvertTimer;
+    private final Timer decodeTimer;
+    private final Timer mainEncodeTimer;
+    private final Timer thumbEncodeTimer;
+
+    public ImageProcessingService(FileUploadProperties fileUploadProperties,
+                                  HeicConverter heicConverter,
+                                  MeterRegistry meterRegistry) {
+        this.pipelineProperties = fileUploadProperties.getPipeline();
+        this.heicConverter = heicConverter;
+        int threads = pipelineProperties.getEncodeThreads() > 0
+                ? pipelineProperties.getEncodeThreads()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 대기열이 가득 차면 제출한 스레드에서 직접 실행 (작업을 버리지 않고 유입 속도를 늦춤)
+        this.encodeExecutor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(pipelineProperties.getEncodeQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-encode-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.decodeMemory = new Semaphore(pipelineProperties.getDecodeMemoryBudgetMb());
+
+        this.heicConvertTimer = stageTimer(meterRegistry, "heic_convert");
+        this.decodeTimer = stageTimer(meterRegistry, "decode");
+        this.mainEncodeTimer = stageTimer(meterRegistry, "encode_main");
+        this.thumbEncodeTimer = stageTimer(meterRegistry, "encode_thumb");
+        Gauge.builder("file.upload.decode.memory.available", decodeMemory, Semaphore::availablePermits)
+                .baseUnit("megabytes")
+                .register(meterRegistry);
+    }
+
+    static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("file.upload.stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        encodeExecutor.shutdownNow();
+    }
+
+    /**
+     * 변환 결과 (인코딩은 비동기로 진행 중)
+     * @param mainImage 본 이미지 WebP (최대 1920px)
+     * @param thumbnail 썸네일 WebP (최대 400px)
+     */
+    public record PendingImage(
+            CompletableFuture<byte[]> mainImage,
+            CompletableFuture<byte[]> thumbnail,
             String contentType,
             String extension
     ) {}
 
-    public ProcessedImageResult process(byte[] imageBytes, String originalContentType) {
-        try {
-            byte[] readableBytes = imageBytes;
-
-            if (isHeic(originalContentType)) {
-                readableBytes = convertHeicToJpeg(imageBytes);
-                if (readableBytes == null) {
-                    return null;
-                }
+    /**
+     * 디코딩/인코딩을 CPU 풀에 제출하고 바로 반환
+     * @param source 디스크에 저장된 업로드 파일 (인코딩이 끝날 때까지 유지되어야 함)
+     * @return 변환 작업, 변환할 수 없는 이미지면 null (원본 업로드)
+     * @throws FileException 메모리 상한으로 대기 시간 내에 처리를 시작할 수 없거나 CPU 풀이 작업을 받지 않는 경우
+     */
+    public PendingImage processAsync(Path source, String originalContentType) {
+        Path heicJpeg = null;
+        if (isHeic(originalContentType)) {
+            heicJpeg = heicConvertTimer.record(() -> heicConverter.convert(source));
+            if (heicJpeg == null) {
+                return null;
             }
+        }
+        Path readable = heicJpeg != null ? heicJpeg : source;
+        Path convertedFile = heicJpeg;
 
-            if (isImageTooLarge(readableBytes)) {
+        boolean submitted = false;
+        int acquiredPermits = 0;
+        try {
+            ImageDimensions dimensions = readDimensions(readable);
+            if (dimensions != null && dimensions.pixels() > MAX_SOURCE_PIXELS) {
+                log.warn("Image too large: {}x{} ({} pixels), rejecting",
+                        dimensions.width(), dimensions.height(), dimensions.pixels());
                 return null;
             }
 
-            ImmutableImage image = ImmutableImage.loader().fromBytes(readableBytes);
+            int subsampling = dimensions != null ? subsamplingFactor(dimensions) : 1;
+            long decodedPixels = dimensions != null
+                    ? dimensions.subsampledPixels(subsampling)
+                    : MAX_PIXELS;
+            int permits = estimateMemoryPermits(decodedPixels);
+            acquireDecodeMemory(permits);
+            acquiredPermits = permits;
 
-            ImmutableImage mainImage = image.bound(MAX_DIMENSION, MAX_DIMENSION);
-            byte[] mainBytes = mainImage.bytes(WebpWriter.DEFAULT.withQ(MAIN_QUALITY));
+            boolean fullDecodeAllowed = dimensions == null || dimensions.pixels() <= MAX_PIXELS;
+            CompletableFuture<ImmutableImage> decoded = CompletableFuture.supplyAsync(
+                    () -> decodeTimer.record(() -> decodeBounded(readable, subsampling, fullDecodeAllowed)),
+                    encodeExecutor);
+            submitted = true;
+            // HEIC 변환 결과는 디코딩 후 바로 삭제
+            decoded.whenComplete((image, e) -> deleteTempFile(convertedFile));
 
-            ImmutableImage thumbImage = image.bound(THUMB_DIMENSION, THUMB_DIMENSION);
-            byte[] thumbBytes = thumbImage.bytes(WebpWriter.DEFAULT.withQ(THUMB_QUALITY));
+            CompletableFuture<byte[]> main = decoded.thenApplyAsync(
+                    image -> mainEncodeTimer.record(() -> encode(image, MAIN_QUALITY)), encodeExecutor);
+            CompletableFuture<byte[]> thumbnail = decoded.thenApplyAsync(
+                    image -> thumbEncodeTimer.record(
+                            () -> encode(image.bound(THUMB_DIMENSION, THUMB_DIMENSION), THUMB_QUALITY)),
+                    encodeExecutor);
 
-            log.info("Image processed: original {}KB -> main {}KB, thumb {}KB",
-                    imageBytes.length / 1024,
-                    mainBytes.length / 1024,
-                    thumbBytes.length / 1024);
+            main.thenAcceptBoth(thumbnail, (mainBytes, thumbBytes) ->
+                    log.info("Image processed: original {}KB -> main {}KB, thumb {}KB",
+                            fileSize(source) / 1024,
+                            mainBytes.length / 1024,
+                            thumbBytes.length / 1024));
+            CompletableFuture.allOf(main, thumbnail).whenComplete((ignored, e) -> {
+                decodeMemory.release(permits);
+                if (main.isCompletedExceptionally()) {
+                    log.warn("Image processing failed, will upload original: {}", e.getMessage());
+                } else if (e != null) {
+                    log.warn("Thumbnail encoding failed, uploading without thumbnail: {}", e.getMessage());
+                }
+            });
 
-            return new ProcessedImageResult(mainBytes, thumbBytes, "image/webp", ".webp");
-        } catch (Exception e) {
-            log.warn("Image processing failed, will upload original: {}", e.getMessage());
-            return null;
+            return new PendingImage(main, thumbnail, "image/webp", ".webp");
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 풀 등 작업 제출 실패는 일시적 포화로 처리
+            log.warn("Image processing rejected: {}", e.getMessage());
+            throw FileException.processingBusy();
+        } finally {
+            if (!submitted) {
+                // 제출 전에 실패하면 확보한 메모리 예산을 바로 반환
+                decodeMemory.release(acquiredPermits);
+                deleteTempFile(convertedFile);
+            }
         }
     }
 
-    private boolean isHeic(String contentType) {
-        return contentType != null
-                && (contentType.equalsIgnoreCase("image/heic") || contentType.equalsIgnoreCase("image/heif"));
+    /**
+     * 본 이미지 크기(최대 1920px)로 디코딩
+     * ImageIO 리더가 있으면 서브샘플링으로 읽고, 없는 형식(WebP 등)은 Scrimage 로더로 전체 디코딩 후 축소
+     */
+    static ImmutableImage decodeBounded(Path path, int subsampling, boolean fullDecodeAllowed) {
+        try {
+            BufferedImage buffered = readSubsampled(path, subsampling);
+            ImmutableImage image;
+            if (buffered != null) {
+                // ImageIO는 EXIF 회전 정보를 적용하지 않으므로 직접 보정
+                image = OrientationTools.reorient(ImmutableImage.fromAwt(buffered), ImageMetadata.fromFile(path.toFile()));
+            } else if (fullDecodeAllowed) {
+                image = ImmutableImage.loader().fromPath(path);
+            } else {
+                throw new IllegalStateException("Image too large to decode without subsampling");
+            }
+            return image.bound(MAX_DIMENSION, MAX_DIMENSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
-    private byte[] convertHeicToJpeg(byte[] heicBytes) {
-        Path heicFile = null;
-        Path jpegFile = null;
-        try {
-            heicFile = Files.createTempFile("heic_", ".heic");
-            jpegFile = Path.of(heicFile.toString().replace(".heic", ".jpg"));
+    /**
+     * 서브샘플링 디코딩 (리더가 없거나 디코딩에 실패하면 null)
+     */
+    static BufferedImage readSubsampled(Path path, int subsampling) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(path.toFile())) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } catch (IIOException e) {
+                log.debug("ImageIO decode failed, falling back to Scrimage loader: {}", e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
 
-            Files.write(heicFile, heicBytes);
+    /**
+     * 긴 변이 본 이미지 크기 이상으로 남는 최대 서브샘플링 배수 (축소는 이후 bound에서 보간)
+     */
+    static int subsamplingFactor(ImageDimensions dimensions) {
+        int longSide = Math.max(dimensions.width(), dimensions.height());
+        return Math.max(1, longSide / MAX_DIMENSION);
+    }
 
-            Process process = new ProcessBuilder("heif-convert", heicFile.toString(), jpegFile.toString())
-                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
-                    .redirectError(ProcessBuilder.Redirect.DISCARD)
-                    .start();
+    private byte[] encode(ImmutableImage image, int quality) {
+        try {
+            return image.bytes(WebpWriter.DEFAULT.withQ(quality));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            if (!process.waitFor(30, TimeUnit.SECONDS)) {
-                process.destroyForcibly();
-                log.warn("heif-convert timed out");
-                return null;
-            }
+    /**
+     * 디코딩 결과 + 축소본 2개의 ARGB 버퍼 크기를 MB 단위로 추정 (예산보다 크면 예산 전체)
+     */
+    private int estimateMemoryPermits(long pixels) {
+        long mainPixels = Math.min(pixels, (long) MAX_DIMENSION * MAX_DIMENSION);
+        long thumbPixels = Math.min(pixels, (long) THUMB_DIMENSION * THUMB_DIMENSION);
+        long bytes = (pixels + mainPixels + thumbPixels) * BYTES_PER_PIXEL;
+        long megabytes = (bytes + BYTES_PER_MB - 1) / BYTES_PER_MB;
+        return (int) Math.max(1, Math.min(megabytes, pipelineProperties.getDecodeMemoryBudgetMb()));
+    }
 
-            int exitCode = process.exitValue();
-            if (exitCode != 0) {
-                log.warn("heif-convert failed with exit code {}", exitCode);
-                return null;
+    private void acquireDecodeMemory(int permits) {
+        try {
+            if (!decodeMemory.tryAcquire(permits, pipelineProperties.getAdmissionTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("Image decode memory budget exhausted - requested: {}MB, available: {}MB",
+                        permits, decodeMemory.availablePermits());
+                throw FileException.processingBusy();
             }
-
-            return Files.readAllBytes(jpegFile);
-        } catch (Exception e) {
-            log.warn("HEIC conversion failed: {}", e.getMessage());
-            return null;
-        } finally {
-            deleteTempFile(heicFile);
-            deleteTempFile(jpegFile);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw FileException.processingBusy();
         }
     }
 
-    private boolean isImageTooLarge(byte[] imageBytes) {
-        try (var iis = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+    private boolean isHeic(String contentType) {
+        return contentType != null
+                && (contentType.equalsIgnoreCase("image/heic") || contentType.equalsIgnoreCase("image/heif"));
+    }
+
+    /**
+     * 헤더만 읽어 크기 확인 (ImageIO로 읽을 수 없으면 null)
+     */
+    private ImageDimensions readDimensions(Path imageFile) {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(imageFile.toFile())) {
+            if (iis == null) return null;
             Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
-            if (!readers.hasNext()) return false;
+            if (!readers.hasNext()) return null;
             ImageReader reader = readers.next();
             try {
                 reader.setInput(iis, true, true);
-                int width = reader.getWidth(0);
-                int height = reader.getHeight(0);
-                long pixels = (long) width * height;
-                if (pixels > MAX_PIXELS) {
-                    log.warn("Image too large: {}x{} ({} pixels), rejecting", width, height, pixels);
-                    return true;
-                }
-                return false;
+                return new ImageDimensions(reader.getWidth(0), reader.getHeight(0));
             } finally {
                 reader.dispose();
             }
         } catch (IOException e) {
             log.debug("Failed to read image header, proceeding with decode", e);
-            return false;
+            return null;
+        }
+    }
+
+    record ImageDimensions(int width, int height) {
+
+        long pixels() {
+            return (long) width * height;
+        }
+
+        long subsampledPixels(int subsampling) {
+            return (long) Math.ceilDiv(width, subsampling) * Math.ceilDiv(height, subsampling);
+        }
+    }
+
+    private long fileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
         }
     }
 
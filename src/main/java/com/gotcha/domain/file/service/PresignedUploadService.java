@@ -0,0 +1,146 @@
+package com.gotcha.domain.file.service;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.dto.PresignedUploadRequest;
+import com.gotcha.domain.file.dto.PresignedUploadResponse;
+import com.gotcha.domain.file.dto.UploadSessionResponse;
+import com.gotcha.domain.file.entity.UploadSession;
+import com.gotcha.domain.file.exception.FileException;
+import com.gotcha.domain.file.repository.UploadSessionRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * 클라이언트 직접 업로드 (presigned PUT).
+ *
+ * 서버는 raw 경로에 대한 presigned URL만 발급하고, 클라이언트가 저장소에 직접 올린 뒤 완료를 알리면
+ * 처리 대기(UPLOADED)로 표시합니다. 변환/업로드는 UploadProcessingWorker가 API 요청과 별도로 처리합니다.
+ */
+@Slf4j
+@Service
+@Profile({"local", "dev", "prod"})
+public class PresignedUploadService {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3FileUploadService s3FileUploadService;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileUploadProperties fileUploadProperties;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.prefix}")
+    private String prefix;
+
+    public PresignedUploadService(S3Client s3Client,
+                                  S3Presigner s3Presigner,
+                                  S3FileUploadService s3FileUploadService,
+                                  UploadSessionRepository uploadSessionRepository,
+                                  FileUploadProperties fileUploadProperties) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.s3FileUploadService = s3FileUploadService;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.fileUploadProperties = fileUploadProperties;
+    }
+
+    /**
+     * 업로드 URL 발급 (Content-Type, Content-Length가 서명에 포함되어 요청과 다른 파일은 올릴 수 없음)
+     */
+    public PresignedUploadResponse issue(PresignedUploadRequest request) {
+        s3FileUploadService.validateFolder(request.folder());
+        s3FileUploadService.validateImage(request.fileSize(), request.contentType());
+
+        FileUploadProperties.Presigned config = fileUploadProperties.getPresigned();
+        String folder = request.folder().toLowerCase();
+        String contentType = request.contentType().toLowerCase();
+        String uploadId = UUID.randomUUID().toString();
+        String rawKey = normalizedPrefix() + config.getRawPrefix() + folder + "/" + uploadId;
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(config.getUrlExpirySeconds()))
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(rawKey)
+                        .contentType(contentType)
+                        .contentLength(request.fileSize())
+                        .build())
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+
+        uploadSessionRepository.save(UploadSession.builder()
+                .id(uploadId)
+                .folder(folder)
+                .rawKey(rawKey)
+                .contentType(contentType)
+                .originalFilename(request.originalFilename())
+                .fileSize(request.fileSize())
+                .expiresAt(LocalDateTime.now().plusMinutes(config.getSessionTtlMinutes()))
+                .build());
+
+        log.info("Presigned upload issued. uploadId: {}, key: {}", uploadId, rawKey);
+        return PresignedUploadResponse.of(uploadId, presigned.url().toString(), contentType, presigned.expiration());
+    }
+
+    /**
+     * 클라이언트 업로드 완료 알림 (저장소에 객체가 있는지 확인 후 처리 대기로 표시, 중복 호출 시 현재 상태 반환)
+     */
+    public UploadSessionResponse complete(String uploadId) {
+        UploadSession session = findSession(uploadId);
+        if (!session.isPending()) {
+            return UploadSessionResponse.from(session);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(session.getRawKey())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw FileException.uploadNotReceived();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw FileException.uploadNotReceived();
+            }
+            log.error("Raw upload lookup failed. uploadId: {}, error: {}", uploadId, e.getMessage());
+            throw FileException.uploadFailed(e.getMessage());
+        }
+        s3FileUploadService.validateImage(head.contentLength(), session.getContentType());
+
+        if (uploadSessionRepository.markUploaded(uploadId, head.contentLength(), LocalDateTime.now()) == 0) {
+            log.debug("Upload session already moved on. uploadId: {}", uploadId);
+        }
+        return UploadSessionResponse.from(findSession(uploadId));
+    }
+
+    public UploadSessionResponse getStatus(String uploadId) {
+        return UploadSessionResponse.from(findSession(uploadId));
+    }
+
+    private UploadSession findSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .orElseThrow(FileException::uploadSessionNotFound);
+    }
+
+    private String normalizedPrefix() {
+        return (prefix == null || prefix.isBlank())
+                ? ""
+                : (prefix.endsWith("/") ? prefix : prefix + "/");
+    }
+}
@@ -1,28 +1,51 @@
 package com.gotcha.domain.file.service;
 
+import com.gotcha._global.config.FileUploadProperties;
 import com.gotcha.domain.file.dto.FileUploadResponse;
+import com.gotcha.domain.file.entity.StoredFile;
+import com.gotcha.domain.file.repository.StoredFileRepository;
 import com.gotcha.domain.file.exception.FileException;
-import com.gotcha.domain.file.service.ImageProcessingService.ProcessedImageResult;
-import lombok.RequiredArgsConstructor;
+import com.gotcha.domain.file.service.ImageProcessingService.PendingImage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @Profile({"local", "dev", "prod"})
-@RequiredArgsConstructor
 public class S3FileUploadService implements FileStorageService {
 
     private static final long MAX_FILE_SIZE = 50 * 1024 * 1024; // 50MB
@@ -41,8 +64,19 @@ public class S3FileUploadService implements FileStorageService {
             "posts"
     );
 
-    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final ImageProcessingService imageProcessingService;
+    private final FileUploadProperties fileUploadProperties;
+    private final StoredFileRepository storedFileRepository;
+    private final FileDeletionOutbox fileDeletionOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer mainUploadTimer;
+    private final Timer thumbUploadTimer;
+    private final Timer totalTimer;
+    private final Counter dedupHitCounter;
+    private final Counter dedupMissCounter;
+    private final Counter unclaimedExpiredCounter;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -56,122 +90,417 @@ public class S3FileUploadService implements FileStorageService {
     @Value("${aws.cloudfront.domain:}")
     private String cloudfrontDomain;
 
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    public S3FileUploadService(S3AsyncClient s3AsyncClient,
+                               ImageProcessingService imageProcessingService,
+                               FileUploadProperties fileUploadProperties,
+                               StoredFileRepository storedFileRepository,
+                               FileDeletionOutbox fileDeletionOutbox,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.imageProcessingService = imageProcessingService;
+        this.fileUploadProperties = fileUploadProperties;
+        this.storedFileRepository = storedFileRepository;
+        this.fileDeletionOutbox = fileDeletionOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mainUploadTimer = ImageProcessingService.stageTimer(meterRegistry, "upload_main");
+        this.thumbUploadTimer = ImageProcessingService.stageTimer(meterRegistry, "upload_thumb");
+        this.totalTimer = ImageProcessingService.stageTimer(meterRegistry, "total");
+        this.dedupHitCounter = dedupCounter(meterRegistry, "hit");
+        this.dedupMissCounter = dedupCounter(meterRegistry, "miss");
+        this.unclaimedExpiredCounter = dedupCounter(meterRegistry, "expired");
+    }
+
+    private static Counter dedupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("file.upload.dedup")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드할 객체 (인코딩 결과 byte[] 또는 디스크의 원본 파일)
+     */
+    private record StoredImage(byte[] bytes, Path file, long size, String contentType, String extension) {
+
+        static StoredImage ofBytes(byte[] bytes, String contentType, String extension) {
+            return new StoredImage(bytes, null, bytes.length, contentType, extension);
+        }
+
+        static StoredImage ofFile(Path file, long size, String contentType, String extension) {
+            return new StoredImage(null, file, size, contentType, extension);
+        }
+
+        AsyncRequestBody requestBody() {
+            // 인코딩 결과는 이후 수정되지 않으므로 복사하지 않음, 원본은 파일에서 스트리밍
+            return bytes != null ? AsyncRequestBody.fromBytesUnsafe(bytes) : AsyncRequestBody.fromFile(file);
+        }
+    }
+
+    /**
+     * 업로드 파일은 힙에 올리지 않고 임시 파일로 옮긴 뒤 처리/업로드 모두 파일에서 읽습니다.
+     * 본 이미지/썸네일 인코딩은 CPU 풀에서 병렬로 진행되고, 각각 인코딩이 끝나는 즉시 비동기 클라이언트로 업로드합니다.
+     * 변환하지 않는 원본은 파일에서 스트리밍 업로드되며 큰 파일은 S3 멀티파트 업로드로 전송됩니다.
+     * 요청 스레드는 두 업로드가 끝날 때까지만 대기합니다.
+     * 같은 폴더에 원본 SHA-256이 같은 파일이 이미 업로드되어 있으면 변환/업로드 없이 기존 URL을 반환합니다.
+     * 참조 수는 업로드가 아니라 엔티티에 연결({@link #claimFile})될 때 올라가며, 연결되지 않은 파일은 만료 후 삭제됩니다.
+     */
     @Override
     public FileUploadResponse uploadImage(MultipartFile file, String folder) {
         validateFile(file);
         validateFolder(folder);
 
+        Path spoolFile = null;
+        try {
+            spoolFile = Files.createTempFile("upload_", ".tmp");
+            file.transferTo(spoolFile.toFile());
+        } catch (IOException e) {
+            deleteTempFile(spoolFile);
+            log.error("File upload failed: {}", e.getMessage(), e);
+            throw FileException.uploadFailed(e.getMessage());
+        }
+        return storeImage(spoolFile, file.getSize(), file.getContentType(), file.getOriginalFilename(), folder);
+    }
+
+    /**
+     * 디스크에 받아 둔 이미지를 중복 제거 → 변환 → 업로드 (multipart 업로드와 presigned 업로드 처리 워커 공용)
+     * 처리가 끝나면 spoolFile은 삭제됩니다.
+     */
+    FileUploadResponse storeImage(Path spoolFile, long fileSize, String contentType,
+                                  String originalFilename, String folder) {
         String uuid = UUID.randomUUID().toString();
         String normalizedPrefix = (prefix == null || prefix.isBlank())
                 ? ""
                 : (prefix.endsWith("/") ? prefix : prefix + "/");
+        String baseKey = normalizedPrefix + folder + "/" + uuid;
+
+        Timer.Sample totalSample = Timer.start();
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(fileUploadProperties.getPipeline().getUploadTimeoutSeconds());
+        CompletableFuture<String> thumbUpload = CompletableFuture.completedFuture(null);
+        String thumbKey = null;
+        String extension = extractExtension(originalFilename);
+        boolean cleanupScheduled = false;
 
         try {
-            byte[] originalBytes = file.getBytes();
-            ProcessedImageResult processed = imageProcessingService.process(originalBytes, file.getContentType());
-
-            byte[] mainBytes;
-            String contentType;
-            String extension;
-            byte[] thumbBytes = null;
-
-            if (processed != null) {
-                mainBytes = processed.mainImageBytes();
-                contentType = processed.contentType();
-                extension = processed.extension();
-                thumbBytes = processed.thumbnailBytes();
-            } else {
-                mainBytes = originalBytes;
-                contentType = file.getContentType();
-                extension = extractExtension(file.getOriginalFilename());
+            String contentHash = sha256(spoolFile);
+            Optional<FileUploadResponse> reused = reuseStoredFile(folder, contentHash, originalFilename);
+            if (reused.isPresent()) {
+                dedupHitCounter.increment();
+                log.info("Duplicate upload reused existing object. URL: {}", reused.get().fileUrl());
+                return reused.get();
             }
+            dedupMissCounter.increment();
 
-            String mainKey = normalizedPrefix + folder + "/" + uuid + extension;
-            uploadToS3(mainKey, mainBytes, contentType);
-            String mainUrl = buildPublicUrl(mainKey);
-
-            log.info("File uploaded to S3. URL: {}, Key: {}", mainUrl, mainKey);
-
-            String thumbnailUrl = null;
-            if (thumbBytes != null) {
-                try {
-                    String thumbKey = normalizedPrefix + folder + "/" + uuid + "_thumb" + extension;
-                    uploadToS3(thumbKey, thumbBytes, contentType);
-                    thumbnailUrl = buildPublicUrl(thumbKey);
-                    log.info("Thumbnail uploaded to S3. URL: {}", thumbnailUrl);
-                } catch (Exception e) {
-                    log.warn("Thumbnail upload failed, proceeding without thumbnail: {}", e.getMessage());
-                }
+            StoredImage original = StoredImage.ofFile(spoolFile, fileSize, contentType, extension);
+            PendingImage pending = imageProcessingService.processAsync(spoolFile, contentType);
+
+            CompletableFuture<StoredImage> mainImage;
+            if (pending == null) {
+                mainImage = CompletableFuture.completedFuture(original);
+            } else {
+                // 인코딩 실패 시 원본을 업로드하고 썸네일은 생략
+                mainImage = pending.mainImage()
+                        .thenApply(bytes -> StoredImage.ofBytes(bytes, pending.contentType(), pending.extension()))
+                        .exceptionally(e -> original);
+                thumbKey = baseKey + "_thumb" + pending.extension();
+                String key = thumbKey;
+                thumbUpload = pending.thumbnail()
+                        .thenCombine(pending.mainImage(), (thumbBytes, mainBytes) ->
+                                StoredImage.ofBytes(thumbBytes, pending.contentType(), pending.extension()))
+                        .thenCompose(thumb -> uploadToS3(key, thumb, thumbUploadTimer));
             }
 
+            CompletableFuture<String> mainUpload = mainImage
+                    .thenCompose(image -> uploadToS3(baseKey + image.extension(), image, mainUploadTimer));
+
+            // 디코딩과 원본 업로드가 모두 끝난 뒤 임시 파일 삭제 (요청 스레드가 먼저 반환되어도 유지)
+            Path uploadedFile = spoolFile;
+            CompletableFuture.allOf(mainUpload, thumbUpload)
+                    .whenComplete((ignored, e) -> deleteTempFile(uploadedFile));
+            cleanupScheduled = true;
+
+            String mainUrl = mainUpload.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            StoredImage main = mainImage.join();
+            log.info("File uploaded to S3. URL: {}", mainUrl);
+
+            String thumbnailUrl = awaitThumbnail(thumbUpload, deadline);
+            registerStoredFile(folder, contentHash, baseKey + main.extension(),
+                    thumbnailUrl != null ? thumbKey : null, main);
+
             return FileUploadResponse.of(
                     mainUrl,
-                    file.getOriginalFilename(),
-                    (long) mainBytes.length,
-                    contentType,
+                    originalFilename,
+                    main.size(),
+                    main.contentType(),
                     thumbnailUrl
             );
 
+        } catch (FileException e) {
+            throw e;
         } catch (IOException e) {
             log.error("File upload failed: {}", e.getMessage(), e);
             throw FileException.uploadFailed(e.getMessage());
-        } catch (S3Exception e) {
-            log.error("S3 upload failed: {}", e.awsErrorDetails().errorMessage(), e);
-            throw FileException.uploadFailed(e.awsErrorDetails().errorMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardThumbnail(thumbUpload, thumbKey);
+            throw FileException.uploadFailed("Upload interrupted");
+        } catch (TimeoutException e) {
+            log.error("File upload timed out. Key: {}", baseKey);
+            discardThumbnail(thumbUpload, thumbKey);
+            throw FileException.uploadFailed("Upload timed out");
+        } catch (ExecutionException | CompletionException e) {
+            discardThumbnail(thumbUpload, thumbKey);
+            Throwable cause = unwrap(e);
+            if (cause instanceof S3Exception s3Exception) {
+                log.error("S3 upload failed: {}", s3Exception.awsErrorDetails().errorMessage(), s3Exception);
+                throw FileException.uploadFailed(s3Exception.awsErrorDetails().errorMessage());
+            }
+            log.error("Unexpected error during file upload: {}", cause.getMessage(), cause);
+            throw FileException.uploadFailed(cause.getMessage());
         } catch (Exception e) {
             log.error("Unexpected error during file upload: {}", e.getMessage(), e);
             throw FileException.uploadFailed(e.getMessage());
+        } finally {
+            if (!cleanupScheduled) {
+                deleteTempFile(spoolFile);
+            }
+            totalSample.stop(totalTimer);
+        }
+    }
+
+    private void deleteTempFile(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.debug("Failed to delete temp file: {}", path);
+            }
+        }
+    }
+
+    /**
+     * 같은 폴더에 같은 해시로 등록된 객체가 있으면 기존 URL 반환
+     * 만료 정리와 같은 행을 두고 경합하므로 갱신과 조회를 한 트랜잭션에서 처리 (갱신된 행은 정리되지 않음)
+     */
+    private Optional<FileUploadResponse> reuseStoredFile(String folder, String contentHash, String originalFilename) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (storedFileRepository.touch(folder, contentHash, LocalDateTime.now()) == 0) {
+                    return Optional.<FileUploadResponse>empty();
+                }
+                return storedFileRepository.findByFolderAndContentHash(folder, contentHash)
+                        .map(stored -> FileUploadResponse.of(
+                                buildPublicUrl(stored.getObjectKey()),
+                                originalFilename,
+                                stored.getFileSize(),
+                                stored.getContentType(),
+                                stored.getThumbnailKey() != null ? buildPublicUrl(stored.getThumbnailKey()) : null
+                        ));
+            });
+        } catch (Exception e) {
+            // 인덱스 조회 실패 시 중복 제거 없이 업로드
+            log.warn("Stored file lookup failed, uploading without dedup: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 업로드한 객체를 해시 인덱스에 등록 (같은 파일이 동시에 업로드되면 나중 객체는 인덱스 없이 단독 사용)
+     */
+    private void registerStoredFile(String folder, String contentHash, String objectKey, String thumbnailKey,
+                                    StoredImage main) {
+        try {
+            if (storedFileRepository.insertIfAbsent(
+                    folder, contentHash, objectKey, thumbnailKey, main.contentType(), main.size()) == 0) {
+                log.debug("Concurrent duplicate upload kept unindexed. Key: {}", objectKey);
+            }
+        } catch (Exception e) {
+            log.warn("Stored file registration failed. Key: {}, error: {}", objectKey, e.getMessage());
         }
     }
 
+    /**
+     * 참조 해제 후 S3 객체를 바로 지워도 되는지 여부
+     * 인덱스에 없는 객체는 바로 삭제하고, 인덱스의 객체는 참조가 0인 채 만료되면 {@link #expireUnclaimed}에서 삭제
+     */
+    private boolean releaseReference(String objectKey) {
+        return storedFileRepository.decrementRefCount(objectKey) == 0;
+    }
+
+    /**
+     * 업로드 후 연결되지 않은 채 만료된 객체 삭제
+     * 행 단위 조건부 삭제라 그 사이 재사용/연결된 객체는 남기고, 인덱스 삭제와 outbox 기록은 같은 트랜잭션에서 처리합니다.
+     * @return 삭제한 객체 수
+     */
+    @Scheduled(fixedDelayString = "${file-upload.dedup.sweep-interval-ms:600000}")
+    public int expireUnclaimed() {
+        FileUploadProperties.Dedup config = fileUploadProperties.getDedup();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(config.getUnclaimedTtlHours());
+        try {
+            Integer expired = transactionTemplate.execute(status -> {
+                List<String> keys = new ArrayList<>();
+                int count = 0;
+                for (StoredFile stored : storedFileRepository.findUnclaimed(
+                        cutoff, PageRequest.of(0, config.getSweepBatchSize()))) {
+                    if (storedFileRepository.deleteIfUnclaimed(stored.getFolder(), stored.getContentHash(), cutoff) == 0) {
+                        continue;
+                    }
+                    keys.add(stored.getObjectKey());
+                    if (stored.getThumbnailKey() != null) {
+                        keys.add(stored.getThumbnailKey());
+                    }
+                    count++;
+                }
+                fileDeletionOutbox.enqueue(keys);
+                return count;
+            });
+            int count = expired != null ? expired : 0;
+            if (count > 0) {
+                unclaimedExpiredCounter.increment(count);
+                log.info("Unclaimed uploads expired - count: {}", count);
+            }
+            return count;
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            log.error("Unclaimed upload sweep failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String awaitThumbnail(CompletableFuture<String> thumbUpload, long deadline) {
+        try {
+            String thumbnailUrl = thumbUpload.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            if (thumbnailUrl != null) {
+                log.info("Thumbnail uploaded to S3. URL: {}", thumbnailUrl);
+            }
+            return thumbnailUrl;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.warn("Thumbnail upload failed, proceeding without thumbnail: {}", unwrap(e).getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 본 이미지 업로드가 실패하면 먼저 끝난 썸네일을 지움 (썸네일만 남지 않도록)
+     */
+    private void discardThumbnail(CompletableFuture<String> thumbUpload, String thumbKey) {
+        if (thumbKey == null) {
+            return;
+        }
+        thumbUpload.thenRun(() -> s3AsyncClient.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(thumbKey)
+                        .build()))
+                .exceptionally(e -> null);
+    }
+
+    private long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 인덱스에 없는 파일(중복 제거 도입 전 업로드, 기본 이미지 등)은 참조를 세지 않으므로 무시
+     */
     @Override
-    public void deleteFile(String fileUrl) {
+    public void claimFile(String fileUrl) {
         try {
-            log.info("Attempting to delete file from S3. URL: {}", fileUrl);
+            String key = extractKey(fileUrl);
+            if (storedFileRepository.incrementRefCount(key) == 0) {
+                log.debug("Claimed file is not indexed. Key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("File claim failed for URL: {}. Error: {}", fileUrl, e.getMessage());
+        }
+    }
 
+    @Override
+    public void deleteFile(String fileUrl) {
+        try {
             String key = extractKey(fileUrl);
-            log.info("Extracted key for deletion: {}", key);
 
-            deleteFromS3(key);
-            log.info("File deleted from S3. Bucket: {}, Key: {}", bucketName, key);
+            if (!releaseReference(key)) {
+                log.info("Indexed file released, S3 object is removed once unclaimed. Key: {}", key);
+                return;
+            }
 
+            List<String> keys = new ArrayList<>(2);
+            keys.add(key);
             String thumbKey = deriveThumbKey(key);
             if (thumbKey != null) {
-                deleteFromS3(thumbKey);
-                log.debug("Thumbnail deleted from S3. Key: {}", thumbKey);
+                keys.add(thumbKey);
             }
+            fileDeletionOutbox.enqueue(keys);
+            log.info("File deletion queued. Bucket: {}, Key: {}", bucketName, key);
 
-        } catch (S3Exception e) {
-            log.error("S3 delete failed for URL: {}. Error: {}", fileUrl, e.awsErrorDetails().errorMessage(), e);
-            throw FileException.deleteFailed(e.awsErrorDetails().errorMessage());
+        } catch (FileException e) {
+            throw e;
         } catch (Exception e) {
             log.error("File delete failed for URL: {}. Error: {}", fileUrl, e.getMessage(), e);
             throw FileException.deleteFailed(e.getMessage());
         }
     }
 
-    private void uploadToS3(String key, byte[] bytes, String contentType) {
+    private CompletableFuture<String> uploadToS3(String key, StoredImage image, Timer timer) {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(key)
-                .contentType(contentType)
+                .contentType(image.contentType())
                 .cacheControl("public, max-age=31536000, immutable")
                 .build();
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+        Timer.Sample sample = Timer.start();
+        return s3AsyncClient.putObject(putObjectRequest, image.requestBody())
+                .whenComplete((response, e) -> sample.stop(timer))
+                .thenApply(response -> buildPublicUrl(key));
     }
 
-    private void deleteFromS3(String key) {
-        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build();
-        s3Client.deleteObject(deleteObjectRequest);
+    private String buildPublicUrl(String key) {
+        if (cloudfrontDomain != null && !cloudfrontDomain.isBlank()) {
+            return String.format("https://%s/%s", cloudfrontDomain, key);
+        }
+        return storageUrlPrefix() + key;
     }
 
-    private String buildPublicUrl(String key) {
-        return (cloudfrontDomain != null && !cloudfrontDomain.isBlank())
-                ? String.format("https://%s/%s", cloudfrontDomain, key)
-                : String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+    /**
+     * 저장소 직접 URL prefix (S3 호환 저장소는 path-style)
+     */
+    private String storageUrlPrefix() {
+        if (endpoint != null && !endpoint.isBlank()) {
+            String base = endpoint.endsWith("/") ? endpoint : endpoint + "/";
+            return base + bucketName + "/";
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
     }
 
     private String deriveThumbKey(String key) {
@@ -189,7 +518,7 @@ public class S3FileUploadService implements FileStorageService {
         return "";
     }
 
-    private void validateFolder(String folder) {
+    void validateFolder(String folder) {
         if (folder == null || folder.isBlank()) {
             throw FileException.uploadFailed("Folder name is required");
         }
@@ -207,12 +536,21 @@ public class S3FileUploadService implements FileStorageService {
         if (file == null || file.isEmpty()) {
             throw FileException.empty();
         }
+        validateImage(file.getSize(), file.getContentType());
+    }
+
+    /**
+     * 크기/형식 검사 (presigned 업로드는 발급 시점과 업로드 완료 시점에 각각 검사)
+     */
+    void validateImage(long fileSize, String contentType) {
+        if (fileSize <= 0) {
+            throw FileException.empty();
+        }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw FileException.tooLarge(file.getSize(), MAX_FILE_SIZE);
+        if (fileSize > MAX_FILE_SIZE) {
+            throw FileException.tooLarge(fileSize, MAX_FILE_SIZE);
         }
 
-        String contentType = file.getContentType();
         if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
             throw FileException.unsupportedType(contentType);
         }
@@ -228,7 +566,7 @@ public class S3FileUploadService implements FileStorageService {
             }
         }
 
-        String s3Prefix = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
+        String s3Prefix = storageUrlPrefix();
         log.debug("Extracting key from URL. Expected prefix: {}, Actual URL: {}", s3Prefix, fileUrl);
 
         if (fileUrl.startsWith(s3Prefix)) {
@@ -0,0 +1,277 @@
+package com.gotcha.domain.file.service;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha._global.exception.ErrorCode;
+import com.gotcha.domain.file.dto.FileUploadResponse;
+import com.gotcha.domain.file.entity.UploadSession;
+import com.gotcha.domain.file.entity.UploadStatus;
+import com.gotcha.domain.file.exception.FileErrorCode;
+import com.gotcha.domain.file.exception.FileException;
+import com.gotcha.domain.file.repository.UploadSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * presigned 업로드 처리 워커.
+ *
+ * 업로드 완료(UPLOADED) 세션을 주기적으로 조회해 조건부 갱신으로 선점한 뒤, 원본을 임시 파일로 받아
+ * multipart 업로드와 같은 경로(중복 제거 → WebP 본 이미지/썸네일 → 업로드)로 처리하고 최종 URL을 기록합니다.
+ * 처리가 끝나면 raw 원본은 삭제합니다. 일시적 오류(처리 슬롯 포화, S3 오류)는 raw 원본을 유지한 채 지연 후 다시 처리합니다.
+ * file-upload.presigned.worker-enabled=false인 노드는 발급/조회만 담당하므로 변환 CPU를 API 노드에서 분리할 수 있습니다.
+ */
+@Slf4j
+@Component
+@Profile({"local", "dev", "prod"})
+public class UploadProcessingWorker {
+
+    private static final long MAX_RETRY_DELAY_MS = 600_000;
+
+    private final S3Client s3Client;
+    private final S3FileUploadService s3FileUploadService;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileUploadProperties fileUploadProperties;
+
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    public UploadProcessingWorker(S3Client s3Client,
+                                  S3FileUploadService s3FileUploadService,
+                                  UploadSessionRepository uploadSessionRepository,
+                                  FileUploadProperties fileUploadProperties,
+                                  MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.s3FileUploadService = s3FileUploadService;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.fileUploadProperties = fileUploadProperties;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(
+                Math.max(1, fileUploadProperties.getPresigned().getWorkerThreads()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "upload-worker-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.completedCounter = resultCounter(meterRegistry, "completed");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.retriedCounter = resultCounter(meterRegistry, "retried");
+        Gauge.builder("file.presigned.processing.active", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("file.presigned.processed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 세션은 PROCESSING으로 남고 session-ttl-minutes 후 다시 처리 대기로 돌아감
+        executor.shutdownNow();
+    }
+
+    /**
+     * 처리 대기 세션을 빈 워커 수만큼 선점해 처리 시작
+     */
+    @Scheduled(fixedDelayString = "${file-upload.presigned.poll-interval-ms:2000}")
+    public void poll() {
+        FileUploadProperties.Presigned config = fileUploadProperties.getPresigned();
+        if (!config.isWorkerEnabled()) {
+            return;
+        }
+        int available = Math.min(config.getBatchSize(), config.getWorkerThreads() - inFlight.get());
+        if (available <= 0) {
+            return;
+        }
+
+        List<String> ids = uploadSessionRepository.findProcessableIds(LocalDateTime.now(), PageRequest.of(0, available));
+        for (String id : ids) {
+            if (uploadSessionRepository.claim(id, LocalDateTime.now()) == 0) {
+                continue;
+            }
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(id);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중 (선점한 세션은 session-ttl-minutes 후 다시 처리 대기로 돌아감)
+                inFlight.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 업로드되지 않은 세션 만료, 처리 중 멈춘 세션 재처리
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void expireStaleSessions() {
+        FileUploadProperties.Presigned config = fileUploadProperties.getPresigned();
+        if (!config.isWorkerEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = uploadSessionRepository.requeueStale(
+                now.minusMinutes(config.getSessionTtlMinutes()), now);
+        if (requeued > 0) {
+            log.warn("Requeued stalled upload sessions: {}", requeued);
+        }
+
+        List<UploadSession> expired = uploadSessionRepository.findExpiredPending(
+                now, PageRequest.of(0, config.getBatchSize()));
+        for (UploadSession session : expired) {
+            if (uploadSessionRepository.expire(session.getId(), now) > 0) {
+                // 업로드 후 완료 알림 없이 떠난 클라이언트의 원본 정리
+                deleteRawObject(session.getRawKey());
+            }
+        }
+    }
+
+    void process(String uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId).orElse(null);
+        if (session == null || session.getStatus() != UploadStatus.PROCESSING) {
+            return;
+        }
+
+        Path spoolFile = null;
+        boolean finished = true;
+        try {
+            spoolFile = Files.createTempFile("presigned_", ".tmp");
+            long size = download(session.getRawKey(), spoolFile);
+            s3FileUploadService.validateImage(size, session.getContentType());
+
+            // storeImage가 처리 후 임시 파일 삭제
+            Path source = spoolFile;
+            spoolFile = null;
+            FileUploadResponse stored = s3FileUploadService.storeImage(
+                    source, size, session.getContentType(), session.getOriginalFilename(), session.getFolder());
+
+            session.complete(stored.fileUrl(), stored.thumbnailUrl(), stored.fileSize(), stored.contentType());
+            uploadSessionRepository.save(session);
+            completedCounter.increment();
+            log.info("Presigned upload processed. uploadId: {}, URL: {}", uploadId, stored.fileUrl());
+        } catch (Exception e) {
+            finished = handleFailure(session, e);
+        } finally {
+            deleteTempFile(spoolFile);
+        }
+        // 재시도 예정이면 raw 원본 유지
+        if (finished) {
+            deleteRawObject(session.getRawKey());
+        }
+    }
+
+    /**
+     * 일시적 오류는 지연 후 다시 처리 대기로, 파일 내용 문제나 재시도 한도 도달 시 FAILED
+     * @return 처리 종료 여부 (false면 재시도 예정)
+     */
+    private boolean handleFailure(UploadSession session, Exception e) {
+        FileUploadProperties.Presigned config = fileUploadProperties.getPresigned();
+        boolean retrying = isTransient(e) && session.retryLater(e.getMessage(), config.getMaxProcessingAttempts(),
+                LocalDateTime.now().plus(retryDelay(session.getAttempts(), config)));
+        if (!retrying && session.getStatus() != UploadStatus.FAILED) {
+            session.fail(e.getMessage());
+        }
+        uploadSessionRepository.save(session);
+
+        if (retrying) {
+            retriedCounter.increment();
+            log.warn("Presigned upload processing deferred. uploadId: {}, attempts: {}, error: {}",
+                    session.getId(), session.getAttempts(), e.getMessage());
+            return false;
+        }
+        failedCounter.increment();
+        log.error("Presigned upload processing failed. uploadId: {}, error: {}", session.getId(), e.getMessage(), e);
+        return true;
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 오류 여부 (처리 슬롯 포화, S3/네트워크 오류)
+     * 형식/크기 검증 실패, 디코딩 불가, raw 원본 없음은 재시도하지 않음
+     */
+    static boolean isTransient(Exception e) {
+        if (e instanceof FileException fileException) {
+            ErrorCode errorCode = fileException.getErrorCode();
+            return errorCode == FileErrorCode.FILE_PROCESSING_BUSY || errorCode == FileErrorCode.FILE_UPLOAD_FAILED;
+        }
+        if (e instanceof NoSuchKeyException) {
+            return false;
+        }
+        return e instanceof SdkException || e instanceof IOException || e instanceof UncheckedIOException;
+    }
+
+    private Duration retryDelay(int attempts, FileUploadProperties.Presigned config) {
+        long delayMs = config.getRetryBaseDelayMs() << Math.min(attempts, 20);
+        return Duration.ofMillis(Math.min(MAX_RETRY_DELAY_MS, delayMs));
+    }
+
+    private long download(String key, Path target) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(request)) {
+            Files.copy(object, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return Files.size(target);
+    }
+
+    private void deleteRawObject(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Raw upload delete failed. Key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private void deleteTempFile(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.debug("Failed to delete temp file: {}", path);
+            }
+        }
+    }
+}
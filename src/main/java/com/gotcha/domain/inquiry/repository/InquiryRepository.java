@@ -1,6 +1,8 @@
 package com.gotcha.domain.inquiry.repository;
 
 import com.gotcha.domain.inquiry.entity.Inquiry;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,4 +13,10 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Inquiry i WHERE i.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 탈퇴 청크 대상 id 조회
+     */
+    @Query("SELECT i.id FROM Inquiry i WHERE i.user.id = :userId ORDER BY i.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -0,0 +1,26 @@
+package com.gotcha.domain.moderation.entity;
+
+/**
+ * 금칙어 검사 대상 유형
+ */
+public enum ModerationTargetType {
+
+    /** 리뷰 본문 */
+    REVIEW("리뷰"),
+
+    /** 커뮤니티 게시글 본문 */
+    POST("게시글"),
+
+    /** 커뮤니티 게시글 댓글 */
+    POST_COMMENT("게시글 댓글");
+
+    private final String description;
+
+    ModerationTargetType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,57 @@
+package com.gotcha.domain.moderation.repository;
+
+import com.gotcha.domain.moderation.entity.ContentFlag;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ContentFlagRepository extends JpaRepository<ContentFlag, Long> {
+
+    /**
+     * 검출 기록 추가 (이미 있으면 무시, 동시 수정 시에도 유니크 제약 위반 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO content_flags (target_type, target_id, created_at, updated_at) "
+            + "VALUES (:targetType, :targetId, now(), now()) "
+            + "ON CONFLICT (target_type, target_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("targetType") String targetType, @Param("targetId") Long targetId);
+
+    @Query("SELECT f.targetId FROM ContentFlag f "
+            + "WHERE f.targetType = :targetType AND f.targetId IN :targetIds")
+    List<Long> findFlaggedTargetIds(@Param("targetType") ModerationTargetType targetType,
+                                    @Param("targetIds") Collection<Long> targetIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ContentFlag f WHERE f.targetType = :targetType AND f.targetId IN :targetIds")
+    int deleteByTargetTypeAndTargetIdIn(@Param("targetType") ModerationTargetType targetType,
+                                        @Param("targetIds") Collection<Long> targetIds);
+
+    /**
+     * 게시글에 달린 댓글의 검출 기록 삭제 (게시글 삭제 시 댓글보다 먼저 실행)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM content_flags f WHERE f.target_type = 'POST_COMMENT' "
+            + "AND f.target_id IN (SELECT pc.id FROM post_comments pc WHERE pc.post_id IN (:postIds))",
+            nativeQuery = true)
+    int deleteCommentFlagsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 대상 콘텐츠가 삭제된 검출 기록 정리
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM content_flags f WHERE "
+            + "(f.target_type = 'REVIEW' AND NOT EXISTS (SELECT 1 FROM reviews r WHERE r.id = f.target_id)) "
+            + "OR (f.target_type = 'POST' AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.id = f.target_id)) "
+            + "OR (f.target_type = 'POST_COMMENT' "
+            + "    AND NOT EXISTS (SELECT 1 FROM post_comments pc WHERE pc.id = f.target_id))", nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,9 @@
+package com.gotcha.domain.moderation.repository;
+
+/**
+ * 금칙어 재검사용 콘텐츠 Projection (ID + 본문)
+ */
+public interface ScannableContent {
+    Long getId();
+    String getContent();
+}
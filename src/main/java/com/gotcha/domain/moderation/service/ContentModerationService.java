@@ -0,0 +1,218 @@
+package com.gotcha.domain.moderation.service;
+
+import com.gotcha._global.config.ModerationProperties;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import com.gotcha.domain.moderation.repository.ContentFlagRepository;
+import com.gotcha.domain.moderation.repository.ScannableContent;
+import com.gotcha.domain.post.repository.PostCommentRepository;
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.review.repository.ReviewRepository;
+import com.gotcha.domain.user.service.ForbiddenWordMatcher;
+import com.gotcha.domain.user.service.ForbiddenWordService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리뷰/게시글/댓글 본문 금칙어 검사.
+ *
+ * 작성/수정 시 본문을 한 번 훑어 금칙어가 있으면 content_flags에 기록합니다 (작성은 막지 않음).
+ * 금칙어 목록이 바뀌면(ForbiddenWordService.rulesVersion 증가) 기존 콘텐츠를 id 순 keyset 페이지로 재검사해
+ * 새로 검출된 콘텐츠는 기록하고 더 이상 검출되지 않는 기록은 삭제합니다.
+ * 콘텐츠를 삭제할 때 기록도 함께 지우고, 일괄 삭제 등으로 남은 기록은 주기적으로 정리합니다.
+ */
+@Slf4j
+@Service
+public class ContentModerationService {
+
+    private final ForbiddenWordService forbiddenWordService;
+    private final ContentFlagRepository contentFlagRepository;
+    private final ReviewRepository reviewRepository;
+    private final PostRepository postRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final ModerationProperties moderationProperties;
+    private final Executor applicationTaskExecutor;
+
+    private final AtomicBoolean rescanning = new AtomicBoolean(false);
+    // 마지막으로 전체 재검사를 마친 금칙어 목록 버전 (시작 시점 목록 기준으로는 재검사하지 않음)
+    private volatile long scannedVersion;
+
+    public ContentModerationService(ForbiddenWordService forbiddenWordService,
+                                    ContentFlagRepository contentFlagRepository,
+                                    ReviewRepository reviewRepository,
+                                    PostRepository postRepository,
+                                    PostCommentRepository postCommentRepository,
+                                    ModerationProperties moderationProperties,
+                                    Executor applicationTaskExecutor) {
+        this.forbiddenWordService = forbiddenWordService;
+        this.contentFlagRepository = contentFlagRepository;
+        this.reviewRepository = reviewRepository;
+        this.postRepository = postRepository;
+        this.postCommentRepository = postCommentRepository;
+        this.moderationProperties = moderationProperties;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.scannedVersion = forbiddenWordService.rulesVersion();
+    }
+
+    /**
+     * 새로 작성된 콘텐츠 검사 (검출 시 기록)
+     * @return 금칙어 검출 여부
+     */
+    public boolean scanCreated(ModerationTargetType targetType, Long targetId, String content) {
+        if (!forbiddenWordService.currentMatcher().matches(content)) {
+            return false;
+        }
+        contentFlagRepository.insertIfAbsent(targetType.name(), targetId);
+        log.info("Forbidden word detected - targetType: {}, targetId: {}", targetType, targetId);
+        return true;
+    }
+
+    /**
+     * 수정된 콘텐츠 재검사 (검출 시 기록, 미검출 시 기존 기록 삭제)
+     * @return 금칙어 검출 여부
+     */
+    public boolean scanUpdated(ModerationTargetType targetType, Long targetId, String content) {
+        if (scanCreated(targetType, targetId, content)) {
+            return true;
+        }
+        contentFlagRepository.deleteByTargetTypeAndTargetIdIn(targetType, List.of(targetId));
+        return false;
+    }
+
+    /**
+     * 삭제되는 콘텐츠의 검출 기록 삭제 (콘텐츠 삭제와 같은 트랜잭션에서 호출)
+     */
+    public void clearFlags(ModerationTargetType targetType, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        contentFlagRepository.deleteByTargetTypeAndTargetIdIn(targetType, targetIds);
+    }
+
+    /**
+     * 삭제되는 게시글과 그 댓글의 검출 기록 삭제 (댓글 삭제 전에 호출)
+     */
+    public void clearPostFlags(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        contentFlagRepository.deleteCommentFlagsByPostIdIn(postIds);
+        contentFlagRepository.deleteByTargetTypeAndTargetIdIn(ModerationTargetType.POST, postIds);
+    }
+
+    /**
+     * 대상 콘텐츠가 삭제된 검출 기록 정리 (금칙어 목록 변경과 무관하게 주기 실행)
+     */
+    @Scheduled(
+            initialDelayString = "${moderation.orphan-sweep-interval-ms:3600000}",
+            fixedDelayString = "${moderation.orphan-sweep-interval-ms:3600000}"
+    )
+    public void deleteOrphans() {
+        try {
+            int orphans = contentFlagRepository.deleteOrphans();
+            if (orphans > 0) {
+                log.info("Orphan content flags removed - count: {}", orphans);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            log.error("Orphan content flag cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 금칙어 목록이 바뀌었으면 백그라운드에서 전체 재검사 시작
+     */
+    @Scheduled(
+            initialDelayString = "${moderation.reload-interval-ms:60000}",
+            fixedDelayString = "${moderation.reload-interval-ms:60000}"
+    )
+    public void rescanIfRulesChanged() {
+        long version = forbiddenWordService.rulesVersion();
+        if (version == scannedVersion || !rescanning.compareAndSet(false, true)) {
+            return;
+        }
+        applicationTaskExecutor.execute(() -> {
+            try {
+                rescanAll();
+                scannedVersion = version;
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                log.error("Content rescan failed - rulesVersion: {}, error: {}", version, e.getMessage());
+            } finally {
+                rescanning.set(false);
+            }
+        });
+    }
+
+    /**
+     * 리뷰/게시글/댓글 전체 재검사 (현재 매처 기준)
+     */
+    public void rescanAll() {
+        ForbiddenWordMatcher matcher = forbiddenWordService.currentMatcher();
+        long startedAt = System.currentTimeMillis();
+
+        int flagged = 0;
+        for (ModerationTargetType targetType : ModerationTargetType.values()) {
+            flagged += rescan(targetType, matcher);
+        }
+        int orphans = contentFlagRepository.deleteOrphans();
+
+        log.info("Content rescan completed - flagged: {}, orphansRemoved: {}, elapsedMs: {}",
+                flagged, orphans, System.currentTimeMillis() - startedAt);
+    }
+
+    private int rescan(ModerationTargetType targetType, ForbiddenWordMatcher matcher) {
+        Pageable pageable = PageRequest.of(0, moderationProperties.getRescanPageSize());
+        long lastId = 0L;
+        int flagged = 0;
+
+        List<ScannableContent> batch;
+        do {
+            batch = fetchBatch(targetType, lastId, pageable);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>(batch.size());
+            Set<Long> matched = new HashSet<>();
+            for (ScannableContent content : batch) {
+                ids.add(content.getId());
+                if (matcher.matches(content.getContent())) {
+                    matched.add(content.getId());
+                }
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            Set<Long> alreadyFlagged = new HashSet<>(contentFlagRepository.findFlaggedTargetIds(targetType, ids));
+            for (Long id : matched) {
+                if (!alreadyFlagged.contains(id)) {
+                    contentFlagRepository.insertIfAbsent(targetType.name(), id);
+                }
+            }
+            List<Long> cleared = alreadyFlagged.stream().filter(id -> !matched.contains(id)).toList();
+            if (!cleared.isEmpty()) {
+                contentFlagRepository.deleteByTargetTypeAndTargetIdIn(targetType, cleared);
+            }
+            flagged += matched.size();
+        } while (batch.size() == pageable.getPageSize());
+
+        return flagged;
+    }
+
+    private List<ScannableContent> fetchBatch(ModerationTargetType targetType, long lastId, Pageable pageable) {
+        return switch (targetType) {
+            case REVIEW -> reviewRepository.findContentBatch(lastId, pageable);
+            case POST -> postRepository.findContentBatch(lastId, pageable);
+            case POST_COMMENT -> postCommentRepository.findContentBatch(lastId, pageable);
+        };
+    }
+}
@@ -47,6 +47,15 @@ public class Post extends BaseTimeEntity {
     @ColumnDefault("true")
     private boolean isPublic;
 
+    // 좋아요/댓글 수 (PostCounterBuffer가 주기적으로 증감분 반영, 정합성 작업이 보정)
+    @Column(name = "like_count", nullable = false)
+    @ColumnDefault("0")
+    private long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
     @Builder
     public Post(User user, PostType type, Shop shop, String content, Boolean isPublic) {
         this.user = user;
@@ -3,6 +3,7 @@ package com.gotcha.domain.post.repository;
 import com.gotcha.domain.post.entity.PostCommentLike;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -45,4 +46,11 @@ public interface PostCommentLikeRepository extends JpaRepository<PostCommentLike
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM PostCommentLike pcl WHERE pcl.postComment.post.id IN :postIds")
     void deleteAllByPostIdIn(@Param("postIds") java.util.List<Long> postIds);
+
+    /**
+     * 탈퇴 청크 대상 id 조회 (삭제될 댓글 = 사용자 댓글 + 사용자 게시글의 댓글에 달린 좋아요)
+     */
+    @Query("SELECT pcl.id FROM PostCommentLike pcl "
+            + "WHERE pcl.postComment.user.id = :userId OR pcl.postComment.post.user.id = :userId ORDER BY pcl.id")
+    List<Long> findIdsByCommentOwnerOrPostOwner(@Param("userId") Long userId, Pageable pageable);
 }
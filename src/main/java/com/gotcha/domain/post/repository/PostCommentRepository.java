@@ -1,7 +1,9 @@
 package com.gotcha.domain.post.repository;
 
+import com.gotcha.domain.moderation.repository.ScannableContent;
 import com.gotcha.domain.post.entity.PostComment;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -34,6 +36,9 @@ public interface PostCommentRepository extends JpaRepository<PostComment, Long>
     @Query("UPDATE PostComment pc SET pc.parent = null WHERE pc.parent.user.id = :userId")
     void clearParentByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT DISTINCT pc.post.id FROM PostComment pc WHERE pc.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM PostComment pc WHERE pc.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
@@ -41,4 +46,34 @@ public interface PostCommentRepository extends JpaRepository<PostComment, Long>
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM PostComment pc WHERE pc.post.id IN :postIds")
     void deleteByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 금칙어 재검사용 본문 keyset 페이지 조회 (id 오름차순)
+     */
+    @Query("SELECT pc.id AS id, pc.content AS content FROM PostComment pc WHERE pc.id > :lastId ORDER BY pc.id")
+    List<ScannableContent> findContentBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 탈퇴 청크 대상 id 조회 (사용자 댓글 + 사용자 게시글의 댓글)
+     */
+    @Query("SELECT pc.id FROM PostComment pc WHERE pc.user.id = :userId OR pc.post.user.id = :userId ORDER BY pc.id")
+    List<Long> findIdsByUserIdOrPostUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 부모 댓글이 삭제될 댓글 id 조회 (삭제 전 parent 참조 해제용)
+     */
+    @Query("SELECT pc.id FROM PostComment pc "
+            + "WHERE pc.parent.user.id = :userId OR pc.parent.post.user.id = :userId ORDER BY pc.id")
+    List<Long> findIdsWithParentOwnedBy(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostComment pc SET pc.parent = null WHERE pc.id IN :ids")
+    int clearParentByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 삭제할 댓글의 게시글별 개수 (게시글 댓글 수 차감용)
+     */
+    @Query("SELECT pc.post.id AS postId, COUNT(pc) AS commentCount "
+            + "FROM PostComment pc WHERE pc.id IN :ids GROUP BY pc.post.id")
+    List<PostCommentCount> countPerPostByIdIn(@Param("ids") List<Long> ids);
 }
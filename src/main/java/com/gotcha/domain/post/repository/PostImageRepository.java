@@ -2,6 +2,7 @@ package com.gotcha.domain.post.repository;
 
 import com.gotcha.domain.post.entity.PostImage;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +18,13 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM PostImage pi WHERE pi.post.id = :postId")
     void deleteAllByPostId(@Param("postId") Long postId);
+
+    /**
+     * 탈퇴 청크 대상 id 조회
+     */
+    @Query("SELECT pi.id FROM PostImage pi WHERE pi.post.user.id = :userId ORDER BY pi.id")
+    List<Long> findIdsByPostUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT pi.imageUrl FROM PostImage pi WHERE pi.id IN :ids")
+    List<String> findImageUrlsByIdIn(@Param("ids") List<Long> ids);
 }
@@ -3,6 +3,7 @@ package com.gotcha.domain.post.repository;
 import com.gotcha.domain.post.entity.PostLike;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -30,4 +31,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
         Long getPostId();
         Long getLikeCount();
     }
+
+    /**
+     * 탈퇴 청크 대상 id 조회 (사용자 게시글에 달린 좋아요)
+     */
+    @Query("SELECT pl.id FROM PostLike pl WHERE pl.post.user.id = :userId ORDER BY pl.id")
+    List<Long> findIdsByPostUserId(@Param("userId") Long userId, Pageable pageable);
 }
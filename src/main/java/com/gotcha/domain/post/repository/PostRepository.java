@@ -1,5 +1,6 @@
 package com.gotcha.domain.post.repository;
 
+import com.gotcha.domain.moderation.repository.ScannableContent;
 import com.gotcha.domain.post.entity.Post;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -77,7 +79,104 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findAllByUserId(Long userId);
 
+    @EntityGraph(attributePaths = {"user", "type", "shop"})
+    @Query("SELECT p FROM Post p WHERE p.id IN :ids")
+    List<Post> findAllWithRelationsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 사용자가 since 이후 작성한 비공개 게시글 존재 여부 (인기글 랭킹 사용 가능 여부 판단)
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Post p "
+            + "WHERE p.user.id = :userId AND p.isPublic = false AND p.createdAt >= :since")
+    boolean existsPrivateByUserIdSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 인기글 랭킹 재구성 대상 (since 이후 작성된 공개 게시글)
+     */
+    @Query("SELECT p.id AS id, p.type.id AS typeId, p.likeCount AS likeCount, p.createdAt AS createdAt "
+            + "FROM Post p WHERE p.isPublic = true AND p.createdAt >= :since")
+    List<PopularPostCandidate> findPopularCandidates(@Param("since") LocalDateTime since);
+
+    interface PopularPostCandidate {
+        Long getId();
+        Long getTypeId();
+        Long getLikeCount();
+        LocalDateTime getCreatedAt();
+    }
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Post p WHERE p.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 좋아요/댓글 수 증감분 반영 (0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET "
+            + "p.likeCount = CASE WHEN p.likeCount + :likeDelta < 0 THEN 0 ELSE p.likeCount + :likeDelta END, "
+            + "p.commentCount = CASE WHEN p.commentCount + :commentDelta < 0 THEN 0 "
+            + "ELSE p.commentCount + :commentDelta END "
+            + "WHERE p.id = :postId")
+    int applyCounterDelta(@Param("postId") Long postId,
+                          @Param("likeDelta") long likeDelta,
+                          @Param("commentDelta") long commentDelta);
+
+    interface CounterDrift {
+        Long getId();
+        Long getLikeCount();
+        Long getCommentCount();
+        Long getActualLikeCount();
+        Long getActualCommentCount();
+    }
+
+    /**
+     * 실제 좋아요/댓글 행 수와 다른 카운터 조회
+     */
+    @Query("SELECT p.id AS id, p.likeCount AS likeCount, p.commentCount AS commentCount, "
+            + "(SELECT COUNT(pl) FROM PostLike pl WHERE pl.post = p) AS actualLikeCount, "
+            + "(SELECT COUNT(pc) FROM PostComment pc WHERE pc.post = p) AS actualCommentCount "
+            + "FROM Post p "
+            + "WHERE p.likeCount <> (SELECT COUNT(pl) FROM PostLike pl WHERE pl.post = p) "
+            + "OR p.commentCount <> (SELECT COUNT(pc) FROM PostComment pc WHERE pc.post = p)")
+    List<CounterDrift> findCounterDrifts();
+
+    /**
+     * 관측한 불일치가 그대로일 때만 카운터를 실제 행 수로 보정 (그 사이 변경이 있으면 보정하지 않음)
+     * @return 보정 여부
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE posts p SET like_count = :actualLikeCount, comment_count = :actualCommentCount "
+            + "WHERE p.id = :postId AND p.like_count = :likeCount AND p.comment_count = :commentCount "
+            + "AND (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id) = :actualLikeCount "
+            + "AND (SELECT COUNT(*) FROM post_comments pc WHERE pc.post_id = p.id) = :actualCommentCount",
+            nativeQuery = true)
+    int repairCounters(@Param("postId") Long postId,
+                       @Param("likeCount") long likeCount,
+                       @Param("commentCount") long commentCount,
+                       @Param("actualLikeCount") long actualLikeCount,
+                       @Param("actualCommentCount") long actualCommentCount);
+
+    /**
+     * 금칙어 재검사용 본문 keyset 페이지 조회 (id 오름차순)
+     */
+    @Query("SELECT p.id AS id, p.content AS content FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+    List<ScannableContent> findContentBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.user.id = :userId ORDER BY p.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.shop.id = :shopId ORDER BY p.id")
+    List<Long> findIdsByShopId(@Param("shopId") Long shopId, Pageable pageable);
+
+    /**
+     * 가게 삭제 시 게시글의 가게 참조 해제
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.shop = null WHERE p.id IN :ids")
+    int clearShopByIdIn(@Param("ids") List<Long> ids);
 }
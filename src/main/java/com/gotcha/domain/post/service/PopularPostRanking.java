@@ -0,0 +1,293 @@
+package com.gotcha.domain.post.service;
+
+import com.gotcha.domain.post.entity.Post;
+import com.gotcha.domain.post.entity.PostType;
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.post.repository.PostRepository.PopularPostCandidate;
+import com.gotcha.domain.post.repository.PostTypeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인기 게시글 랭킹 (Redis Sorted Set).
+ *
+ * 최근 7일 내 작성된 공개 게시글을 좋아요 수 점수로 전체/카테고리별 ZSET에 유지합니다.
+ * member는 0으로 채운 19자리 게시글 ID라서 동점일 때 역순 정렬이 최신 게시글(id DESC) 순서가 됩니다.
+ * 좋아요/게시글 변경은 커밋 이후 증분 반영하고(좋아요는 랭킹에 남아 있는 게시글만), 기간이 지난 게시글은 주기적으로 제거하며,
+ * 전체 재구성(posts.like_count 기준)으로 누락분을 보정합니다.
+ * 랭킹이 준비되지 않았거나 Redis 오류 시 호출자는 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+public class PopularPostRanking implements ApplicationRunner {
+
+    public static final int PERIOD_DAYS = 7;
+
+    private static final String KEY_PREFIX = "post:popular:";
+    private static final String ALL_KEY = KEY_PREFIX + "all";
+    private static final String TYPE_KEY_PREFIX = KEY_PREFIX + "type:";
+    // member: "{typeId}:{postId}", score: 작성 시각 (epoch second) - 기간 만료 제거용
+    private static final String CREATED_KEY = KEY_PREFIX + "created";
+    private static final String READY_KEY = KEY_PREFIX + "ready";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // KEYS[1] 작성 시각 ZSET, KEYS[2..] 랭킹 ZSET, ARGV: 작성 시각 member, 랭킹 member, 증감
+    // 삭제/기간 만료로 제거된 게시글이 다시 생기지 않도록 작성 시각이 남아 있고 랭킹에 있는 경우에만 증감
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = RedisScript.of("""
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+            for i = 2, #KEYS do
+                if redis.call('ZSCORE', KEYS[i], ARGV[2]) then
+                    redis.call('ZINCRBY', KEYS[i], ARGV[3], ARGV[2])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final PostTypeRepository postTypeRepository;
+    private final Duration readyTtl;
+
+    public PopularPostRanking(StringRedisTemplate redisTemplate,
+                              PostRepository postRepository,
+                              PostTypeRepository postTypeRepository,
+                              @Value("${post.popular.rebuild-interval-ms:3600000}") long rebuildIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.postTypeRepository = postTypeRepository;
+        // 재구성이 두 번 연속 누락되면 랭킹을 사용하지 않음
+        this.readyTtl = Duration.ofMillis(rebuildIntervalMs * 2);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to build popular post ranking on startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 기준 전체 재구성 (임시 키에 작성 후 RENAME으로 교체)
+     */
+    @Scheduled(
+            initialDelayString = "${post.popular.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${post.popular.rebuild-interval-ms:3600000}"
+    )
+    public void rebuild() {
+        List<PopularPostCandidate> candidates = postRepository.findPopularCandidates(windowStart());
+
+        Map<String, Set<TypedTuple<String>>> scopes = new HashMap<>();
+        scopes.put(ALL_KEY, new HashSet<>());
+        for (PostType type : postTypeRepository.findAll()) {
+            scopes.put(typeKey(type.getId()), new HashSet<>());
+        }
+        Set<TypedTuple<String>> created = new HashSet<>();
+
+        for (PopularPostCandidate candidate : candidates) {
+            String member = member(candidate.getId());
+            double score = candidate.getLikeCount();
+            scopes.get(ALL_KEY).add(new DefaultTypedTuple<>(member, score));
+            scopes.computeIfAbsent(typeKey(candidate.getTypeId()), key -> new HashSet<>())
+                    .add(new DefaultTypedTuple<>(member, score));
+            created.add(new DefaultTypedTuple<>(
+                    createdMember(candidate.getTypeId(), candidate.getId()), epochSecond(candidate.getCreatedAt())));
+        }
+        scopes.put(CREATED_KEY, created);
+
+        scopes.forEach(this::replace);
+        redisTemplate.opsForValue().set(READY_KEY, "1", readyTtl);
+        log.info("Popular post ranking rebuilt - posts: {}", candidates.size());
+    }
+
+    /**
+     * 기간(7일)이 지난 게시글을 랭킹에서 제거
+     */
+    @Scheduled(fixedDelayString = "${post.popular.prune-interval-ms:300000}")
+    public void pruneExpired() {
+        try {
+            double until = epochSecond(windowStart());
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(CREATED_KEY, Double.NEGATIVE_INFINITY, until);
+            if (expired == null || expired.isEmpty()) {
+                return;
+            }
+            for (String createdMember : expired) {
+                int separator = createdMember.indexOf(':');
+                Long typeId = Long.valueOf(createdMember.substring(0, separator));
+                String member = createdMember.substring(separator + 1);
+                redisTemplate.opsForZSet().remove(ALL_KEY, member);
+                redisTemplate.opsForZSet().remove(typeKey(typeId), member);
+            }
+            redisTemplate.opsForZSet().removeRangeByScore(CREATED_KEY, Double.NEGATIVE_INFINITY, until);
+        } catch (Exception e) {
+            log.warn("Failed to prune popular post ranking: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 랭킹 페이지 조회
+     * @return 랭킹을 사용할 수 없으면 empty
+     */
+    public Optional<RankedPage> findPage(Long typeId, int page, int size) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                return Optional.empty();
+            }
+            long start = (long) page * size;
+            // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+            Set<String> members = redisTemplate.opsForZSet()
+                    .reverseRange(typeId != null ? typeKey(typeId) : ALL_KEY, start, start + size);
+            if (members == null) {
+                return Optional.empty();
+            }
+            List<Long> postIds = members.stream().map(Long::valueOf).toList();
+            boolean hasNext = postIds.size() > size;
+            return Optional.of(new RankedPage(hasNext ? postIds.subList(0, size) : postIds, hasNext));
+        } catch (Exception e) {
+            log.warn("Popular post ranking unavailable, falling back to DB: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void onPostCreated(Post post) {
+        if (!post.isPublic()) {
+            return;
+        }
+        Long postId = post.getId();
+        Long typeId = post.getType().getId();
+        double createdAt = epochSecond(post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now());
+        runAfterCommit(() -> {
+            String member = member(postId);
+            redisTemplate.opsForZSet().add(ALL_KEY, member, 0);
+            redisTemplate.opsForZSet().add(typeKey(typeId), member, 0);
+            redisTemplate.opsForZSet().add(CREATED_KEY, createdMember(typeId, postId), createdAt);
+        });
+    }
+
+    public void onPostTypeChanged(Post post, Long previousTypeId) {
+        Long typeId = post.getType().getId();
+        if (!post.isPublic() || typeId.equals(previousTypeId)) {
+            return;
+        }
+        Long postId = post.getId();
+        runAfterCommit(() -> {
+            String member = member(postId);
+            Double score = redisTemplate.opsForZSet().score(ALL_KEY, member);
+            Double createdAt = redisTemplate.opsForZSet().score(CREATED_KEY, createdMember(previousTypeId, postId));
+            if (score == null || createdAt == null) {
+                return;
+            }
+            redisTemplate.opsForZSet().remove(typeKey(previousTypeId), member);
+            redisTemplate.opsForZSet().add(typeKey(typeId), member, score);
+            redisTemplate.opsForZSet().remove(CREATED_KEY, createdMember(previousTypeId, postId));
+            redisTemplate.opsForZSet().add(CREATED_KEY, createdMember(typeId, postId), createdAt);
+        });
+    }
+
+    public void onPostsDeleted(List<Post> posts) {
+        List<PostKey> targets = posts.stream()
+                .map(post -> new PostKey(post.getId(), post.getType().getId()))
+                .toList();
+        runAfterCommit(() -> {
+            for (PostKey target : targets) {
+                String member = member(target.postId());
+                redisTemplate.opsForZSet().remove(ALL_KEY, member);
+                redisTemplate.opsForZSet().remove(typeKey(target.typeId()), member);
+                redisTemplate.opsForZSet().remove(CREATED_KEY, createdMember(target.typeId(), target.postId()));
+            }
+        });
+    }
+
+    public void onLikeChanged(Post post, long delta) {
+        if (!post.isPublic() || post.getCreatedAt() == null || post.getCreatedAt().isBefore(windowStart())) {
+            return;
+        }
+        Long postId = post.getId();
+        Long typeId = post.getType().getId();
+        runAfterCommit(() -> redisTemplate.execute(INCREMENT_IF_PRESENT,
+                List.of(CREATED_KEY, ALL_KEY, typeKey(typeId)),
+                createdMember(typeId, postId), member(postId), String.valueOf(delta)));
+    }
+
+    public static LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(PERIOD_DAYS);
+    }
+
+    private void replace(String key, Set<TypedTuple<String>> tuples) {
+        if (tuples.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String tempKey = key + ":rebuild";
+        redisTemplate.delete(tempKey);
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("Failed to update popular post ranking: {}", e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+
+    private static String typeKey(Long typeId) {
+        return TYPE_KEY_PREFIX + typeId;
+    }
+
+    private static String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+
+    private static String createdMember(Long typeId, Long postId) {
+        return typeId + ":" + member(postId);
+    }
+
+    private static double epochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toEpochSecond();
+    }
+
+    private record PostKey(Long postId, Long typeId) {
+    }
+
+    /**
+     * 랭킹 페이지 (순위 순 게시글 ID)
+     */
+    public record RankedPage(List<Long> postIds, boolean hasNext) {
+    }
+}
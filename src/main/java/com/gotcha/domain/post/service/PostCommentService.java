@@ -1,6 +1,8 @@
 package com.gotcha.domain.post.service;
 
 import com.gotcha._global.util.SecurityUtil;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import com.gotcha.domain.moderation.service.ContentModerationService;
 import com.gotcha.domain.post.dto.CreatePostCommentRequest;
 import com.gotcha.domain.post.dto.PostCommentResponse;
 import com.gotcha.domain.post.entity.Post;
@@ -26,6 +28,8 @@ public class PostCommentService {
     private final PostCommentLikeRepository postCommentLikeRepository;
     private final PostRepository postRepository;
     private final SecurityUtil securityUtil;
+    private final PostCounterBuffer postCounterBuffer;
+    private final ContentModerationService contentModerationService;
 
     @Transactional
     public PostCommentResponse createComment(Long postId, CreatePostCommentRequest request) {
@@ -61,6 +65,9 @@ public class PostCommentService {
                 .isAnonymous(request.isAnonymous())
                 .build();
         postCommentRepository.save(comment);
+        postCounterBuffer.addComment(postId, 1);
+        contentModerationService.scanCreated(
+                ModerationTargetType.POST_COMMENT, comment.getId(), comment.getContent());
 
         log.info("Post comment created - postId: {}, userId: {}, parentId: {}",
                 postId, currentUser.getId(), request.parentId());
@@ -84,18 +91,23 @@ public class PostCommentService {
         }
 
         // 최상위 댓글인 경우: 대댓글 + 그 좋아요도 함께 삭제
+        int deletedCount = 1;
         if (comment.getParent() == null) {
             List<PostComment> replies = postCommentRepository.findAllByParentId(commentId);
             if (!replies.isEmpty()) {
+                deletedCount += replies.size();
                 List<Long> replyIds = replies.stream().map(PostComment::getId).toList();
                 postCommentLikeRepository.deleteAllByPostCommentIdIn(replyIds);
+                contentModerationService.clearFlags(ModerationTargetType.POST_COMMENT, replyIds);
                 postCommentRepository.deleteAllByParentId(commentId);
             }
         }
 
-        // 댓글 좋아요 삭제 후 댓글 삭제
+        // 댓글 좋아요, 금칙어 검출 기록 삭제 후 댓글 삭제
         postCommentLikeRepository.deleteAllByPostCommentId(commentId);
+        contentModerationService.clearFlags(ModerationTargetType.POST_COMMENT, List.of(commentId));
         postCommentRepository.delete(comment);
+        postCounterBuffer.addComment(postId, -deletedCount);
 
         log.info("Post comment deleted - commentId: {}, userId: {}", commentId, currentUser.getId());
     }
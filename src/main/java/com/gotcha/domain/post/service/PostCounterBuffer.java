@@ -0,0 +1,143 @@
+package com.gotcha.domain.post.service;
+
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.post.repository.PostRepository.CounterDrift;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 좋아요/댓글 수 write-behind 버퍼.
+ *
+ * 좋아요/댓글 변경은 커밋 이후 게시글별 증감분으로 메모리에 합산하고,
+ * 주기적으로 게시글당 UPDATE 한 번으로 posts.like_count / comment_count에 반영합니다.
+ * 인기 게시글에 변경이 몰려도 같은 행에 대한 갱신 경합은 flush 주기당 한 번으로 줄어듭니다.
+ * 반영 누락/중복으로 인한 오차는 정합성 작업(reconcile)이 실제 행 수 기준으로 보정합니다.
+ *
+ * 커밋되었지만 아직 반영되지 않은 증감분(이 노드 또는 다른 노드의 버퍼)이 있는 동안에는 행 수와 카운터가 잠시 어긋나므로,
+ * 이 상태에서 행 수로 덮어쓰면 이후 증감분이 한 번 더 반영됩니다. 그래서 정합성 작업은 불일치를 관측만 해 두고,
+ * 다음 작업에서 카운터와 행 수가 모두 그대로인(그 사이 변경이 없어 반영 대기 중인 증감분이 없는) 게시글만 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterBuffer {
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Delta> deltas = new ConcurrentHashMap<>();
+
+    // 직전 정합성 작업에서 관측한 불일치
+    private Map<Long, Observation> observedDrifts = Map.of();
+
+    public void addLike(Long postId, long delta) {
+        runAfterCommit(() -> deltas.merge(postId, new Delta(delta, 0), Delta::plus));
+    }
+
+    public void addComment(Long postId, long delta) {
+        runAfterCommit(() -> deltas.merge(postId, new Delta(0, delta), Delta::plus));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 증감분
+     */
+    public long pendingLikes(Long postId) {
+        Delta delta = deltas.get(postId);
+        return delta != null ? delta.likes() : 0;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 댓글 증감분
+     */
+    public long pendingComments(Long postId) {
+        Delta delta = deltas.get(postId);
+        return delta != null ? delta.comments() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${post.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        for (Long postId : deltas.keySet()) {
+            Delta delta = deltas.remove(postId);
+            if (delta == null || delta.isZero()) {
+                continue;
+            }
+            try {
+                postRepository.applyCounterDelta(postId, delta.likes(), delta.comments());
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영
+                deltas.merge(postId, delta, Delta::plus);
+                log.warn("Failed to flush post counters - postId: {}, error: {}", postId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 실제 좋아요/댓글 행 수 기준으로 카운터 보정 (버퍼를 먼저 비운 뒤 실행)
+     * 직전 작업과 같은 불일치가 그대로 남아 있는 게시글만 조건부로 보정합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${post.counter.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${post.counter.reconcile-interval-ms:3600000}"
+    )
+    public synchronized void reconcile() {
+        flush();
+        Map<Long, Observation> previous = observedDrifts;
+        Map<Long, Observation> current = new HashMap<>();
+        int repaired = 0;
+
+        for (CounterDrift drift : postRepository.findCounterDrifts()) {
+            Observation observation = Observation.of(drift);
+            boolean stable = observation.equals(previous.get(drift.getId())) && !deltas.containsKey(drift.getId());
+            if (stable && postRepository.repairCounters(drift.getId(),
+                    observation.likeCount(), observation.commentCount(),
+                    observation.actualLikeCount(), observation.actualCommentCount()) > 0) {
+                repaired++;
+                continue;
+            }
+            current.put(drift.getId(), observation);
+        }
+
+        observedDrifts = current;
+        if (repaired > 0) {
+            log.warn("Post counter drift repaired - posts: {}", repaired);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Delta(long likes, long comments) {
+
+        Delta plus(Delta other) {
+            return new Delta(likes + other.likes, comments + other.comments);
+        }
+
+        boolean isZero() {
+            return likes == 0 && comments == 0;
+        }
+    }
+
+    private record Observation(long likeCount, long commentCount, long actualLikeCount, long actualCommentCount) {
+
+        static Observation of(CounterDrift drift) {
+            return new Observation(drift.getLikeCount(), drift.getCommentCount(),
+                    drift.getActualLikeCount(), drift.getActualCommentCount());
+        }
+    }
+}
@@ -23,6 +23,8 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final SecurityUtil securityUtil;
+    private final PostCounterBuffer postCounterBuffer;
+    private final PopularPostRanking popularPostRanking;
 
     @Transactional
     public PostLikeResponse addLike(Long postId) {
@@ -43,6 +45,8 @@ public class PostLikeService {
         } catch (DataIntegrityViolationException e) {
             throw PostException.alreadyLiked();
         }
+        postCounterBuffer.addLike(postId, 1);
+        popularPostRanking.onLikeChanged(post, 1);
 
         log.info("Post like added - userId: {}, postId: {}", currentUser.getId(), postId);
         return PostLikeResponse.of(postId, true);
@@ -52,14 +56,15 @@ public class PostLikeService {
     public PostLikeResponse removeLike(Long postId) {
         User currentUser = securityUtil.getCurrentUser();
 
-        if (!postRepository.existsById(postId)) {
-            throw PostException.notFound();
-        }
+        Post post = postRepository.findById(postId)
+                .orElseThrow(PostException::notFound);
 
         PostLike postLike = postLikeRepository.findByUserIdAndPostId(currentUser.getId(), postId)
                 .orElseThrow(PostException::likeNotFound);
 
         postLikeRepository.delete(postLike);
+        postCounterBuffer.addLike(postId, -1);
+        popularPostRanking.onLikeChanged(post, -1);
 
         log.info("Post like removed - userId: {}, postId: {}", currentUser.getId(), postId);
         return PostLikeResponse.of(postId, false);
@@ -3,6 +3,8 @@ package com.gotcha.domain.post.service;
 import com.gotcha._global.common.PageResponse;
 import com.gotcha._global.util.SecurityUtil;
 import com.gotcha.domain.file.service.FileStorageService;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import com.gotcha.domain.moderation.service.ContentModerationService;
 import com.gotcha.domain.post.dto.CreatePostRequest;
 import com.gotcha.domain.post.dto.PostCommentDetailResponse;
 import com.gotcha.domain.post.dto.PostCursorResponse;
@@ -25,12 +27,14 @@ import com.gotcha.domain.post.repository.PostImageRepository;
 import com.gotcha.domain.post.repository.PostLikeRepository;
 import com.gotcha.domain.post.repository.PostRepository;
 import com.gotcha.domain.post.repository.PostTypeRepository;
+import com.gotcha.domain.user.dto.UserStatusSnapshot;
 import com.gotcha.domain.user.entity.User;
-import com.gotcha.domain.user.entity.UserType;
 import com.gotcha.domain.user.repository.UserRepository;
+import com.gotcha.domain.user.service.UserStatusService;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.security.core.Authentication;
@@ -49,7 +53,6 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostService {
 
     private static final int MAX_PAGE_SIZE = 500;
-    private static final int POPULAR_PERIOD_DAYS = 7;
 
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
@@ -60,7 +63,11 @@ public class PostService {
     private final FileStorageService fileStorageService;
     private final SecurityUtil securityUtil;
     private final UserRepository userRepository;
+    private final UserStatusService userStatusService;
     private final ShopRepository shopRepository;
+    private final PostCounterBuffer postCounterBuffer;
+    private final PopularPostRanking popularPostRanking;
+    private final ContentModerationService contentModerationService;
 
     private static final int MAX_IMAGES = 5;
 
@@ -97,8 +104,10 @@ public class PostService {
                 .isPublic(request.isPublic())
                 .build();
         postRepository.save(post);
+        contentModerationService.scanCreated(ModerationTargetType.POST, post.getId(), post.getContent());
 
         log.info("Post created with ID: {}", post.getId());
+        popularPostRanking.onPostCreated(post);
 
         // 6. 이미지 저장
         if (request.imageUrls() != null && !request.imageUrls().isEmpty()) {
@@ -200,7 +209,19 @@ public class PostService {
 
         Long currentUserId = getCurrentUserIdOrNull();
         boolean isAdmin = isCurrentUserAdmin(currentUserId);
-        LocalDateTime since = LocalDateTime.now().minusDays(POPULAR_PERIOD_DAYS);
+        LocalDateTime since = PopularPostRanking.windowStart();
+
+        // 랭킹은 공개 게시글만 담으므로, 비공개 글이 보이는 사용자(ADMIN, 기간 내 비공개 글 작성자)는 DB 조회
+        boolean seesPrivatePosts = isAdmin
+                || (currentUserId != null && postRepository.existsPrivateByUserIdSince(currentUserId, since));
+        if (!seesPrivatePosts) {
+            Optional<PopularPostRanking.RankedPage> ranked =
+                    popularPostRanking.findPage(typeId, effectivePage, effectiveSize);
+            if (ranked.isPresent()) {
+                List<Post> posts = findRankedPosts(ranked.get().postIds(), since);
+                return PostCursorResponse.of(toListItems(posts, currentUserId), ranked.get().hasNext());
+            }
+        }
 
         Page<Post> postPage = postRepository.findPopularPosts(typeId, currentUserId, isAdmin, since, pageable);
         List<Post> pageContent = postPage.getContent();
@@ -209,38 +230,7 @@ public class PostService {
             return PostCursorResponse.of(List.of(), false);
         }
 
-        List<Long> postIds = pageContent.stream().map(Post::getId).toList();
-
-        Map<Long, List<PostImage>> imageMap = postImageRepository
-                .findAllByPostIdInOrderByDisplayOrder(postIds)
-                .stream()
-                .collect(Collectors.groupingBy(img -> img.getPost().getId()));
-
-        Map<Long, Long> likeCountMap = postLikeRepository.countByPostIdIn(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        PostLikeRepository.PostLikeCount::getPostId,
-                        PostLikeRepository.PostLikeCount::getLikeCount
-                ));
-
-        Map<Long, Long> commentCountMap = postCommentRepository.countByPostIdIn(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        PostCommentRepository.PostCommentCount::getPostId,
-                        PostCommentRepository.PostCommentCount::getCommentCount
-                ));
-
-        List<PostListItemResponse> content = pageContent.stream()
-                .map(post -> PostListItemResponse.of(
-                        post,
-                        imageMap.getOrDefault(post.getId(), List.of()),
-                        likeCountMap.getOrDefault(post.getId(), 0L),
-                        commentCountMap.getOrDefault(post.getId(), 0L),
-                        currentUserId
-                ))
-                .toList();
-
-        return PostCursorResponse.of(content, postPage.hasNext());
+        return PostCursorResponse.of(toListItems(pageContent, currentUserId), postPage.hasNext());
     }
 
     public PostCursorResponse getPostsByCursor(Long typeId, Long cursor, int size) {
@@ -258,38 +248,7 @@ public class PostService {
             return PostCursorResponse.of(List.of(), false);
         }
 
-        List<Long> postIds = pageContent.stream().map(Post::getId).toList();
-
-        Map<Long, List<PostImage>> imageMap = postImageRepository
-                .findAllByPostIdInOrderByDisplayOrder(postIds)
-                .stream()
-                .collect(Collectors.groupingBy(img -> img.getPost().getId()));
-
-        Map<Long, Long> likeCountMap = postLikeRepository.countByPostIdIn(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        PostLikeRepository.PostLikeCount::getPostId,
-                        PostLikeRepository.PostLikeCount::getLikeCount
-                ));
-
-        Map<Long, Long> commentCountMap = postCommentRepository.countByPostIdIn(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        PostCommentRepository.PostCommentCount::getPostId,
-                        PostCommentRepository.PostCommentCount::getCommentCount
-                ));
-
-        List<PostListItemResponse> content = pageContent.stream()
-                .map(post -> PostListItemResponse.of(
-                        post,
-                        imageMap.getOrDefault(post.getId(), List.of()),
-                        likeCountMap.getOrDefault(post.getId(), 0L),
-                        commentCountMap.getOrDefault(post.getId(), 0L),
-                        currentUserId
-                ))
-                .toList();
-
-        return PostCursorResponse.of(content, hasNext);
+        return PostCursorResponse.of(toListItems(pageContent, currentUserId), hasNext);
     }
 
     public PageResponse<PostListItemResponse> getPosts(Long typeId, Pageable pageable) {
@@ -300,43 +259,8 @@ public class PostService {
                 ? postRepository.findVisibleByTypeId(typeId, currentUserId, isAdmin, pageable)
                 : postRepository.findVisibleAll(currentUserId, isAdmin, pageable);
 
-        List<Long> postIds = postPage.getContent().stream().map(Post::getId).toList();
-
-        if (postIds.isEmpty()) {
-            return PageResponse.from(postPage, List.of());
-        }
-
-        // 2. N+1 방지: 이미지 일괄 조회
-        Map<Long, List<PostImage>> imageMap = postImageRepository
-                .findAllByPostIdInOrderByDisplayOrder(postIds)
-                .stream()
-                .collect(Collectors.groupingBy(img -> img.getPost().getId()));
-
-        // 3. N+1 방지: 좋아요 수 일괄 조회
-        Map<Long, Long> likeCountMap = postLikeRepository.countByPostIdIn(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        PostLikeRepository.PostLikeCount::getPostId,
-                        PostLikeRepository.PostLikeCount::getLikeCount
-                ));
-
-        // 4. N+1 방지: 댓글 수 일괄 조회
-        Map<Long, Long> commentCountMap = postCommentRepository.countByPostIdIn(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        PostCommentRepository.PostCommentCount::getPostId,
-                        PostCommentRepository.PostCommentCount::getCommentCount
-                ));
-
-        List<PostListItemResponse> content = postPage.getContent().stream()
-                .map(post -> PostListItemResponse.of(
-                        post,
-                        imageMap.getOrDefault(post.getId(), List.of()),
-                        likeCountMap.getOrDefault(post.getId(), 0L),
-                        commentCountMap.getOrDefault(post.getId(), 0L),
-                        currentUserId
-                ))
-                .toList();
+        // 2. 목록 응답 조립 (이미지 일괄 조회 + 게시글 행의 좋아요/댓글 수)
+        List<PostListItemResponse> content = toListItems(postPage.getContent(), currentUserId);
 
         return PageResponse.from(postPage, content);
     }
@@ -370,7 +294,10 @@ public class PostService {
         }
 
         // 6. 게시글 본문/카테고리/매장 갱신
+        Long previousTypeId = post.getType().getId();
         post.update(postType, shop, request.content());
+        contentModerationService.scanUpdated(ModerationTargetType.POST, postId, request.content());
+        popularPostRanking.onPostTypeChanged(post, previousTypeId);
 
         // 7. 이미지 교체: 기존 이미지 S3 + DB 삭제 후 신규 저장
         List<PostImage> oldImages = postImageRepository.findAllByPostIdOrderByDisplayOrder(postId);
@@ -395,13 +322,12 @@ public class PostService {
 
     @Transactional
     public void deletePost(Long postId) {
-        User currentUser = securityUtil.getCurrentUser();
+        UserStatusSnapshot currentUser = securityUtil.getCurrentUserStatus();
 
         Post post = postRepository.findById(postId)
                 .orElseThrow(PostException::notFound);
 
-        boolean isAdmin = currentUser.getUserType() == UserType.ADMIN;
-        if (!isAdmin && !post.getUser().getId().equals(currentUser.getId())) {
+        if (!currentUser.hasAdminRole() && !post.getUser().getId().equals(currentUser.userId())) {
             throw PostException.unauthorized();
         }
 
@@ -419,16 +345,74 @@ public class PostService {
         // 2. 댓글 좋아요 삭제
         postCommentLikeRepository.deleteAllByPostIdIn(List.of(postId));
 
-        // 3. 댓글/대댓글 삭제
+        // 3. 금칙어 검출 기록 삭제 (게시글 + 댓글, 댓글 삭제 전)
+        contentModerationService.clearPostFlags(List.of(postId));
+
+        // 4. 댓글/대댓글 삭제
         postCommentRepository.deleteByPostIdIn(List.of(postId));
 
-        // 4. 게시글 좋아요 삭제
+        // 5. 게시글 좋아요 삭제
         postLikeRepository.deleteAllByPostId(postId);
 
-        // 5. 게시글 삭제
+        // 6. 게시글 삭제
         postRepository.delete(post);
+        popularPostRanking.onPostsDeleted(List.of(post));
+
+        log.info("Post deleted - postId: {}, deletedBy: {}", postId, currentUser.userId());
+    }
+
+    /**
+     * 랭킹 순서대로 게시글 조회 (삭제/비공개/기간 만료 게시글 제외)
+     */
+    private List<Post> findRankedPosts(List<Long> postIds, LocalDateTime since) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> postMap = postRepository.findAllWithRelationsByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null && post.isPublic() && !post.getCreatedAt().isBefore(since))
+                .toList();
+    }
+
+    /**
+     * 목록 응답 조립 (N+1 방지: 이미지 일괄 조회, 좋아요/댓글 수는 게시글 행의 카운터 사용)
+     */
+    private List<PostListItemResponse> toListItems(List<Post> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        Map<Long, List<PostImage>> imageMap = postImageRepository
+                .findAllByPostIdInOrderByDisplayOrder(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(img -> img.getPost().getId()));
+
+        return posts.stream()
+                .map(post -> PostListItemResponse.of(
+                        post,
+                        imageMap.getOrDefault(post.getId(), List.of()),
+                        likeCountOf(post),
+                        commentCountOf(post),
+                        currentUserId
+                ))
+                .toList();
+    }
+
+    /**
+     * 게시글 행의 좋아요 수 + 아직 반영되지 않은 증감분
+     */
+    private long likeCountOf(Post post) {
+        return Math.max(0, post.getLikeCount() + postCounterBuffer.pendingLikes(post.getId()));
+    }
 
-        log.info("Post deleted - postId: {}, deletedBy: {}", postId, currentUser.getId());
+    /**
+     * 게시글 행의 댓글 수 + 아직 반영되지 않은 증감분
+     */
+    private long commentCountOf(Post post) {
+        return Math.max(0, post.getCommentCount() + postCounterBuffer.pendingComments(post.getId()));
     }
 
     private Long getCurrentUserIdOrNull() {
@@ -453,9 +437,8 @@ public class PostService {
         if (currentUserId == null) {
             return false;
         }
-        return userRepository.findById(currentUserId)
-                .map(u -> u.getUserType() == UserType.ADMIN)
-                .orElse(false);
+        UserStatusSnapshot snapshot = userStatusService.getSnapshot(currentUserId);
+        return snapshot != null && snapshot.hasAdminRole();
     }
 
     public List<PostShopInfo> searchShopsForPost(String keyword) {
@@ -476,6 +459,7 @@ public class PostService {
                     .imageUrl(imageUrls.get(i))
                     .displayOrder(i)
                     .build());
+            fileStorageService.claimFile(imageUrls.get(i));
         }
     }
 }
@@ -2,9 +2,12 @@ package com.gotcha.domain.push.controller;
 
 import com.gotcha._global.common.ApiResponse;
 import com.gotcha._global.util.SecurityUtil;
+import com.gotcha.domain.push.dto.PushBroadcastStatusResponse;
 import com.gotcha.domain.push.service.PushNotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -27,4 +30,16 @@ public class PushTestController {
         pushNotificationService.sendToUser(userId, title, body, "/");
         return ApiResponse.success(null);
     }
+
+    @PostMapping("/broadcast")
+    public ApiResponse<PushBroadcastStatusResponse> broadcast(
+            @RequestParam(defaultValue = "GOTCHA 테스트") String title,
+            @RequestParam(defaultValue = "전체 발송 테스트입니다!") String body) {
+        return ApiResponse.success(pushNotificationService.sendToAll(title, body, "/"));
+    }
+
+    @GetMapping("/broadcast/{jobId}")
+    public ApiResponse<PushBroadcastStatusResponse> getBroadcastStatus(@PathVariable String jobId) {
+        return ApiResponse.success(pushNotificationService.getBroadcastStatus(jobId));
+    }
 }
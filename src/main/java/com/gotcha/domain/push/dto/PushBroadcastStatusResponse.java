@@ -0,0 +1,62 @@
+package com.gotcha.domain.push.dto;
+
+import com.gotcha.domain.push.service.PushBroadcastJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "전체 푸시 발송 진행 상황")
+public record PushBroadcastStatusResponse(
+
+    @Schema(description = "발송 작업 ID", example = "3f2b8c1e-6a7d-4e0f-9b1a-2c3d4e5f6a7b")
+    String jobId,
+
+    @Schema(description = "상태 (RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+    String status,
+
+    @Schema(description = "시작 시각")
+    LocalDateTime startedAt,
+
+    @Schema(description = "종료 시각 (진행 중이면 null)")
+    LocalDateTime finishedAt,
+
+    @Schema(description = "Web Push 대상 수 (현재까지 조회된 구독)", example = "1200")
+    int webPushTargets,
+
+    @Schema(description = "Web Push 발송 성공 수", example = "1100")
+    int webPushSent,
+
+    @Schema(description = "Web Push 발송 실패 수", example = "30")
+    int webPushFailed,
+
+    @Schema(description = "만료된 Web Push 구독 수 (404/410)", example = "70")
+    int webPushExpired,
+
+    @Schema(description = "APNS 대상 수 (현재까지 조회된 iOS 기기)", example = "500")
+    int apnsTargets,
+
+    @Schema(description = "APNS 발송 성공 수", example = "480")
+    int apnsSent,
+
+    @Schema(description = "APNS 발송 실패 수", example = "5")
+    int apnsFailed,
+
+    @Schema(description = "유효하지 않은 APNS 토큰 수", example = "15")
+    int apnsInvalid
+) {
+    public static PushBroadcastStatusResponse from(PushBroadcastJob job) {
+        return new PushBroadcastStatusResponse(
+                job.getJobId(),
+                job.getStatus().name(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getWebPushTargets().get(),
+                job.getWebPushSent().get(),
+                job.getWebPushFailed().get(),
+                job.getWebPushExpired().get(),
+                job.getApnsTargets().get(),
+                job.getApnsSent().get(),
+                job.getApnsFailed().get(),
+                job.getApnsInvalid().get()
+        );
+    }
+}
@@ -16,7 +16,8 @@ public enum PushErrorCode implements ErrorCode {
     PUSH_SEND_FAILED(INTERNAL_SERVER_ERROR, "P002", "푸시 알림 발송에 실패했습니다"),
     VAPID_KEY_NOT_CONFIGURED(INTERNAL_SERVER_ERROR, "P003", "VAPID 키가 설정되지 않았습니다"),
     DEVICE_TOKEN_NOT_FOUND(NOT_FOUND, "P004", "기기 토큰을 찾을 수 없습니다"),
-    APNS_SEND_FAILED(INTERNAL_SERVER_ERROR, "P005", "APNS 알림 발송에 실패했습니다");
+    APNS_SEND_FAILED(INTERNAL_SERVER_ERROR, "P005", "APNS 알림 발송에 실패했습니다"),
+    BROADCAST_JOB_NOT_FOUND(NOT_FOUND, "P006", "발송 작업을 찾을 수 없습니다");
 
     private final HttpStatus status;
     private final String code;
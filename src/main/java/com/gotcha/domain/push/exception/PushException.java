@@ -40,4 +40,8 @@ public class PushException extends BusinessException {
     public static PushException apnsSendFailed(String reason) {
         return new PushException(PushErrorCode.APNS_SEND_FAILED, reason);
     }
+
+    public static PushException broadcastJobNotFound(String jobId) {
+        return new PushException(PushErrorCode.BROADCAST_JOB_NOT_FOUND, "jobId: " + jobId);
+    }
 }
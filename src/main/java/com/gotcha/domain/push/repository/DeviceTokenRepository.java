@@ -4,6 +4,7 @@ import com.gotcha.domain.push.entity.DevicePlatform;
 import com.gotcha.domain.push.entity.DeviceToken;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -21,6 +22,14 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
 
     List<DeviceToken> findAllByPlatform(DevicePlatform platform);
 
+    /**
+     * 전체 발송용 keyset 페이지 조회 (id > lastId, id 오름차순)
+     */
+    @Query("SELECT d FROM DeviceToken d WHERE d.platform = :platform AND d.id > :lastId ORDER BY d.id ASC")
+    List<DeviceToken> findNextBatchByPlatform(@Param("platform") DevicePlatform platform,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM DeviceToken d WHERE d.user.id = :userId AND d.deviceToken = :deviceToken")
     void deleteByUserIdAndDeviceToken(@Param("userId") Long userId, @Param("deviceToken") String deviceToken);
@@ -3,6 +3,7 @@ package com.gotcha.domain.push.repository;
 import com.gotcha.domain.push.entity.PushSubscription;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +17,12 @@ public interface PushSubscriptionRepository extends JpaRepository<PushSubscripti
 
     List<PushSubscription> findAllByUserId(Long userId);
 
+    /**
+     * 전체 발송용 keyset 페이지 조회 (id > lastId, id 오름차순)
+     */
+    @Query("SELECT p FROM PushSubscription p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<PushSubscription> findNextBatch(@Param("lastId") Long lastId, Pageable pageable);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM PushSubscription p WHERE p.endpoint = :endpoint")
     void deleteByEndpoint(@Param("endpoint") String endpoint);
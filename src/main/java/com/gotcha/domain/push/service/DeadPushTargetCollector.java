@@ -0,0 +1,145 @@
+package com.gotcha.domain.push.service;
+
+import com.gotcha._global.config.PushProperties;
+import com.gotcha.domain.push.repository.DeviceTokenRepository;
+import com.gotcha.domain.push.repository.PushSubscriptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 Web Push 구독(404/410)과 무효 APNS 토큰(BadDeviceToken/Unregistered) 일괄 정리.
+ *
+ * 발송 경로에서는 ID만 버퍼에 쌓고, 개수(push.cleanup.flush-size) 또는 주기(push.cleanup.flush-interval-ms)
+ * 조건에서 DELETE ... WHERE id IN (...) 한 번으로 삭제합니다. 삭제에 실패한 ID는 버퍼로 되돌려 다음 주기에 다시 삭제합니다.
+ * 정리된 건수는 push.tokens.pruned{platform} 로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class DeadPushTargetCollector {
+
+    private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final PushProperties pushProperties;
+    private final Executor applicationTaskExecutor;
+
+    private final Buffer webPush;
+    private final Buffer apns;
+
+    public DeadPushTargetCollector(PushSubscriptionRepository pushSubscriptionRepository,
+                                   DeviceTokenRepository deviceTokenRepository,
+                                   PushProperties pushProperties,
+                                   Executor applicationTaskExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.pushSubscriptionRepository = pushSubscriptionRepository;
+        this.deviceTokenRepository = deviceTokenRepository;
+        this.pushProperties = pushProperties;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.webPush = new Buffer("web", meterRegistry);
+        this.apns = new Buffer("ios", meterRegistry);
+    }
+
+    /**
+     * 만료된 Web Push 구독 등록 (404/410 응답)
+     */
+    public void markExpiredSubscription(Long subscriptionId) {
+        add(webPush, subscriptionId);
+    }
+
+    /**
+     * 무효 APNS 토큰 등록 (BadDeviceToken/Unregistered)
+     */
+    public void markInvalidDeviceToken(Long deviceTokenId) {
+        add(apns, deviceTokenId);
+    }
+
+    private void add(Buffer buffer, Long id) {
+        if (id == null) {
+            return;
+        }
+        buffer.ids.add(id);
+        // 호출 스레드(APNS 이벤트 루프 등)를 막지 않도록 크기 조건 삭제는 별도 스레드에서 실행
+        if (buffer.size.incrementAndGet() >= pushProperties.getCleanup().getFlushSize()
+                && buffer.flushScheduled.compareAndSet(false, true)) {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    flush(buffer);
+                } finally {
+                    buffer.flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${push.cleanup.flush-interval-ms:5000}",
+            fixedDelayString = "${push.cleanup.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        flush(webPush);
+        flush(apns);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(Buffer buffer) {
+        int batchSize = pushProperties.getCleanup().getFlushSize();
+        while (buffer.size.get() > 0) {
+            List<Long> ids = new ArrayList<>(Math.min(buffer.size.get(), batchSize));
+            Long id;
+            while (ids.size() < batchSize && (id = buffer.ids.poll()) != null) {
+                ids.add(id);
+            }
+            if (ids.isEmpty()) {
+                return;
+            }
+            buffer.size.addAndGet(-ids.size());
+
+            try {
+                repositoryOf(buffer).deleteAllByIdInBatch(ids);
+                buffer.pruned.increment(ids.size());
+                log.info("Pruned dead push targets - platform: {}, count: {}", buffer.platform, ids.size());
+            } catch (Exception e) {
+                // 다음 주기에 다시 삭제
+                buffer.ids.addAll(ids);
+                buffer.size.addAndGet(ids.size());
+                log.error("Failed to prune dead push targets - platform: {}, count: {}, error: {}",
+                        buffer.platform, ids.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private JpaRepository<?, Long> repositoryOf(Buffer buffer) {
+        return buffer == webPush ? pushSubscriptionRepository : deviceTokenRepository;
+    }
+
+    private static final class Buffer {
+        private final String platform;
+        private final Queue<Long> ids = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private final Counter pruned;
+
+        private Buffer(String platform, MeterRegistry meterRegistry) {
+            this.platform = platform;
+            this.pruned = Counter.builder("push.tokens.pruned")
+                    .tag("platform", platform)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.gotcha.domain.push.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * 전체 발송 작업 진행 상황 (발송 스레드에서 갱신, 조회 API에서 폴링)
+ */
+@Getter
+public class PushBroadcastJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+    private volatile Status status = Status.RUNNING;
+
+    private final AtomicInteger webPushTargets = new AtomicInteger();
+    private final AtomicInteger webPushSent = new AtomicInteger();
+    private final AtomicInteger webPushFailed = new AtomicInteger();
+    private final AtomicInteger webPushExpired = new AtomicInteger();
+    private final AtomicInteger apnsTargets = new AtomicInteger();
+    private final AtomicInteger apnsSent = new AtomicInteger();
+    private final AtomicInteger apnsFailed = new AtomicInteger();
+    private final AtomicInteger apnsInvalid = new AtomicInteger();
+
+    PushBroadcastJob(String jobId) {
+        this.jobId = jobId;
+    }
+
+    void complete() {
+        finish(Status.COMPLETED);
+    }
+
+    void fail() {
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,282 @@
+package com.gotcha.domain.push.service;
+
+import com.eatthepath.pushy.apns.ApnsClient;
+import com.eatthepath.pushy.apns.util.SimpleApnsPushNotification;
+import com.eatthepath.pushy.apns.util.TokenUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gotcha._global.config.PushProperties;
+import com.gotcha.domain.push.entity.DevicePlatform;
+import com.gotcha.domain.push.entity.DeviceToken;
+import com.gotcha.domain.push.entity.PushSubscription;
+import com.gotcha.domain.push.repository.DeviceTokenRepository;
+import com.gotcha.domain.push.repository.PushSubscriptionRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.Notification;
+import nl.martijndwars.webpush.PushService;
+import nl.martijndwars.webpush.Subscription;
+import org.apache.http.HttpResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 사용자 푸시 발송 엔진.
+ *
+ * 구독/기기 토큰을 id 기준 keyset 페이지로 읽으며 바로 발송하므로 전체 목록을 메모리에 올리거나
+ * 트랜잭션을 오래 잡지 않습니다.
+ * - Web Push: 가상 스레드에서 발송(수신자별 암호화 + HTTP), 동시 요청 수는 세마포어로 제한
+ * - APNS: Pushy 비동기 API 사용, 응답 대기 중인 요청 수가 상한에 닿으면 다음 발송을 대기 (back-pressure)
+ * 진행 상황은 작업 ID로 조회할 수 있습니다. 진행 중인 작업은 만료되지 않고, 끝난 작업은 종료 시점부터 보관 시간 동안 조회됩니다.
+ */
+@Slf4j
+@Component
+public class PushBroadcaster {
+
+    private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final PushProperties pushProperties;
+    private final DeadPushTargetCollector deadPushTargetCollector;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, PushBroadcastJob> jobs;
+
+    public PushBroadcaster(PushSubscriptionRepository pushSubscriptionRepository,
+                           DeviceTokenRepository deviceTokenRepository,
+                           PushProperties pushProperties,
+                           DeadPushTargetCollector deadPushTargetCollector) {
+        this.pushSubscriptionRepository = pushSubscriptionRepository;
+        this.deviceTokenRepository = deviceTokenRepository;
+        this.pushProperties = pushProperties;
+        this.deadPushTargetCollector = deadPushTargetCollector;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new JobExpiry(Duration.ofMinutes(pushProperties.getBroadcast().getJobRetentionMinutes())))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 전체 발송 시작 (즉시 반환, 발송은 백그라운드에서 진행)
+     */
+    public PushBroadcastJob start(BroadcastMessage message) {
+        PushBroadcastJob job = new PushBroadcastJob(UUID.randomUUID().toString());
+        jobs.put(job.getJobId(), job);
+        executor.execute(() -> run(job, message));
+        log.info("Push broadcast started - jobId: {}", job.getJobId());
+        return job;
+    }
+
+    public Optional<PushBroadcastJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private void run(PushBroadcastJob job, BroadcastMessage message) {
+        try {
+            if (message.webPushService() != null) {
+                broadcastWebPush(job, message);
+            }
+            if (message.apnsClient() != null) {
+                broadcastApns(job, message);
+            }
+            job.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail();
+            log.warn("Push broadcast interrupted - jobId: {}", job.getJobId());
+        } catch (Exception e) {
+            job.fail();
+            log.error("Push broadcast failed - jobId: {}, error: {}", job.getJobId(), e.getMessage(), e);
+        }
+        // 종료 시점부터 보관 시간 계산
+        jobs.put(job.getJobId(), job);
+
+        log.info("Push broadcast finished - jobId: {}, status: {}, webPush: {}/{} (failed: {}, expired: {}), "
+                        + "apns: {}/{} (failed: {}, invalid: {})",
+                job.getJobId(), job.getStatus(),
+                job.getWebPushSent(), job.getWebPushTargets(), job.getWebPushFailed(), job.getWebPushExpired(),
+                job.getApnsSent(), job.getApnsTargets(), job.getApnsFailed(), job.getApnsInvalid());
+    }
+
+    private void broadcastWebPush(PushBroadcastJob job, BroadcastMessage message) throws InterruptedException {
+        PushProperties.Broadcast config = pushProperties.getBroadcast();
+        int concurrency = config.getWebPushConcurrency();
+        Semaphore permits = new Semaphore(concurrency);
+
+        long lastId = 0L;
+        List<PushSubscription> batch;
+        do {
+            batch = pushSubscriptionRepository.findNextBatch(lastId, PageRequest.ofSize(config.getPageSize()));
+            job.getWebPushTargets().addAndGet(batch.size());
+
+            for (PushSubscription subscription : batch) {
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        sendWebPush(job, message, subscription);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == config.getPageSize());
+
+        // 진행 중인 발송이 모두 끝날 때까지 대기
+        permits.acquire(concurrency);
+        permits.release(concurrency);
+    }
+
+    private void sendWebPush(PushBroadcastJob job, BroadcastMessage message, PushSubscription subscription) {
+        try {
+            Subscription webPushSubscription = new Subscription(
+                    subscription.getEndpoint(),
+                    new Subscription.Keys(subscription.getP256dh(), subscription.getAuth())
+            );
+            HttpResponse response = message.webPushService()
+                    .send(new Notification(webPushSubscription, message.webPushPayload()));
+
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode == 410 || statusCode == 404) {
+                job.getWebPushExpired().incrementAndGet();
+                deadPushTargetCollector.markExpiredSubscription(subscription.getId());
+            } else if (statusCode >= 400) {
+                job.getWebPushFailed().incrementAndGet();
+                log.warn("Push notification failed - endpoint: {}, status: {}",
+                        subscription.getEndpoint(), statusCode);
+            } else {
+                job.getWebPushSent().incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.getWebPushFailed().incrementAndGet();
+        } catch (Exception e) {
+            job.getWebPushFailed().incrementAndGet();
+            log.error("Failed to send push notification - endpoint: {}, error: {}",
+                    subscription.getEndpoint(), e.getMessage());
+        }
+    }
+
+    private void broadcastApns(PushBroadcastJob job, BroadcastMessage message) throws InterruptedException {
+        PushProperties.Broadcast config = pushProperties.getBroadcast();
+        int maxInFlight = config.getApnsMaxInFlight();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long lastId = 0L;
+        List<DeviceToken> batch;
+        do {
+            batch = deviceTokenRepository.findNextBatchByPlatform(
+                    DevicePlatform.IOS, lastId, PageRequest.ofSize(config.getPageSize()));
+            job.getApnsTargets().addAndGet(batch.size());
+
+            for (DeviceToken device : batch) {
+                inFlight.acquire();
+                sendApns(job, message, device, inFlight);
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == config.getPageSize());
+
+        // 응답 대기 중인 요청이 모두 끝날 때까지 대기
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+
+    private void sendApns(PushBroadcastJob job, BroadcastMessage message, DeviceToken device, Semaphore inFlight) {
+        Long tokenId = device.getId();
+        String token = device.getDeviceToken();
+        try {
+            SimpleApnsPushNotification notification = new SimpleApnsPushNotification(
+                    TokenUtil.sanitizeTokenString(token),
+                    message.bundleId(),
+                    message.apnsPayload()
+            );
+
+            message.apnsClient().sendNotification(notification).whenComplete((response, cause) -> {
+                try {
+                    if (cause != null) {
+                        job.getApnsFailed().incrementAndGet();
+                        log.error("APNS send failed - token: {}, error: {}", token, cause.getMessage());
+                    } else if (response.isAccepted()) {
+                        job.getApnsSent().incrementAndGet();
+                    } else {
+                        String reason = response.getRejectionReason()
+                                .map(Object::toString).orElse("Unknown");
+                        if ("BadDeviceToken".equals(reason) || "Unregistered".equals(reason)) {
+                            job.getApnsInvalid().incrementAndGet();
+                            deadPushTargetCollector.markInvalidDeviceToken(tokenId);
+                        } else {
+                            job.getApnsFailed().incrementAndGet();
+                            log.warn("APNS rejected - token: {}, reason: {}", token, reason);
+                        }
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (Exception e) {
+            inFlight.release();
+            job.getApnsFailed().incrementAndGet();
+            log.error("APNS send error - token: {}, error: {}", token, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 보관 정책 (RUNNING 작업은 만료하지 않고, 종료 후 다시 저장된 시점부터 retention 적용)
+     */
+    static final class JobExpiry implements Expiry<String, PushBroadcastJob> {
+
+        private final long retentionNanos;
+
+        JobExpiry(Duration retention) {
+            this.retentionNanos = retention.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String jobId, PushBroadcastJob job, long currentTime) {
+            return expiresIn(job);
+        }
+
+        @Override
+        public long expireAfterUpdate(String jobId, PushBroadcastJob job, long currentTime, long currentDuration) {
+            return expiresIn(job);
+        }
+
+        @Override
+        public long expireAfterRead(String jobId, PushBroadcastJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long expiresIn(PushBroadcastJob job) {
+            return job.getStatus() == PushBroadcastJob.Status.RUNNING ? Long.MAX_VALUE : retentionNanos;
+        }
+    }
+
+    /**
+     * 전체 발송 메시지 (페이로드는 발송 전 한 번만 직렬화)
+     * @param webPushService Web Push 미설정 시 null (Web Push 생략)
+     * @param apnsClient APNS 미설정 시 null (APNS 생략)
+     */
+    public record BroadcastMessage(
+            PushService webPushService,
+            String webPushPayload,
+            ApnsClient apnsClient,
+            String apnsPayload,
+            String bundleId
+    ) {
+    }
+}
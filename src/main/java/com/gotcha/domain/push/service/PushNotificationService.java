@@ -6,10 +6,12 @@ import com.eatthepath.pushy.apns.auth.ApnsSigningKey;
 import com.eatthepath.pushy.apns.util.SimpleApnsPayloadBuilder;
 import com.eatthepath.pushy.apns.util.SimpleApnsPushNotification;
 import com.eatthepath.pushy.apns.util.TokenUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gotcha._global.config.PushProperties;
 import com.gotcha._global.util.SecurityUtil;
 import com.gotcha.domain.push.dto.DeviceTokenRegisterRequest;
+import com.gotcha.domain.push.dto.PushBroadcastStatusResponse;
 import com.gotcha.domain.push.dto.PushSubscribeRequest;
 import com.gotcha.domain.push.dto.VapidKeyResponse;
 import com.gotcha.domain.push.entity.DevicePlatform;
@@ -29,7 +31,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.martijndwars.webpush.Notification;
@@ -38,6 +39,7 @@ import nl.martijndwars.webpush.Subscription;
 import org.apache.http.HttpResponse;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -51,7 +53,8 @@ public class PushNotificationService {
     private final PushProperties pushProperties;
     private final SecurityUtil securityUtil;
     private final ObjectMapper objectMapper;
-    private final Executor applicationTaskExecutor;
+    private final DeadPushTargetCollector deadPushTargetCollector;
+    private final PushBroadcaster pushBroadcaster;
 
     private volatile PushService webPushService;
     private volatile ApnsClient apnsClient;
@@ -197,23 +200,51 @@ public class PushNotificationService {
     }
 
     /**
-     * 전체 사용자에게 푸시 알림 발송 (Web Push + APNS)
+     * 전체 사용자에게 푸시 알림 발송 시작 (Web Push + APNS)
+     * 발송은 백그라운드로 진행되며 반환된 작업 ID로 진행 상황을 조회합니다.
      */
-    @Transactional
-    public void sendToAll(String title, String body, String url) {
-        // Web Push
-        List<PushSubscription> subscriptions = pushSubscriptionRepository.findAll();
-        log.info("Sending web push to all subscribers - count: {}", subscriptions.size());
-        for (PushSubscription subscription : subscriptions) {
-            sendWebPushNotification(subscription, title, body, url);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PushBroadcastStatusResponse sendToAll(String title, String body, String url) {
+        PushService pushService = null;
+        String webPushPayload = null;
+        try {
+            if (isVapidConfigured()) {
+                pushService = getWebPushService();
+                webPushPayload = buildWebPushPayload(title, body, url);
+            }
+        } catch (Exception e) {
+            log.error("Web push unavailable for broadcast, skipping - error: {}", e.getMessage());
         }
 
-        // APNS
-        List<DeviceToken> iosDevices = deviceTokenRepository.findAllByPlatform(DevicePlatform.IOS);
-        log.info("Sending APNS to all iOS devices - count: {}", iosDevices.size());
-        for (DeviceToken device : iosDevices) {
-            sendApnsNotification(device, title, body);
+        ApnsClient client = null;
+        try {
+            client = getApnsClient();
+        } catch (Exception e) {
+            log.error("APNS client unavailable for broadcast, skipping - error: {}", e.getMessage());
         }
+
+        String apnsPayload = new SimpleApnsPayloadBuilder()
+                .setAlertTitle(title)
+                .setAlertBody(body)
+                .build();
+
+        PushBroadcastJob job = pushBroadcaster.start(new PushBroadcaster.BroadcastMessage(
+                pushService,
+                webPushPayload,
+                client,
+                apnsPayload,
+                client != null ? pushProperties.getApns().getBundleId() : null
+        ));
+        return PushBroadcastStatusResponse.from(job);
+    }
+
+    /**
+     * 전체 발송 진행 상황 조회
+     */
+    public PushBroadcastStatusResponse getBroadcastStatus(String jobId) {
+        return pushBroadcaster.findJob(jobId)
+                .map(PushBroadcastStatusResponse::from)
+                .orElseThrow(() -> PushException.broadcastJobNotFound(jobId));
     }
 
     /**
@@ -228,21 +259,15 @@ public class PushNotificationService {
                     new Subscription.Keys(subscription.getP256dh(), subscription.getAuth())
             );
 
-            Map<String, String> payload = Map.of(
-                    "title", title,
-                    "body", body,
-                    "url", url != null ? url : "/"
-            );
-
-            String payloadJson = objectMapper.writeValueAsString(payload);
+            String payloadJson = buildWebPushPayload(title, body, url);
 
             Notification notification = new Notification(webPushSubscription, payloadJson);
             HttpResponse response = pushService.send(notification);
 
             int statusCode = response.getStatusLine().getStatusCode();
             if (statusCode == 410 || statusCode == 404) {
-                log.info("Push subscription expired, deleting - endpoint: {}", subscription.getEndpoint());
-                pushSubscriptionRepository.deleteByEndpoint(subscription.getEndpoint());
+                log.info("Push subscription expired, scheduling cleanup - endpoint: {}", subscription.getEndpoint());
+                deadPushTargetCollector.markExpiredSubscription(subscription.getId());
             } else if (statusCode >= 400) {
                 log.warn("Push notification failed - endpoint: {}, status: {}",
                         subscription.getEndpoint(), statusCode);
@@ -305,17 +330,7 @@ public class PushNotificationService {
                     log.warn("APNS rejected - token: {}, reason: {}", deviceToken.getDeviceToken(), reason);
 
                     if ("BadDeviceToken".equals(reason) || "Unregistered".equals(reason)) {
-                        Long tokenId = deviceToken.getId();
-                        String token = deviceToken.getDeviceToken();
-                        applicationTaskExecutor.execute(() -> {
-                            try {
-                                deviceTokenRepository.deleteById(tokenId);
-                                log.info("Invalid APNS token deleted - token: {}", token);
-                            } catch (Exception e) {
-                                log.error("Failed to delete invalid APNS token - token: {}, error: {}",
-                                        token, e.getMessage());
-                            }
-                        });
+                        deadPushTargetCollector.markInvalidDeviceToken(deviceToken.getId());
                     }
                 }
             });
@@ -326,6 +341,23 @@ public class PushNotificationService {
         }
     }
 
+    /**
+     * Web Push 페이로드 JSON 생성
+     */
+    private String buildWebPushPayload(String title, String body, String url) throws JsonProcessingException {
+        Map<String, String> payload = Map.of(
+                "title", title,
+                "body", body,
+                "url", url != null ? url : "/"
+        );
+        return objectMapper.writeValueAsString(payload);
+    }
+
+    private boolean isVapidConfigured() {
+        PushProperties.Vapid vapid = pushProperties.getVapid();
+        return vapid != null && vapid.getPrivateKey() != null && !vapid.getPrivateKey().isBlank();
+    }
+
     /**
      * Web Push 서비스 인스턴스 반환 (지연 초기화, 스레드 안전)
      */
@@ -16,6 +16,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "reviews")
@@ -38,6 +39,11 @@ public class Review extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 좋아요 수 (좋아요 추가/취소 시 원자적 UPDATE로 증감, 정합성 작업이 보정)
+    @Column(name = "like_count", nullable = false)
+    @ColumnDefault("0")
+    private long likeCount;
+
     @Builder
     public Review(Shop shop, User user, String content) {
         this.shop = shop;
@@ -66,4 +66,16 @@ public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long>
             "WHERE r.shop.id = :shopId " +
             "ORDER BY r.createdAt DESC, ri.displayOrder ASC")
     Page<ReviewImage> findAllByShopIdOrderByCreatedAtDesc(@Param("shopId") Long shopId, Pageable pageable);
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회
+     */
+    @Query("SELECT ri.id FROM ReviewImage ri WHERE ri.review.user.id = :userId ORDER BY ri.id")
+    List<Long> findIdsByReviewUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT ri.id FROM ReviewImage ri WHERE ri.review.shop.id = :shopId ORDER BY ri.id")
+    List<Long> findIdsByReviewShopId(@Param("shopId") Long shopId, Pageable pageable);
+
+    @Query("SELECT ri.imageUrl FROM ReviewImage ri WHERE ri.id IN :ids")
+    List<String> findImageUrlsByIdIn(@Param("ids") List<Long> ids);
 }
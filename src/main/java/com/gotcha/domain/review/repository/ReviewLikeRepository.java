@@ -3,6 +3,7 @@ package com.gotcha.domain.review.repository;
 import com.gotcha.domain.review.entity.ReviewLike;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,12 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
     Long countByReviewId(Long reviewId);
 
+    /**
+     * 사용자가 좋아요한 리뷰 ID 목록 (회원 탈퇴 시 좋아요 수 재계산 대상)
+     */
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.user.id = :userId")
+    List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM ReviewLike rl WHERE rl.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
@@ -65,4 +72,19 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
         Long getReviewId();
         Long getLikeCount();
     }
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회
+     */
+    @Query("SELECT rl.id FROM ReviewLike rl WHERE rl.user.id = :userId ORDER BY rl.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT rl.id FROM ReviewLike rl WHERE rl.review.user.id = :userId ORDER BY rl.id")
+    List<Long> findIdsByReviewUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT rl.id FROM ReviewLike rl WHERE rl.review.shop.id = :shopId ORDER BY rl.id")
+    List<Long> findIdsByReviewShopId(@Param("shopId") Long shopId, Pageable pageable);
+
+    @Query("SELECT DISTINCT rl.review.id FROM ReviewLike rl WHERE rl.id IN :ids")
+    List<Long> findReviewIdsByIdIn(@Param("ids") List<Long> ids);
 }
@@ -1,5 +1,6 @@
 package com.gotcha.domain.review.repository;
 
+import com.gotcha.domain.moderation.repository.ScannableContent;
 import com.gotcha.domain.review.entity.Review;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -8,15 +9,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Page<Review> findAllByShopIdOrderByCreatedAtDesc(Long shopId, Pageable pageable);
 
-    @Query("SELECT r FROM Review r LEFT JOIN ReviewLike rl ON r.id = rl.review.id " +
-            "WHERE r.shop.id = :shopId " +
-            "GROUP BY r.id " +
-            "ORDER BY COUNT(rl.id) DESC, r.createdAt DESC")
+    /**
+     * 좋아요순 리뷰 조회 (idx_reviews_shop_like_count 범위 스캔, 동점은 최신 작성순)
+     */
+    @Query("SELECT r FROM Review r WHERE r.shop.id = :shopId " +
+            "ORDER BY r.likeCount DESC, r.id DESC")
     Page<Review> findAllByShopIdOrderByLikeCountDesc(@Param("shopId") Long shopId, Pageable pageable);
 
     @Query("SELECT r FROM Review r WHERE r.shop.id = :shopId " +
@@ -27,11 +30,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             @Param("blockedUserIds") List<Long> blockedUserIds,
             Pageable pageable);
 
-    @Query("SELECT r FROM Review r LEFT JOIN ReviewLike rl ON r.id = rl.review.id " +
-            "WHERE r.shop.id = :shopId " +
+    @Query("SELECT r FROM Review r WHERE r.shop.id = :shopId " +
             "AND r.user.id NOT IN :blockedUserIds " +
-            "GROUP BY r.id " +
-            "ORDER BY COUNT(rl.id) DESC, r.createdAt DESC")
+            "ORDER BY r.likeCount DESC, r.id DESC")
     Page<Review> findAllByShopIdExcludingBlockedUsersOrderByLikeCountDesc(
             @Param("shopId") Long shopId,
             @Param("blockedUserIds") List<Long> blockedUserIds,
@@ -49,8 +50,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     @Query(
             value = "SELECT r FROM Review r JOIN FETCH r.shop WHERE r.user.id = :userId "
-                    + "ORDER BY (SELECT COUNT(rl.id) FROM ReviewLike rl WHERE rl.review.id = r.id) DESC, "
-                    + "r.createdAt DESC",
+                    + "ORDER BY r.likeCount DESC, r.id DESC",
             countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user.id = :userId"
     )
     Page<Review> findAllByUserIdWithShopOrderByLikeCountDesc(
@@ -81,4 +81,56 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM Review r WHERE r.shop.id = :shopId")
     void deleteAllByShopId(@Param("shopId") Long shopId);
+
+    /**
+     * 리뷰 좋아요 수 1 증가 (동시 요청에도 갱신 유실 없도록 원자적 UPDATE)
+     * flushAutomatically = true: 같은 트랜잭션의 좋아요 저장/삭제가 clear로 유실되지 않도록 먼저 flush
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Review r SET r.likeCount = r.likeCount + 1 WHERE r.id = :reviewId")
+    int incrementLikeCount(@Param("reviewId") Long reviewId);
+
+    /**
+     * 리뷰 좋아요 수 1 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Review r SET r.likeCount = r.likeCount - 1 WHERE r.id = :reviewId AND r.likeCount > 0")
+    int decrementLikeCount(@Param("reviewId") Long reviewId);
+
+    /**
+     * 지정한 리뷰의 좋아요 수를 실제 좋아요 행 수로 재계산 (회원 탈퇴 등 일괄 삭제 후 사용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE reviews r SET "
+            + "like_count = (SELECT COUNT(*) FROM review_likes rl WHERE rl.review_id = r.id) "
+            + "WHERE r.id IN (:reviewIds)", nativeQuery = true)
+    int recalculateLikeCounts(@Param("reviewIds") List<Long> reviewIds);
+
+    /**
+     * 전체 리뷰 중 실제 좋아요 행 수와 다른 좋아요 수만 보정
+     * @return 보정된 리뷰 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE reviews r SET like_count = c.like_count "
+            + "FROM (SELECT r2.id, "
+            + "        (SELECT COUNT(*) FROM review_likes rl WHERE rl.review_id = r2.id) AS like_count "
+            + "      FROM reviews r2) c "
+            + "WHERE r.id = c.id AND r.like_count <> c.like_count", nativeQuery = true)
+    int reconcileLikeCounts();
+
+    /**
+     * 금칙어 재검사용 본문 keyset 페이지 조회 (id 오름차순)
+     */
+    @Query("SELECT r.id AS id, r.content AS content FROM Review r WHERE r.id > :lastId ORDER BY r.id")
+    List<ScannableContent> findContentBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회
+     */
+    @Query("SELECT r.id FROM Review r WHERE r.user.id = :userId ORDER BY r.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT r.id FROM Review r WHERE r.shop.id = :shopId ORDER BY r.id")
+    List<Long> findIdsByShopId(@Param("shopId") Long shopId, Pageable pageable);
 }
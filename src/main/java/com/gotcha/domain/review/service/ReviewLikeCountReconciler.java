@@ -0,0 +1,36 @@
+package com.gotcha.domain.review.service;
+
+import com.gotcha.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 좋아요 수 정합성 보정 작업.
+ *
+ * reviews.like_count는 좋아요 추가/취소 시 원자적 UPDATE로 유지되지만,
+ * 일괄 삭제나 수동 데이터 변경으로 생긴 오차를 실제 review_likes 행 수 기준으로 주기적으로 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewLikeCountReconciler {
+
+    private final ReviewRepository reviewRepository;
+
+    @Scheduled(
+            initialDelayString = "${review.like-count.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${review.like-count.reconcile-interval-ms:3600000}"
+    )
+    public void reconcile() {
+        try {
+            int repaired = reviewRepository.reconcileLikeCounts();
+            if (repaired > 0) {
+                log.warn("Review like count drift repaired - reviews: {}", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile review like counts - error: {}", e.getMessage());
+        }
+    }
+}
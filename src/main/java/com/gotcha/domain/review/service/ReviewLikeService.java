@@ -43,6 +43,7 @@ public class ReviewLikeService {
                 .build();
 
         reviewLikeRepository.save(reviewLike);
+        reviewRepository.incrementLikeCount(reviewId);
 
         log.info("Review like added - userId: {}, reviewId: {}", currentUser.getId(), reviewId);
 
@@ -71,6 +72,7 @@ public class ReviewLikeService {
 
         // 3. 좋아요 삭제
         reviewLikeRepository.delete(reviewLike);
+        reviewRepository.decrementLikeCount(reviewId);
 
         log.info("Review like removed - userId: {}, reviewId: {}", currentUser.getId(), reviewId);
 
@@ -2,6 +2,8 @@ package com.gotcha.domain.review.service;
 
 import com.gotcha.domain.block.service.UserBlockService;
 import com.gotcha.domain.file.service.FileStorageService;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import com.gotcha.domain.moderation.service.ContentModerationService;
 import com.gotcha.domain.review.dto.CreateReviewRequest;
 import com.gotcha.domain.review.dto.PageResponse;
 import com.gotcha.domain.review.dto.ReviewResponse;
@@ -44,6 +46,7 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final UserBlockService userBlockService;
+    private final ContentModerationService contentModerationService;
 
     private static final int MAX_IMAGES = 10;
 
@@ -76,21 +79,22 @@ public class ReviewService {
                 .content(request.content())
                 .build();
         reviewRepository.save(review);
+        contentModerationService.scanCreated(ModerationTargetType.REVIEW, review.getId(), review.getContent());
 
         log.info("Review created with ID: {}", review.getId());
 
         // 5. ReviewImage 엔티티 생성 및 저장
         if (request.imageUrls() != null && !request.imageUrls().isEmpty()) {
             saveReviewImages(review, request.imageUrls());
+            request.imageUrls().forEach(fileStorageService::claimFile);
             log.info("Saved {} images for review {}", request.imageUrls().size(), review.getId());
         }
 
         // 6. Response 생성 (이미지 포함)
         List<ReviewImage> images = reviewImageRepository
                 .findAllByReviewIdOrderByDisplayOrder(review.getId());
-        Long likeCount = reviewLikeRepository.countByReviewId(review.getId());
-        // 생성 직후이므로 좋아요는 false
-        return ReviewResponse.from(review, user, images, true, likeCount, false);
+        // 생성 직후이므로 좋아요 수 0, 좋아요 여부 false
+        return ReviewResponse.from(review, user, images, true, 0L, false);
     }
 
     /**
@@ -132,16 +136,6 @@ public class ReviewService {
                 .stream()
                 .collect(Collectors.groupingBy(img -> img.getReview().getId()));
 
-        // N+1 방지: 좋아요 수 일괄 조회 (배치 쿼리)
-        Map<Long, Long> likeCountMap = reviewIds.isEmpty()
-                ? Map.of()
-                : reviewLikeRepository.countByReviewIdInGroupByReviewId(reviewIds)
-                        .stream()
-                        .collect(Collectors.toMap(
-                                ReviewLikeRepository.ReviewLikeCount::getReviewId,
-                                ReviewLikeRepository.ReviewLikeCount::getLikeCount
-                        ));
-
         // N+1 방지: 현재 사용자가 좋아요한 리뷰 목록 조회 (배치 쿼리)
         Set<Long> likedReviewIds = Set.of();
         if (currentUserId != null && !reviewIds.isEmpty()) {
@@ -157,7 +151,7 @@ public class ReviewService {
                         review.getUser(),
                         imageMap.getOrDefault(review.getId(), List.of()),
                         review.getUser().getId().equals(currentUserId),
-                        likeCountMap.getOrDefault(review.getId(), 0L),
+                        review.getLikeCount(),
                         finalLikedReviewIds.contains(review.getId())
                 ))
                 .toList();
@@ -202,6 +196,7 @@ public class ReviewService {
 
         // 5. Content 수정
         review.updateContent(request.content());
+        contentModerationService.scanUpdated(ModerationTargetType.REVIEW, reviewId, request.content());
 
         // 6. 기존 이미지 조회 및 삭제할 이미지 필터링
         List<ReviewImage> existingImages = reviewImageRepository
@@ -231,18 +226,22 @@ public class ReviewService {
         // 8. 새 이미지 저장 (순서대로 displayOrder 할당)
         if (!newImageUrls.isEmpty()) {
             saveReviewImages(review, newImageUrls);
+            // 유지된 이미지는 이미 연결되어 있으므로 새로 추가된 이미지만 연결
+            List<String> existingImageUrls = existingImages.stream().map(ReviewImage::getImageUrl).toList();
+            newImageUrls.stream()
+                    .filter(url -> !existingImageUrls.contains(url))
+                    .forEach(fileStorageService::claimFile);
             log.info("Updated {} images for review {}", newImageUrls.size(), reviewId);
         }
 
         // 9. Response 생성
         List<ReviewImage> images = reviewImageRepository
                 .findAllByReviewIdOrderByDisplayOrder(reviewId);
-        Long likeCount = reviewLikeRepository.countByReviewId(reviewId);
         boolean isOwner = reviewAuthor.getId().equals(currentUser.getId());
         boolean isLiked = reviewLikeRepository.existsByUserIdAndReviewId(currentUser.getId(), reviewId);
 
         log.info("Review {} updated successfully", reviewId);
-        return ReviewResponse.from(review, reviewAuthor, images, isOwner, likeCount, isLiked);
+        return ReviewResponse.from(review, reviewAuthor, images, isOwner, review.getLikeCount(), isLiked);
     }
 
     /**
@@ -280,7 +279,8 @@ public class ReviewService {
         reviewLikeRepository.deleteAllByReviewId(reviewId);
         log.info("Deleted all likes for review {}", reviewId);
 
-        // 6. Review 삭제
+        // 6. Review 삭제 (금칙어 검출 기록 포함)
+        contentModerationService.clearFlags(ModerationTargetType.REVIEW, List.of(reviewId));
         reviewRepository.delete(review);
 
         log.info("Review {} deleted successfully", reviewId);
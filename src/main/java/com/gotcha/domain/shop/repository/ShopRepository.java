@@ -15,16 +15,6 @@ public interface ShopRepository extends JpaRepository<Shop, Long> {
     @Query("SELECT s FROM Shop s LEFT JOIN FETCH s.createdBy WHERE s.id = :id")
     Optional<Shop> findByIdWithCreator(@Param("id") Long id);
 
-    @Query("SELECT s FROM Shop s WHERE "
-            + "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * "
-            + "cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * "
-            + "sin(radians(s.latitude)))) < :radius "
-            + "ORDER BY (6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * "
-            + "cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * "
-            + "sin(radians(s.latitude))))")
-    List<Shop> findNearbyShops(@Param("lat") Double lat, @Param("lng") Double lng,
-                               @Param("radius") Double radius);
-
     @Query("SELECT s FROM Shop s WHERE "
             + "s.latitude BETWEEN :southWestLat AND :northEastLat "
             + "AND s.longitude BETWEEN :southWestLng AND :northEastLng")
@@ -61,4 +51,20 @@ public interface ShopRepository extends JpaRepository<Shop, Long> {
             + "WHERE s.region1DepthName IS NOT NULL AND s.region2DepthName IS NOT NULL "
             + "GROUP BY s.region1DepthName, s.region2DepthName")
     List<DistrictClusterResponse> findDistrictClusters();
+
+    /**
+     * 전체 가게 좌표 조회 (공간 인덱스 적재/정합성 검사용)
+     * @return 가게 ID와 위도/경도만 담은 Projection 목록
+     */
+    @Query("SELECT s.id AS id, s.latitude AS latitude, s.longitude AS longitude FROM Shop s")
+    List<ShopCoordinate> findAllCoordinates();
+
+    /**
+     * 가게 좌표를 담는 Projection 인터페이스
+     */
+    interface ShopCoordinate {
+        Long getId();
+        Double getLatitude();
+        Double getLongitude();
+    }
 }
@@ -1,6 +1,8 @@
 package com.gotcha.domain.shop.repository;
 
 import com.gotcha.domain.shop.entity.ShopSuggestion;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -21,4 +23,13 @@ public interface ShopSuggestionRepository extends JpaRepository<ShopSuggestion,
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM ShopSuggestion s WHERE s.suggester.id = :userId")
     void deleteBySuggesterId(@Param("userId") Long userId);
+
+    /**
+     * 탈퇴/가게 삭제 청크 대상 id 조회 (사유 테이블은 ON DELETE CASCADE로 함께 삭제)
+     */
+    @Query("SELECT ss.id FROM ShopSuggestion ss WHERE ss.suggester.id = :userId ORDER BY ss.id")
+    List<Long> findIdsBySuggesterId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT ss.id FROM ShopSuggestion ss WHERE ss.shop.id = :shopId ORDER BY ss.id")
+    List<Long> findIdsByShopId(@Param("shopId") Long shopId, Pageable pageable);
 }
@@ -0,0 +1,105 @@
+package com.gotcha.domain.shop.service;
+
+import com.gotcha.domain.shop.entity.Shop;
+import com.gotcha.domain.shop.repository.ShopRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반경 기반 가게 검색 엔진 (2단계).
+ *
+ * 1단계: 반경을 감싸는 위도/경도 사각형을 BETWEEN으로 조회 (idx_shops_latitude_longitude 사용)
+ * 2단계: 후보 좌표를 double 배열로 옮겨 Haversine 거리를 계산하고 반경 내 가게만 가까운 순으로 정렬
+ */
+@Component
+@RequiredArgsConstructor
+public class NearbyShopFinder {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final ShopRepository shopRepository;
+
+    /**
+     * 반경 내 가게 목록 조회 (가까운 순)
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km, 경계 미포함)
+     */
+    public List<Shop> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        if (radiusKm <= 0) {
+            return List.of();
+        }
+
+        // 1단계: 반경을 감싸는 사각형
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double deltaLat = Math.toDegrees(angularRadius);
+        double deltaLng = longitudeDelta(latitude, angularRadius);
+
+        List<Shop> candidates = shopRepository.findShopsWithinBounds(
+                Math.min(latitude + deltaLat, 90.0), Math.min(longitude + deltaLng, 180.0),
+                Math.max(latitude - deltaLat, -90.0), Math.max(longitude - deltaLng, -180.0)
+        );
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // 2단계: 정확한 거리 계산
+        int size = candidates.size();
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            Shop shop = candidates.get(i);
+            latitudes[i] = shop.getLatitude();
+            longitudes[i] = shop.getLongitude();
+        }
+        double[] distances = distancesKm(latitude, longitude, latitudes, longitudes);
+
+        int[] ranked = IntStream.range(0, size)
+                .filter(i -> distances[i] < radiusKm)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> distances[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        List<Shop> result = new ArrayList<>(ranked.length);
+        for (int index : ranked) {
+            result.add(candidates.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * 중심 좌표에서 각 좌표까지의 Haversine 거리 계산 (단위: km)
+     */
+    static double[] distancesKm(double latitude, double longitude, double[] latitudes, double[] longitudes) {
+        double originLat = Math.toRadians(latitude);
+        double originLng = Math.toRadians(longitude);
+        double cosOriginLat = Math.cos(originLat);
+
+        double[] distances = new double[latitudes.length];
+        for (int i = 0; i < latitudes.length; i++) {
+            double lat = Math.toRadians(latitudes[i]);
+            double sinHalfDLat = Math.sin((lat - originLat) / 2);
+            double sinHalfDLng = Math.sin((Math.toRadians(longitudes[i]) - originLng) / 2);
+            double a = sinHalfDLat * sinHalfDLat + cosOriginLat * Math.cos(lat) * sinHalfDLng * sinHalfDLng;
+            distances[i] = 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+        return distances;
+    }
+
+    /**
+     * 해당 위도에서 각거리 angularRadius를 덮는 경도 폭 (도 단위, 극지방은 전체 경도)
+     */
+    private double longitudeDelta(double latitude, double angularRadius) {
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double sinRadius = Math.sin(angularRadius);
+        if (sinRadius >= cosLat) {
+            return 180.0;
+        }
+        return Math.toDegrees(Math.asin(sinRadius / cosLat));
+    }
+}
@@ -0,0 +1,163 @@
+package com.gotcha.domain.shop.service;
+
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컴파일된 가게 영업 시간 (불변).
+ *
+ * openTime JSON을 요일별 [시작, 종료] 초 단위 구간으로 한 번만 변환해 두고,
+ * 영업 상태 판단은 요청당 한 번 만든 {@link Moment} 기준으로 객체 생성 없이 수행합니다.
+ */
+@Slf4j
+public final class OpenSchedule {
+
+    public static final String OPEN = "영업 중";
+    public static final String CLOSED = "영업 종료";
+    public static final String DAY_OFF = "휴무";
+    public static final String UNKNOWN = "";
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String[] DAY_KEYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    // 요일별 구분: 정보 없음(null/빈 문자열/형식 오류), 휴무, 영업 시간
+    private static final byte NO_INFO = 0;
+    private static final byte HOLIDAY = 1;
+    private static final byte HOURS = 2;
+
+    private static final OpenSchedule EMPTY = new OpenSchedule(new byte[7], new int[14], new String[7]);
+
+    private final byte[] kinds;
+    // [월 시작, 월 종료, 화 시작, 화 종료, ...] (자정 기준 초)
+    private final int[] intervals;
+    private final String[] rawSchedules;
+
+    private OpenSchedule(byte[] kinds, int[] intervals, String[] rawSchedules) {
+        this.kinds = kinds;
+        this.intervals = intervals;
+        this.rawSchedules = rawSchedules;
+    }
+
+    /**
+     * 요일별 영업 시간 Map을 컴파일 ({"Mon": "10:00-22:00", "Tue": "휴무", ...})
+     */
+    public static OpenSchedule compile(Map<String, String> timeMap) {
+        if (timeMap == null || timeMap.isEmpty()) {
+            return EMPTY;
+        }
+
+        byte[] kinds = new byte[7];
+        int[] intervals = new int[14];
+        String[] rawSchedules = new String[7];
+        for (int day = 0; day < 7; day++) {
+            String daySchedule = timeMap.get(DAY_KEYS[day]);
+            rawSchedules[day] = daySchedule;
+
+            if (DAY_OFF.equals(daySchedule)) {
+                kinds[day] = HOLIDAY;
+                continue;
+            }
+            if (daySchedule == null || daySchedule.trim().isEmpty()) {
+                continue;
+            }
+
+            String[] times = splitTimeRange(daySchedule);
+            if (times == null) {
+                log.warn("Invalid time format: {}", daySchedule);
+                continue;
+            }
+            try {
+                intervals[day * 2] = parseTimeString(times[0]).toSecondOfDay();
+                intervals[day * 2 + 1] = parseTimeString(times[1]).toSecondOfDay();
+                kinds[day] = HOURS;
+            } catch (DateTimeException e) {
+                log.warn("Invalid time format: {}", daySchedule);
+            }
+        }
+        return new OpenSchedule(kinds, intervals, rawSchedules);
+    }
+
+    /**
+     * 영업 상태 반환 ("영업 중" / "영업 종료" / "휴무" / "")
+     */
+    public String status(Moment moment) {
+        return switch (kinds[moment.dayIndex()]) {
+            case HOLIDAY -> DAY_OFF;
+            case HOURS -> isWithinHours(moment) ? OPEN : CLOSED;
+            default -> UNKNOWN;
+        };
+    }
+
+    /**
+     * 영업 중 여부
+     */
+    public boolean isOpen(Moment moment) {
+        return kinds[moment.dayIndex()] == HOURS && isWithinHours(moment);
+    }
+
+    /**
+     * 해당 요일의 원본 영업 시간 문자열 (없으면 null)
+     */
+    public String scheduleOf(Moment moment) {
+        return rawSchedules[moment.dayIndex()];
+    }
+
+    private boolean isWithinHours(Moment moment) {
+        int open = intervals[moment.dayIndex() * 2];
+        int close = intervals[moment.dayIndex() * 2 + 1];
+        int now = moment.secondOfDay();
+
+        // 익일 영업 (overnight) 처리 (예: 22:00-02:00)
+        if (close < open) {
+            return now >= open || now <= close;
+        }
+        // 일반적인 경우 (예: 10:00-22:00)
+        return now >= open && now <= close;
+    }
+
+    /**
+     * 시간 범위 문자열 분리 ("10:00-22:00", "10:00~22:00" 형식 지원)
+     */
+    static String[] splitTimeRange(String timeRange) {
+        if (timeRange == null) {
+            return null;
+        }
+        // "-" 또는 "~"를 구분자로 사용 (앞뒤 공백 허용)
+        String[] times = timeRange.split("\\s*[-~]\\s*");
+        if (times.length != 2) {
+            return null;
+        }
+        return times;
+    }
+
+    /**
+     * 시간 문자열을 LocalTime으로 파싱 ("24:00" → 23:59:59 처리 포함)
+     */
+    static LocalTime parseTimeString(String timeStr) {
+        if ("24:00".equals(timeStr)) {
+            return LocalTime.of(23, 59, 59);
+        }
+        return LocalTime.parse(timeStr);
+    }
+
+    /**
+     * 영업 상태 판단 기준 시각 (한국 시간, 요청당 한 번 생성)
+     * @param dayIndex 요일 (월=0 ~ 일=6)
+     * @param secondOfDay 자정 기준 초
+     */
+    public record Moment(int dayIndex, int secondOfDay) {
+
+        public static Moment now() {
+            return of(ZonedDateTime.now(SEOUL));
+        }
+
+        public static Moment of(ZonedDateTime dateTime) {
+            ZonedDateTime inKorea = dateTime.withZoneSameInstant(SEOUL);
+            return new Moment(inKorea.getDayOfWeek().getValue() - 1, inKorea.toLocalTime().toSecondOfDay());
+        }
+    }
+}
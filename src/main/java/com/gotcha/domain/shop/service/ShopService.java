@@ -3,9 +3,13 @@ package com.gotcha.domain.shop.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.gotcha._global.external.kakao.KakaoMapClient;
 import com.gotcha._global.external.kakao.dto.AddressInfo;
 import com.gotcha.domain.block.service.UserBlockService;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import com.gotcha.domain.erasure.service.ErasureEngine;
 import com.gotcha.domain.favorite.repository.FavoriteRepository;
 import com.gotcha.domain.review.dto.ReviewResponse;
 import com.gotcha.domain.review.dto.ReviewSortType;
@@ -23,9 +27,7 @@ import com.gotcha.domain.shop.dto.ShopMapResponse;
 import com.gotcha.domain.shop.dto.UpdateShopRequest;
 import com.gotcha.domain.shop.entity.Shop;
 import com.gotcha.domain.shop.exception.ShopException;
-import com.gotcha.domain.shop.repository.ShopSuggestionRepository;
 import com.gotcha.domain.shop.repository.ShopRepository;
-import com.gotcha.domain.comment.repository.CommentRepository;
 import com.gotcha.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,10 +42,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -61,9 +60,10 @@ public class ShopService {
     private final ReviewImageRepository reviewImageRepository;
     private final ReviewLikeRepository reviewLikeRepository;
     private final FileStorageService fileStorageService;
-    private final CommentRepository commentRepository;
-    private final ShopSuggestionRepository shopSuggestionRepository;
     private final UserBlockService userBlockService;
+    private final ShopSpatialIndex shopSpatialIndex;
+    private final NearbyShopFinder nearbyShopFinder;
+    private final ErasureEngine erasureEngine;
 
     @org.springframework.beans.factory.annotation.Value("${shop.default-image-url}")
     private String defaultShopImageUrl;
@@ -72,6 +72,11 @@ public class ShopService {
     @Lazy
     private ShopService self;
 
+    // 가게별 컴파일된 영업 시간 (updatedAt이 바뀌면 재컴파일)
+    private final Cache<Long, VersionedSchedule> openSchedules = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
     /**
      * 가게 생성
      */
@@ -122,6 +127,11 @@ public class ShopService {
             log.info("Saving to database...");
             Shop savedShop = shopRepository.save(shop);
             log.info("Shop saved successfully with ID: {}", savedShop.getId());
+            if (!finalImageUrl.equals(defaultShopImageUrl)) {
+                fileStorageService.claimFile(finalImageUrl);
+            }
+
+            shopSpatialIndex.put(savedShop);
 
             return savedShop;
         } catch (Exception e) {
@@ -196,8 +206,8 @@ public class ShopService {
         // 좌표 검증 (기존 validateCoordinates 재사용)
         validateCoordinates(latitude, longitude);
 
-        // 50m = 0.05km (Repository는 km 단위 사용)
-        List<Shop> shops = shopRepository.findNearbyShops(latitude, longitude, 0.05);
+        // 50m = 0.05km (사각형 BETWEEN 후보 조회 → Java Haversine 거리 정렬)
+        List<Shop> shops = nearbyShopFinder.findWithinRadius(latitude, longitude, 0.05);
 
         log.info("Found {} shops within 50m", shops.size());
 
@@ -232,7 +242,7 @@ public class ShopService {
         }
 
         // 경계 내 가게 조회
-        List<Shop> shops = shopRepository.findShopsWithinBounds(
+        List<Shop> shops = findShopsWithinBounds(
                 northEastLat, northEastLng, southWestLat, southWestLng
         );
 
@@ -248,8 +258,9 @@ public class ShopService {
             log.info("User {} has {} favorite shops", userId, favoriteShopIds.size());
         }
 
-        // 거리 계산 및 DTO 변환
+        // 거리 계산 및 DTO 변환 (영업 상태는 동일한 기준 시각으로 판단)
         final Set<Long> finalFavoriteShopIds = favoriteShopIds;
+        OpenSchedule.Moment now = OpenSchedule.Moment.now();
         Map<Shop, Double> shopDistances = new HashMap<>();
 
         List<ShopMapResponse> responses = shops.stream()
@@ -273,7 +284,7 @@ public class ShopService {
                     Double distanceKm = shopDistances.get(shop);
                     String distanceStr = distanceKm != null ? formatDistance(distanceKm) : null;
                     boolean isFavorite = finalFavoriteShopIds.contains(shop.getId());
-                    String openStatus = getOpenStatus(shop.getOpenTime());
+                    String openStatus = getOpenStatus(shop, now);
                     return ShopMapResponse.of(shop, distanceStr, openStatus, isFavorite);
                 })
                 .collect(Collectors.toList());
@@ -282,6 +293,24 @@ public class ShopService {
         return responses;
     }
 
+    /**
+     * 경계 내 가게 조회
+     * 공간 인덱스 사용 가능 시 인메모리 격자에서 ID를 찾아 PK로 로드하고, 아니면 JPQL BETWEEN 조회
+     */
+    private List<Shop> findShopsWithinBounds(Double northEastLat, Double northEastLng,
+                                             Double southWestLat, Double southWestLng) {
+        if (!shopSpatialIndex.isAvailable()) {
+            return shopRepository.findShopsWithinBounds(northEastLat, northEastLng, southWestLat, southWestLng);
+        }
+
+        List<Long> shopIds = shopSpatialIndex.findShopIdsWithinBounds(
+                northEastLat, northEastLng, southWestLat, southWestLng);
+        if (shopIds.isEmpty()) {
+            return List.of();
+        }
+        return shopRepository.findAllById(shopIds);
+    }
+
     /**
      * Haversine 공식으로 두 좌표 간 거리 계산 (단위: km)
      */
@@ -339,174 +368,42 @@ public class ShopService {
     }
 
     /**
-     * 현재 한국 시간 기준 영업 여부 판단
+     * 가게의 컴파일된 영업 시간 조회 (shopId + updatedAt 기준 캐시, 가게 수정 시 자동으로 재컴파일)
      */
-    public boolean isOpenNow(String openTimeJson) {
-        Map<String, String> timeMap = parseOpenTime(openTimeJson);
-        return isOpenNow(timeMap);
-    }
-
-    /**
-     * 현재 한국 시간 기준 영업 여부 판단 (파싱된 Map 사용)
-     */
-    private boolean isOpenNow(Map<String, String> timeMap) {
-        if (timeMap.isEmpty()) {
-            return false;
+    public OpenSchedule getOpenSchedule(Shop shop) {
+        if (shop.getId() == null) {
+            return OpenSchedule.compile(parseOpenTime(shop.getOpenTime()));
         }
 
-        try {
-            // 현재 한국 시간 가져오기
-            ZonedDateTime nowInKorea = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-            DayOfWeek dayOfWeek = nowInKorea.getDayOfWeek();
-            LocalTime currentTime = nowInKorea.toLocalTime();
-
-            // 요일을 "Mon", "Tue" 형식으로 변환
-            String dayKey = getDayKey(dayOfWeek);
-
-            String daySchedule = timeMap.get(dayKey);
-
-            // 해당 요일이 null이거나 없으면 휴무
-            if (daySchedule == null) {
-                return false;
-            }
-
-            // "10:00-22:00" 또는 "10:00~22:00" 형식 파싱
-            String[] times = splitTimeRange(daySchedule);
-            if (times == null) {
-                log.warn("Invalid time format: {}", daySchedule);
-                return false;
-            }
-
-            LocalTime openTime = parseTimeString(times[0]);
-            LocalTime closeTime = parseTimeString(times[1]);
-
-            // 익일 영업 (overnight) 처리 (예: 22:00-02:00)
-            if (closeTime.isBefore(openTime)) {
-                return !currentTime.isBefore(openTime) || !currentTime.isAfter(closeTime);
-            }
-
-            // 일반적인 경우 (예: 10:00-22:00)
-            return !currentTime.isBefore(openTime) && !currentTime.isAfter(closeTime);
-
-        } catch (Exception e) {
-            log.error("Error checking open status", e);
-            return false;
+        VersionedSchedule cached = openSchedules.getIfPresent(shop.getId());
+        if (cached != null && Objects.equals(cached.updatedAt(), shop.getUpdatedAt())) {
+            return cached.schedule();
         }
-    }
 
-    /**
-     * 시간 범위 문자열 분리 ("10:00-22:00", "10:00~22:00" 형식 지원)
-     */
-    private String[] splitTimeRange(String timeRange) {
-        if (timeRange == null) {
-            return null;
-        }
-        // "-" 또는 "~"를 구분자로 사용 (앞뒤 공백 허용)
-        String[] times = timeRange.split("\\s*[-~]\\s*");
-        if (times.length != 2) {
-            return null;
-        }
-        return times;
+        OpenSchedule schedule = OpenSchedule.compile(parseOpenTime(shop.getOpenTime()));
+        openSchedules.put(shop.getId(), new VersionedSchedule(shop.getUpdatedAt(), schedule));
+        return schedule;
     }
 
     /**
-     * 시간 문자열을 LocalTime으로 파싱 ("24:00" → 23:59:59 처리 포함)
+     * 현재 한국 시간 기준 영업 여부 판단
      */
-    private LocalTime parseTimeString(String timeStr) {
-        if ("24:00".equals(timeStr)) {
-            return LocalTime.of(23, 59, 59);
-        }
-        return LocalTime.parse(timeStr);
+    public boolean isOpenNow(String openTimeJson) {
+        return OpenSchedule.compile(parseOpenTime(openTimeJson)).isOpen(OpenSchedule.Moment.now());
     }
 
     /**
      * 현재 한국 시간 기준 영업 상태 반환 ("영업 중" / "영업 종료" / "휴무" / "")
      */
     public String getOpenStatus(String openTimeJson) {
-        Map<String, String> timeMap = parseOpenTime(openTimeJson);
-        return getOpenStatus(timeMap);
+        return OpenSchedule.compile(parseOpenTime(openTimeJson)).status(OpenSchedule.Moment.now());
     }
 
     /**
-     * 현재 한국 시간 기준 영업 상태 반환 (파싱된 Map 사용)
+     * 기준 시각의 가게 영업 상태 반환 (목록 조회 시 요청당 한 번 만든 Moment 공유)
      */
-    private String getOpenStatus(Map<String, String> timeMap) {
-        log.debug("getOpenStatus 호출 - timeMap: {}", timeMap);
-
-        // openTime이 null이거나 빈 경우
-        if (timeMap == null || timeMap.isEmpty()) {
-            log.debug("getOpenStatus - timeMap이 null 또는 empty이므로 빈 문자열 반환");
-            return "";
-        }
-
-        try {
-            // 현재 한국 시간 가져오기
-            ZonedDateTime nowInKorea = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-            DayOfWeek dayOfWeek = nowInKorea.getDayOfWeek();
-            LocalTime currentTime = nowInKorea.toLocalTime();
-
-            // 요일을 "Mon", "Tue" 형식으로 변환
-            String dayKey = getDayKey(dayOfWeek);
-            log.debug("getOpenStatus - 현재: {}, 요일: {}, 시간: {}", nowInKorea, dayKey, currentTime);
-
-            String daySchedule = timeMap.get(dayKey);
-            log.debug("getOpenStatus - 오늘({}) 스케줄: '{}'", dayKey, daySchedule);
-
-            // "휴무"라고 명시되어 있으면 휴무 반환
-            if ("휴무".equals(daySchedule)) {
-                log.debug("getOpenStatus - '휴무' 값이므로 '휴무' 반환");
-                return "휴무";
-            }
-
-            // 해당 요일이 null이거나 빈 문자열이면 빈 문자열 반환
-            if (daySchedule == null || daySchedule.trim().isEmpty()) {
-                log.debug("getOpenStatus - null 또는 빈 문자열이므로 빈 문자열 반환");
-                return "";
-            }
-
-            // "10:00-22:00" 또는 "10:00~22:00" 형식 파싱
-            String[] times = splitTimeRange(daySchedule);
-            if (times == null) {
-                log.warn("Invalid time format: {}", daySchedule);
-                return "";
-            }
-
-            LocalTime openTime = parseTimeString(times[0]);
-            LocalTime closeTime = parseTimeString(times[1]);
-            log.debug("getOpenStatus - openTime: {}, closeTime: {}", openTime, closeTime);
-
-            // 익일 영업 (overnight) 처리 (예: 22:00-02:00)
-            boolean isCurrentlyOpen;
-            if (closeTime.isBefore(openTime)) {
-                isCurrentlyOpen = !currentTime.isBefore(openTime) || !currentTime.isAfter(closeTime);
-            } else {
-                // 일반적인 경우 (예: 10:00-22:00)
-                isCurrentlyOpen = !currentTime.isBefore(openTime) && !currentTime.isAfter(closeTime);
-            }
-
-            String result = isCurrentlyOpen ? "영업 중" : "영업 종료";
-            log.debug("getOpenStatus - 최종 결과: '{}'", result);
-            return result;
-
-        } catch (Exception e) {
-            log.error("Error checking open status", e);
-            return "";
-        }
-    }
-
-    /**
-     * DayOfWeek를 "Mon", "Tue" 형식 문자열로 변환
-     */
-    private String getDayKey(DayOfWeek dayOfWeek) {
-        return switch (dayOfWeek) {
-            case MONDAY -> "Mon";
-            case TUESDAY -> "Tue";
-            case WEDNESDAY -> "Wed";
-            case THURSDAY -> "Thu";
-            case FRIDAY -> "Fri";
-            case SATURDAY -> "Sat";
-            case SUNDAY -> "Sun";
-        };
+    public String getOpenStatus(Shop shop, OpenSchedule.Moment now) {
+        return getOpenSchedule(shop).status(now);
     }
 
     /**
@@ -519,9 +416,10 @@ public class ShopService {
         Shop shop = shopRepository.findById(shopId)
                 .orElseThrow(() -> ShopException.notFound(shopId));
 
-        Map<String, String> openTimeMap = parseOpenTime(shop.getOpenTime());
-        String todayOpenTime = getTodayOpenTime(openTimeMap);
-        String openStatus = getOpenStatus(openTimeMap);
+        OpenSchedule openSchedule = getOpenSchedule(shop);
+        OpenSchedule.Moment now = OpenSchedule.Moment.now();
+        String todayOpenTime = openSchedule.scheduleOf(now);
+        String openStatus = openSchedule.status(now);
 
         List<ReviewResponse> reviews = getTop5Reviews(shopId, sortBy, null);
         Long reviewCount = reviewRepository.countByShopId(shopId);
@@ -618,14 +516,6 @@ public class ShopService {
                 .stream()
                 .collect(Collectors.groupingBy(img -> img.getReview().getId()));
 
-        // N+1 방지: 좋아요 수 일괄 조회 (배치 쿼리)
-        Map<Long, Long> likeCountMap = reviewLikeRepository.countByReviewIdInGroupByReviewId(reviewIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        ReviewLikeRepository.ReviewLikeCount::getReviewId,
-                        ReviewLikeRepository.ReviewLikeCount::getLikeCount
-                ));
-
         // N+1 방지: 현재 사용자가 좋아요한 리뷰 목록 조회 (배치 쿼리)
         Set<Long> likedReviewIds = Set.of();
         if (currentUserId != null) {
@@ -641,45 +531,12 @@ public class ShopService {
                         review.getUser(),
                         imageMap.getOrDefault(review.getId(), List.of()),
                         currentUserId != null && review.getUser().getId().equals(currentUserId),
-                        likeCountMap.getOrDefault(review.getId(), 0L),
+                        review.getLikeCount(),
                         finalLikedReviewIds.contains(review.getId())
                 ))
                 .toList();
     }
 
-    /**
-     * 오늘의 영업 시간 추출 (한국 시간 기준)
-     */
-    private String getTodayOpenTime(String openTimeJson) {
-        Map<String, String> timeMap = parseOpenTime(openTimeJson);
-        return getTodayOpenTime(timeMap);
-    }
-
-    /**
-     * 오늘의 영업 시간 추출 (파싱된 Map 사용)
-     */
-    private String getTodayOpenTime(Map<String, String> timeMap) {
-        if (timeMap.isEmpty()) {
-            return null;
-        }
-
-        try {
-            // 현재 한국 시간 가져오기
-            ZonedDateTime nowInKorea = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-            DayOfWeek dayOfWeek = nowInKorea.getDayOfWeek();
-
-            // 요일을 "Mon", "Tue" 형식으로 변환
-            String dayKey = getDayKey(dayOfWeek);
-
-            // 해당 요일의 영업 시간 반환 (null이면 휴무)
-            return timeMap.get(dayKey);
-
-        } catch (Exception e) {
-            log.error("Error extracting today's open time", e);
-            return null;
-        }
-    }
-
     /**
      * 가게 정보 수정 (ADMIN 전용)
      */
@@ -715,6 +572,7 @@ public class ShopService {
                 addressInfo.mainAddressNo(),
                 addressInfo.subAddressNo()
         );
+        shopSpatialIndex.put(shop);
 
         log.info("Shop {} updated successfully", shopId);
     }
@@ -750,13 +608,17 @@ public class ShopService {
 
         if (!Objects.equals(currentImageUrl, mainImageUrl)) {
             shop.updateMainImage(mainImageUrl);
+            if (mainImageUrl != null && !mainImageUrl.equals(defaultShopImageUrl)) {
+                fileStorageService.claimFile(mainImageUrl);
+            }
         }
         log.info("Shop {} main image updated successfully", shopId);
     }
 
     /**
      * 가게 삭제 (ADMIN 전용)
-     * 연관 데이터(리뷰, 찜, 이미지) 모두 삭제
+     * 지도/주변 검색에서는 즉시 제외하고, 연관 데이터(리뷰, 찜, 댓글, 제안, 이미지)와 가게는
+     * 커밋 이후 ErasureEngine이 청크 단위로 삭제 (ErasurePlan 참고)
      */
     @Transactional
     @Caching(evict = {
@@ -768,55 +630,13 @@ public class ShopService {
 
         validateAdmin(currentUser);
 
-        Shop shop = shopRepository.findById(shopId)
-                .orElseThrow(() -> ShopException.notFound(shopId));
-
-        // 1. 리뷰 관련 데이터 삭제 (이미지 + 좋아요 + 리뷰)
-        List<Review> reviews = reviewRepository.findAllByShopId(shopId);
-        if (!reviews.isEmpty()) {
-            List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
-
-            // 리뷰 이미지 S3 삭제
-            for (Review review : reviews) {
-                List<ReviewImage> images = reviewImageRepository
-                        .findAllByReviewIdOrderByDisplayOrder(review.getId());
-                for (ReviewImage image : images) {
-                    try {
-                        fileStorageService.deleteFile(image.getImageUrl());
-                    } catch (Exception e) {
-                        log.error("Failed to delete review image: {}", image.getImageUrl(), e);
-                    }
-                }
-            }
-
-            // DB 삭제: 이미지 → 좋아요 → 리뷰
-            reviewImageRepository.deleteAllByReviewIdIn(reviewIds);
-            reviewLikeRepository.deleteAllByReviewIdIn(reviewIds);
-            reviewRepository.deleteAllByShopId(shopId);
-            log.info("Deleted {} reviews for shop {}", reviews.size(), shopId);
-        }
-
-        // 2. 찜 삭제
-        favoriteRepository.deleteAllByShopId(shopId);
-
-        // 3. 댓글 삭제
-        commentRepository.deleteAllByShopId(shopId);
-
-        // 4. 제안 기록 삭제
-        shopSuggestionRepository.deleteAllByShopId(shopId);
-
-        // 5. 가게 대표 이미지 S3 삭제
-        if (shop.getMainImageUrl() != null && !shop.getMainImageUrl().equals(defaultShopImageUrl)) {
-            try {
-                fileStorageService.deleteFile(shop.getMainImageUrl());
-            } catch (Exception e) {
-                log.error("Failed to delete shop main image: {}", shop.getMainImageUrl(), e);
-            }
+        if (!shopRepository.existsById(shopId)) {
+            throw ShopException.notFound(shopId);
         }
 
-        // 6. 가게 삭제
-        shopRepository.delete(shop);
-        log.info("Shop {} deleted successfully", shopId);
+        shopSpatialIndex.remove(shopId);
+        erasureEngine.schedule(ErasureTargetType.SHOP, shopId);
+        log.info("Shop {} deletion scheduled", shopId);
     }
 
     /**
@@ -827,4 +647,7 @@ public class ShopService {
             throw ShopException.unauthorized();
         }
     }
+
+    private record VersionedSchedule(LocalDateTime updatedAt, OpenSchedule schedule) {
+    }
 }
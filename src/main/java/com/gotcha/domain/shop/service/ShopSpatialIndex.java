@@ -0,0 +1,319 @@
+package com.gotcha.domain.shop.service;
+
+import com.gotcha._global.config.ShopSpatialIndexProperties;
+import com.gotcha.domain.shop.entity.Shop;
+import com.gotcha.domain.shop.repository.ShopRepository;
+import com.gotcha.domain.shop.repository.ShopRepository.ShopCoordinate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 지도 영역 조회용 인메모리 공간 인덱스 (Uniform Grid).
+ *
+ * 가게 좌표를 위도/경도 격자 셀 단위로 보관하여 지도 경계 조회를 DB BETWEEN 스캔 없이 처리합니다.
+ * 기동 시 전체 좌표를 적재하고, 가게 생성/수정/삭제는 트랜잭션 커밋 이후 증분 반영합니다.
+ * 재구성 중에 들어온 증분 변경은 기록해 두었다가 새 격자에 다시 적용하므로 DB 스냅샷으로 덮어쓰이지 않습니다.
+ * 좌표가 없는 가게는 인덱스에 포함하지 않습니다 (JPQL BETWEEN 조회와 동일).
+ * 다중 인스턴스 환경에서 다른 노드의 변경은 주기적 정합성 검사 시점에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopSpatialIndex implements ApplicationRunner {
+
+    private final ShopRepository shopRepository;
+    private final ShopSpatialIndexProperties properties;
+
+    // 적재 전에는 null (JPQL 조회로 대체)
+    private volatile Grid grid;
+
+    // 재구성(전체 적재/정합성 검사)은 한 번에 하나씩
+    private final Object rebuildLock = new Object();
+
+    // 재구성 중 반영된 증분 변경 (재구성 중이 아니면 null, this로 보호)
+    private List<Consumer<Grid>> changesDuringRebuild;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to load shop spatial index, falling back to JPQL bounds query", e);
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (설정 활성화 + 적재 완료)
+     */
+    public boolean isAvailable() {
+        return properties.isEnabled() && grid != null;
+    }
+
+    /**
+     * 경계 내 가게 ID 조회 (경계값 포함, JPQL BETWEEN과 동일한 의미)
+     */
+    public List<Long> findShopIdsWithinBounds(double northEastLat, double northEastLng,
+                                              double southWestLat, double southWestLng) {
+        Grid current = grid;
+        if (current == null) {
+            return List.of();
+        }
+        return current.findWithinBounds(northEastLat, northEastLng, southWestLat, southWestLng);
+    }
+
+    /**
+     * 가게 좌표 추가/갱신 (트랜잭션 진행 중이면 커밋 이후 반영, 좌표가 없으면 제거)
+     */
+    public void put(Shop shop) {
+        Long shopId = shop.getId();
+        Double latitude = shop.getLatitude();
+        Double longitude = shop.getLongitude();
+        if (latitude == null || longitude == null) {
+            remove(shopId);
+            return;
+        }
+        runAfterCommit(() -> apply(current -> current.put(shopId, latitude, longitude)));
+    }
+
+    /**
+     * 가게 좌표 제거 (트랜잭션 진행 중이면 커밋 이후 반영)
+     */
+    public void remove(Long shopId) {
+        runAfterCommit(() -> apply(current -> current.remove(shopId)));
+    }
+
+    /**
+     * DB 전체 좌표로 인덱스 재구성
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            startRecording();
+            try {
+                replaceWith(shopRepository.findAllCoordinates());
+            } finally {
+                stopRecording();
+            }
+        }
+    }
+
+    /**
+     * 인덱스와 DB 좌표를 비교하여 불일치 시 재구성
+     */
+    @Scheduled(
+            initialDelayString = "${shop.spatial-index.consistency-check-interval-ms:300000}",
+            fixedDelayString = "${shop.spatial-index.consistency-check-interval-ms:300000}"
+    )
+    public void verifyConsistency() {
+        if (!properties.isEnabled() || grid == null) {
+            return;
+        }
+
+        synchronized (rebuildLock) {
+            startRecording();
+            try {
+                Grid current = grid;
+                List<ShopCoordinate> coordinates = shopRepository.findAllCoordinates();
+                Set<Long> shopIds = new HashSet<>();
+                int mismatched = 0;
+                for (ShopCoordinate coordinate : coordinates) {
+                    if (!hasLocation(coordinate)) {
+                        continue;
+                    }
+                    shopIds.add(coordinate.getId());
+                    Point point = current.points.get(coordinate.getId());
+                    if (point == null
+                            || point.latitude() != coordinate.getLatitude()
+                            || point.longitude() != coordinate.getLongitude()) {
+                        mismatched++;
+                    }
+                }
+                long stale = current.points.keySet().stream()
+                        .filter(shopId -> !shopIds.contains(shopId))
+                        .count();
+
+                if (mismatched == 0 && stale == 0) {
+                    log.debug("Shop spatial index is consistent - {} shops", shopIds.size());
+                    return;
+                }
+
+                log.warn("Shop spatial index drift detected - missing/moved: {}, stale: {}. Rebuilding",
+                        mismatched, stale);
+                replaceWith(coordinates);
+            } finally {
+                stopRecording();
+            }
+        }
+    }
+
+    /**
+     * 스냅샷으로 새 격자를 만든 뒤 그 사이 반영된 증분 변경을 다시 적용하고 교체
+     * 호출 전 startRecording()으로 기록을 시작해야 스냅샷 조회 중의 변경도 포함됩니다.
+     */
+    private void replaceWith(List<ShopCoordinate> coordinates) {
+        Grid rebuilt = new Grid(properties.getCellSizeDegrees());
+        int skipped = 0;
+        for (ShopCoordinate coordinate : coordinates) {
+            if (!hasLocation(coordinate)) {
+                skipped++;
+                continue;
+            }
+            rebuilt.put(coordinate.getId(), coordinate.getLatitude(), coordinate.getLongitude());
+        }
+        int replayed;
+        synchronized (this) {
+            replayed = changesDuringRebuild.size();
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            grid = rebuilt;
+        }
+        log.info("Shop spatial index loaded - {} shops, {} cells, {} without coordinates, {} changes replayed",
+                rebuilt.points.size(), rebuilt.cells.size(), skipped, replayed);
+    }
+
+    private static boolean hasLocation(ShopCoordinate coordinate) {
+        return coordinate.getLatitude() != null && coordinate.getLongitude() != null;
+    }
+
+    private synchronized void startRecording() {
+        changesDuringRebuild = new ArrayList<>();
+    }
+
+    private synchronized void stopRecording() {
+        changesDuringRebuild = null;
+    }
+
+    private synchronized void apply(Consumer<Grid> change) {
+        if (grid != null) {
+            change.accept(grid);
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Point(double latitude, double longitude) {
+    }
+
+    /**
+     * 위도/경도를 cellSize(도) 단위로 나눈 격자. 읽기는 락 없이, 쓰기는 외부에서 직렬화합니다.
+     */
+    private static final class Grid {
+
+        private final double cellSize;
+        private final Map<Long, Point> points = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+        private Grid(double cellSize) {
+            this.cellSize = cellSize;
+        }
+
+        void put(Long shopId, double latitude, double longitude) {
+            Point previous = points.put(shopId, new Point(latitude, longitude));
+            if (previous != null) {
+                removeFromCell(cellKey(previous.latitude(), previous.longitude()), shopId);
+            }
+            cells.computeIfAbsent(cellKey(latitude, longitude), key -> ConcurrentHashMap.newKeySet())
+                    .add(shopId);
+        }
+
+        void remove(Long shopId) {
+            Point previous = points.remove(shopId);
+            if (previous != null) {
+                removeFromCell(cellKey(previous.latitude(), previous.longitude()), shopId);
+            }
+        }
+
+        List<Long> findWithinBounds(double northEastLat, double northEastLng,
+                                    double southWestLat, double southWestLng) {
+            long minRow = index(southWestLat);
+            long maxRow = index(northEastLat);
+            long minCol = index(southWestLng);
+            long maxCol = index(northEastLng);
+            List<Long> result = new ArrayList<>();
+            if (minRow > maxRow || minCol > maxCol) {
+                return result;
+            }
+
+            // 축소된 지도처럼 셀 수가 가게 수보다 많으면 전체 좌표를 직접 순회
+            long cellCount = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+            if (cellCount > points.size()) {
+                points.forEach((shopId, point) -> {
+                    if (contains(point, northEastLat, northEastLng, southWestLat, southWestLng)) {
+                        result.add(shopId);
+                    }
+                });
+                return result;
+            }
+
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Set<Long> shopIds = cells.get(cellKey(row, col));
+                    if (shopIds == null) {
+                        continue;
+                    }
+                    for (Long shopId : shopIds) {
+                        Point point = points.get(shopId);
+                        if (point != null
+                                && contains(point, northEastLat, northEastLng, southWestLat, southWestLng)) {
+                            result.add(shopId);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        private boolean contains(Point point, double northEastLat, double northEastLng,
+                                 double southWestLat, double southWestLng) {
+            return point.latitude() >= southWestLat && point.latitude() <= northEastLat
+                    && point.longitude() >= southWestLng && point.longitude() <= northEastLng;
+        }
+
+        private void removeFromCell(long cellKey, Long shopId) {
+            cells.computeIfPresent(cellKey, (key, shopIds) -> {
+                shopIds.remove(shopId);
+                return shopIds.isEmpty() ? null : shopIds;
+            });
+        }
+
+        private long index(double degrees) {
+            return (long) Math.floor(degrees / cellSize);
+        }
+
+        private long cellKey(double latitude, double longitude) {
+            return cellKey(index(latitude), index(longitude));
+        }
+
+        private static long cellKey(long row, long col) {
+            return (row << 32) | (col & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.gotcha.domain.user.dto;
+
+import com.gotcha.domain.user.entity.UserStatus;
+import com.gotcha.domain.user.entity.UserType;
+import java.time.LocalDateTime;
+
+/**
+ * 인증 사용자 상태 스냅샷 (user-status 캐시 값)
+ * 요청마다 User 엔티티를 조회하지 않고 탈퇴/정지/차단 여부와 권한을 확인할 때 사용합니다.
+ */
+public record UserStatusSnapshot(
+        Long userId,
+        UserType userType,
+        UserStatus status,
+        LocalDateTime suspendedUntil,
+        Boolean deleted
+) {
+
+    public boolean hasAdminRole() {
+        return userType == UserType.ADMIN;
+    }
+
+    /**
+     * 정지 기간 만료 여부 (만료되었으면 다음 접근 시 ACTIVE로 복구)
+     */
+    public boolean suspensionExpiredAt(LocalDateTime now) {
+        return status == UserStatus.SUSPENDED && suspendedUntil != null && now.isAfter(suspendedUntil);
+    }
+}
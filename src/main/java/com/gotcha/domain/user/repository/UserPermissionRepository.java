@@ -2,7 +2,9 @@ package com.gotcha.domain.user.repository;
 
 import com.gotcha.domain.user.entity.PermissionType;
 import com.gotcha.domain.user.entity.UserPermission;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -29,4 +31,10 @@ public interface UserPermissionRepository extends JpaRepository<UserPermission,
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM UserPermission up WHERE up.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 탈퇴 청크 대상 id 조회
+     */
+    @Query("SELECT up.id FROM UserPermission up WHERE up.user.id = :userId ORDER BY up.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.gotcha.domain.user.repository;
 
+import com.gotcha.domain.user.dto.UserStatusSnapshot;
 import com.gotcha.domain.user.entity.SocialType;
 import com.gotcha.domain.user.entity.User;
 import com.gotcha.domain.user.entity.UserStatus;
@@ -24,4 +25,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE (:status IS NULL OR u.status = :status) AND u.isDeleted = false")
     Page<User> findAllWithStatusFilter(@Param("status") UserStatus status, Pageable pageable);
+
+    /**
+     * 인증/권한 확인용 상태 스냅샷 조회 (User 엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT new com.gotcha.domain.user.dto.UserStatusSnapshot(u.id, u.userType, u.status, u.suspendedUntil, u.isDeleted) "
+            + "FROM User u WHERE u.id = :userId")
+    Optional<UserStatusSnapshot> findStatusSnapshot(@Param("userId") Long userId);
 }
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -53,8 +54,10 @@ public class AdminUserService {
      * - BANNED: 영구 차단
      * - ACTIVE: 제재 해제
      * - ADMIN 계정 및 탈퇴한 사용자는 변경 불가
+     * - 커밋 이후 user-status 캐시 무효화 (다음 요청부터 바뀐 상태로 검증)
      */
     @Transactional
+    @CacheEvict(cacheNames = "user-status", key = "#userId")
     public AdminUserResponse updateUserStatus(Long userId, UpdateUserStatusRequest request) {
         User user = findUserOrThrow(userId);
 
@@ -0,0 +1,168 @@
+package com.gotcha.domain.user.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 패턴 문자열 매칭 오토마톤 (Aho-Corasick, 불변).
+ *
+ * 패턴 목록을 한 번 트라이 + 실패 링크로 컴파일해 두고, 입력 문자를 하나씩 {@link #next}로 넘기며
+ * 패턴 포함 여부를 판단합니다. 매칭 비용은 입력 길이에 비례하고 패턴 수와는 무관합니다.
+ * 상태는 int 하나이므로 여러 스레드가 동시에 사용할 수 있습니다.
+ */
+public final class AhoCorasick {
+
+    public static final int ROOT = 0;
+
+    private static final AhoCorasick EMPTY = compile(List.of());
+
+    // 상태별 전이: edgeChars/edgeTargets[edgeStart[s] .. edgeStart[s + 1]) (문자 오름차순)
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    // 해당 상태에서 끝나는 패턴이 있는지 (실패 링크로 도달하는 패턴 포함)
+    private final boolean[] accepting;
+
+    private AhoCorasick(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] failure, boolean[] accepting) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.accepting = accepting;
+    }
+
+    public static AhoCorasick empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 패턴 목록 컴파일 (빈 문자열/null 패턴은 무시)
+     */
+    public static AhoCorasick compile(Collection<String> patterns) {
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(false);
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer child = children.get(state).get(pattern.charAt(i));
+                if (child == null) {
+                    child = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(false);
+                    children.get(state).put(pattern.charAt(i), child);
+                }
+                state = child;
+            }
+            terminal.set(state, true);
+        }
+
+        // 2. 배열로 평탄화
+        int stateCount = children.size();
+        int edgeCount = stateCount - 1;
+        int[] edgeStart = new int[stateCount + 1];
+        char[] edgeChars = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        int cursor = 0;
+        for (int state = 0; state < stateCount; state++) {
+            edgeStart[state] = cursor;
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                edgeChars[cursor] = edge.getKey();
+                edgeTargets[cursor] = edge.getValue();
+                cursor++;
+            }
+        }
+        edgeStart[stateCount] = cursor;
+
+        // 3. BFS로 실패 링크 계산
+        int[] failure = new int[stateCount];
+        boolean[] accepting = new boolean[stateCount];
+        AhoCorasick automaton = new AhoCorasick(edgeStart, edgeChars, edgeTargets, failure, accepting);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            int child = edgeTargets[e];
+            failure[child] = ROOT;
+            accepting[child] = terminal.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTargets[e];
+                int fallback = automaton.next(failure[state], edgeChars[e]);
+                failure[child] = fallback;
+                accepting[child] = terminal.get(child) || accepting[fallback];
+                queue.add(child);
+            }
+        }
+        return automaton;
+    }
+
+    /**
+     * 현재 상태에서 문자 c를 읽은 다음 상태
+     */
+    public int next(int state, char c) {
+        while (true) {
+            int target = child(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    /**
+     * 현재 상태에서 패턴 하나 이상이 끝나는지 여부
+     */
+    public boolean isAccepting(int state) {
+        return accepting[state];
+    }
+
+    /**
+     * 문자열에 패턴이 하나라도 포함되어 있는지 여부
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return edgeChars.length == 0;
+    }
+
+    private int child(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,347 @@
+package com.gotcha.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 컴파일된 금칙어 매처 (불변).
+ *
+ * 한국어/영어/초성 금칙어를 각각 {@link AhoCorasick} 오토마톤으로 한 번만 컴파일하고,
+ * 입력은 정규화하면서 바로 오토마톤에 흘려보내 검사합니다.
+ * 정규화 규칙은 기존 정규식 기반 구현과 동일합니다.
+ * - 한국어: 한글/자모만 남김 → 자모 분해 후 모음 반복 제거 → 완성형 조합 → 유사 발음 치환 → 반복 음절 제거
+ * - 영어: 소문자 변환 → Leet speak 치환 → 알파벳만 남김 → 반복 문자 제거 (3글자 미만 금칙어는 전체 일치만 검사)
+ * - 초성: 입력의 초성 문자(ㄱ-ㅎ)만 모아 검사
+ */
+public final class ForbiddenWordMatcher {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char JAMO_FIRST = 'ㄱ';
+    private static final char CONSONANT_LAST = 'ㅎ';
+    private static final char VOWEL_FIRST = 'ㅏ';
+    private static final char JAMO_LAST = 'ㅣ';
+
+    // 한글 초성 매핑
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 한글 중성(모음) 매핑
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    // 한글 종성 매핑 (첫 번째는 종성 없음)
+    private static final char[] JONGSUNG = {
+            '\0', 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 호환 자모(ㄱ-ㅣ) → 초성/중성/종성 인덱스 (-1: 해당 없음)
+    private static final int[] CHOSUNG_INDEX = jamoIndex(CHOSUNG, 0);
+    private static final int[] JUNGSUNG_INDEX = jamoIndex(JUNGSUNG, 0);
+    private static final int[] JONGSUNG_INDEX = jamoIndex(JONGSUNG, 1);
+
+    private static final ForbiddenWordMatcher EMPTY = new ForbiddenWordMatcher(
+            AhoCorasick.empty(), AhoCorasick.empty(), Set.of(), AhoCorasick.empty(), 0);
+
+    private final AhoCorasick korean;
+    private final AhoCorasick english;
+    // 정규화 후 3글자 미만인 영어 금칙어 (전체 일치만 검사)
+    private final Set<String> shortEnglish;
+    private final AhoCorasick chosung;
+    private final int wordCount;
+
+    private ForbiddenWordMatcher(AhoCorasick korean, AhoCorasick english, Set<String> shortEnglish,
+                                 AhoCorasick chosung, int wordCount) {
+        this.korean = korean;
+        this.english = english;
+        this.shortEnglish = shortEnglish;
+        this.chosung = chosung;
+        this.wordCount = wordCount;
+    }
+
+    public static ForbiddenWordMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 금칙어 목록 컴파일
+     * @param koreanWords 한국어 금칙어 (초성만으로 이루어진 단어는 초성 금칙어로 분류)
+     * @param englishWords 영어 금칙어
+     */
+    public static ForbiddenWordMatcher compile(Collection<String> koreanWords, Collection<String> englishWords) {
+        List<String> koreanPatterns = new ArrayList<>();
+        List<String> chosungPatterns = new ArrayList<>();
+        for (String word : koreanWords) {
+            if (isChosungOnly(word)) {
+                chosungPatterns.add(word);
+            } else {
+                koreanPatterns.add(word);
+            }
+        }
+
+        // 금칙어도 입력과 동일하게 반복 문자 제거 (ass → as로 비교)
+        List<String> englishPatterns = new ArrayList<>();
+        Set<String> shortEnglish = new HashSet<>();
+        for (String word : englishWords) {
+            String normalized = removeRepeatedCharacters(word.toLowerCase());
+            if (normalized.length() < 3) {
+                shortEnglish.add(normalized);
+            } else {
+                englishPatterns.add(normalized);
+            }
+        }
+
+        return new ForbiddenWordMatcher(
+                AhoCorasick.compile(koreanPatterns),
+                AhoCorasick.compile(englishPatterns),
+                Set.copyOf(shortEnglish),
+                AhoCorasick.compile(chosungPatterns),
+                koreanWords.size() + englishWords.size()
+        );
+    }
+
+    /**
+     * 금칙어 포함 여부
+     */
+    public boolean matches(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int length = text.length();
+        char[] jamo = new char[length * 3];
+        int jamoLength = 0;
+
+        int englishState = AhoCorasick.ROOT;
+        char[] englishHead = new char[2];
+        int englishLength = 0;
+        char previousEnglish = 0;
+        int chosungState = AhoCorasick.ROOT;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            // 한국어: 한글/자모만 남기고 자모 분해 (영문/숫자/특수문자 삽입 우회 방지)
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int code = c - SYLLABLE_BASE;
+                jamo[jamoLength++] = CHOSUNG[code / (21 * 28)];
+                jamo[jamoLength++] = JUNGSUNG[(code % (21 * 28)) / 28];
+                if (code % 28 != 0) {
+                    jamo[jamoLength++] = JONGSUNG[code % 28];
+                }
+            } else if (c >= JAMO_FIRST && c <= JAMO_LAST) {
+                jamo[jamoLength++] = c;
+
+                // 초성: 입력에 실제 초성 문자가 있는 경우만 검사
+                // 일반 한글에서 초성을 추출하면 오탐이 발생함 (예: 시바견 → ㅅㅂㄱ → ㅅㅂ 감지)
+                if (c <= CONSONANT_LAST) {
+                    chosungState = chosung.next(chosungState, c);
+                    if (chosung.isAccepting(chosungState)) {
+                        return true;
+                    }
+                }
+            }
+
+            // 영어: 소문자 + Leet speak 치환 후 알파벳만, 연속 동일 문자는 1개로
+            char e = toEnglish(c);
+            if (e != 0 && e != previousEnglish) {
+                previousEnglish = e;
+                if (englishLength < englishHead.length) {
+                    englishHead[englishLength] = e;
+                }
+                englishLength++;
+                englishState = english.next(englishState, e);
+                if (english.isAccepting(englishState)) {
+                    return true;
+                }
+            }
+        }
+
+        // 짧은 영어 금칙어는 정규화 결과 전체가 일치할 때만 (과탐 방지)
+        if (englishLength > 0 && englishLength < 3
+                && shortEnglish.contains(new String(englishHead, 0, englishLength))) {
+            return true;
+        }
+
+        return matchesKorean(jamo, jamoLength);
+    }
+
+    /**
+     * 컴파일된 금칙어 수
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    private boolean matchesKorean(char[] jamo, int length) {
+        if (length == 0 || korean.isEmpty()) {
+            return false;
+        }
+
+        // 1. 모음 반복 제거 (ㅅㅣㅇㅣㅇㅣㅂㅏㄹ → ㅅㅣㅂㅏㄹ, ㅣㅣ → ㅣ)
+        int written = 0;
+        for (int read = 0; read < length; ) {
+            char c = jamo[read++];
+            if (isVowel(c)) {
+                // 'ㅇ' + 같은 모음 반복 제거 (이이이 → 이)
+                while (read + 1 < length && jamo[read] == 'ㅇ' && jamo[read + 1] == c) {
+                    read += 2;
+                }
+                // 단순 모음 반복 제거
+                if (written > 0 && jamo[written - 1] == c) {
+                    continue;
+                }
+            }
+            jamo[written++] = c;
+        }
+
+        // 2. 완성형으로 조합 (ㅅㅣㅂㅏㄹ → 시발)
+        length = combineJamo(jamo, written);
+
+        // 3. 유사 발음 치환 + 반복 음절 제거 (씨씨발 → 씨발) 후 매칭
+        int state = AhoCorasick.ROOT;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = similarSound(jamo[i]);
+            if (c == previous) {
+                continue;
+            }
+            previous = c;
+            state = korean.next(state, c);
+            if (korean.isAccepting(state)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 자모 시퀀스를 완성형 한글로 조합 (제자리 변환, 조합 후 길이 반환)
+     * 예: "ㅅㅣㅂㅏㄹ" → "시발"
+     */
+    private static int combineJamo(char[] chars, int length) {
+        int written = 0;
+        int i = 0;
+        while (i < length) {
+            char c = chars[i];
+
+            // 초성인 경우 조합 시도
+            int choIndex = indexOf(CHOSUNG_INDEX, c);
+            if (choIndex >= 0 && i + 1 < length) {
+                int jungIndex = indexOf(JUNGSUNG_INDEX, chars[i + 1]);
+                if (jungIndex >= 0) {
+                    // 초성 + 중성 발견
+                    int jongIndex = 0;
+                    if (i + 2 < length) {
+                        int possibleJong = indexOf(JONGSUNG_INDEX, chars[i + 2]);
+                        // 다음 문자가 종성이 될 수 있고, 그 다음이 중성이 아닌 경우만 종성으로 처리
+                        if (possibleJong > 0
+                                && (i + 3 >= length || indexOf(JUNGSUNG_INDEX, chars[i + 3]) < 0)) {
+                            jongIndex = possibleJong;
+                            i++;
+                        }
+                    }
+                    chars[written++] = (char) (SYLLABLE_BASE + (choIndex * 21 * 28) + (jungIndex * 28) + jongIndex);
+                    i += 2;
+                    continue;
+                }
+            }
+
+            // 조합 불가능하면 그대로
+            chars[written++] = c;
+            i++;
+        }
+        return written;
+    }
+
+    /**
+     * 유사 발음 치환 (시/쉬/쒸 → 씨, 팔/벌 → 발, 색/삭 → 새, 십 → 씹, 섭 → 썹)
+     */
+    private static char similarSound(char c) {
+        return switch (c) {
+            case '시', '쉬', '쒸' -> '씨';
+            case '팔', '벌' -> '발';
+            case '색', '삭' -> '새';
+            case '십' -> '씹';
+            case '섭' -> '썹';
+            default -> c;
+        };
+    }
+
+    /**
+     * 영어 정규화 문자 (소문자 + Leet speak 치환, 알파벳이 아니면 0)
+     */
+    private static char toEnglish(char c) {
+        char lower = Character.toLowerCase(c);
+        char mapped = switch (lower) {
+            case '@', '4' -> 'a';
+            case '$', '5' -> 's';
+            case '!', '1' -> 'i';
+            case '0' -> 'o';
+            case '2' -> 'z';
+            case '3' -> 'e';
+            case '6', '9' -> 'g';
+            case '7' -> 't';
+            case '8' -> 'b';
+            default -> lower;
+        };
+        return mapped >= 'a' && mapped <= 'z' ? mapped : 0;
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= VOWEL_FIRST && c <= JAMO_LAST;
+    }
+
+    private static int indexOf(int[] table, char c) {
+        if (c < JAMO_FIRST || c > JAMO_LAST) {
+            return -1;
+        }
+        return table[c - JAMO_FIRST];
+    }
+
+    private static int[] jamoIndex(char[] jamo, int from) {
+        int[] table = new int[JAMO_LAST - JAMO_FIRST + 1];
+        Arrays.fill(table, -1);
+        for (int i = from; i < jamo.length; i++) {
+            table[jamo[i] - JAMO_FIRST] = i;
+        }
+        return table;
+    }
+
+    /**
+     * 반복 문자 제거 (연속 동일 문자를 1개로 축소)
+     */
+    private static String removeRepeatedCharacters(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (i == 0 || c != text.charAt(i - 1)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성만으로 이루어진 문자열인지 확인
+     */
+    private static boolean isChosungOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < JAMO_FIRST || c > CONSONANT_LAST) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gotcha.domain.user.service;
+
+import com.gotcha.domain.user.dto.UserStatusSnapshot;
+import com.gotcha.domain.user.entity.User;
+import com.gotcha.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 상태 스냅샷 캐시 (user-status, L1 Caffeine + L2 Redis).
+ *
+ * 인증 요청마다 users 행을 조회하던 탈퇴/정지/차단/권한 확인을 캐시된 스냅샷으로 처리합니다.
+ * 상태가 바뀌는 곳(관리자 제재 변경, 회원 탈퇴, 정지 만료 복구)에서 해당 사용자 항목을 무효화합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserStatusService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 상태 스냅샷 조회
+     * @return 스냅샷 (사용자가 없으면 null, 캐시하지 않음)
+     */
+    @Cacheable(cacheNames = "user-status", key = "#userId", unless = "#result == null")
+    public UserStatusSnapshot getSnapshot(Long userId) {
+        return userRepository.findStatusSnapshot(userId).orElse(null);
+    }
+
+    /**
+     * 정지 기간이 지난 사용자 ACTIVE 복구 후 스냅샷 무효화
+     */
+    @Transactional
+    @CacheEvict(cacheNames = "user-status", key = "#userId")
+    public void restoreIfSuspensionExpired(Long userId) {
+        userRepository.findById(userId)
+                .filter(User::checkAndRestoreIfSuspensionExpired)
+                .ifPresent(user -> log.info("Suspension expired, user restored - userId: {}", userId));
+    }
+}
@@ -0,0 +1,8 @@
+-- 리뷰 좋아요순 정렬 시 review_likes GROUP BY 집계 대신 리뷰 행의 비정규화 카운터 사용
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS like_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필
+UPDATE reviews r SET like_count = (SELECT COUNT(*) FROM review_likes rl WHERE rl.review_id = r.id);
+
+-- 가게별 좋아요순 페이지 조회 (ORDER BY like_count DESC, id DESC) 인덱스 범위 스캔용
+CREATE INDEX IF NOT EXISTS idx_reviews_shop_like_count ON reviews(shop_id, like_count DESC, id DESC);
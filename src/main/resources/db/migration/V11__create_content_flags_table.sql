@@ -0,0 +1,10 @@
+-- 금칙어가 검출된 리뷰/게시글/댓글 기록 (관리자 검토 대상)
+CREATE TABLE IF NOT EXISTS content_flags (
+    id BIGSERIAL PRIMARY KEY,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_content_flags_target UNIQUE (target_type, target_id),
+    CONSTRAINT ck_content_flags_target_type CHECK (target_type IN ('REVIEW', 'POST', 'POST_COMMENT'))
+);
@@ -0,0 +1,12 @@
+-- 업로드 원본 SHA-256 → S3 객체 인덱스 (중복 업로드 재사용 + 참조 수 기반 삭제)
+CREATE TABLE IF NOT EXISTS stored_files (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    object_key VARCHAR(500) NOT NULL,
+    thumbnail_key VARCHAR(500),
+    content_type VARCHAR(100) NOT NULL,
+    file_size BIGINT NOT NULL,
+    ref_count INTEGER NOT NULL DEFAULT 1,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_stored_files_object_key UNIQUE (object_key)
+);
@@ -0,0 +1,18 @@
+-- presigned 직접 업로드 세션 (발급 → 업로드 완료 → 워커 처리)
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id VARCHAR(36) PRIMARY KEY,
+    folder VARCHAR(20) NOT NULL,
+    raw_key VARCHAR(500) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    original_filename VARCHAR(255),
+    file_size BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    file_url VARCHAR(1000),
+    thumbnail_url VARCHAR(1000),
+    failure_reason VARCHAR(500),
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_status_updated_at ON upload_sessions (status, updated_at);
@@ -0,0 +1,16 @@
+-- S3 객체 삭제 outbox (엔티티 삭제 트랜잭션에서 기록, 커밋 이후 DeleteObjects로 일괄 삭제)
+CREATE TABLE IF NOT EXISTS file_deletion_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    object_key VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    claim_token VARCHAR(36),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_file_deletion_outbox_pending ON file_deletion_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_file_deletion_outbox_claim_token ON file_deletion_outbox (claim_token);
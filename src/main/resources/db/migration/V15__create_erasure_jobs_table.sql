@@ -0,0 +1,20 @@
+-- 가게 삭제/회원 탈퇴 연쇄 삭제 작업 (청크 단위 실행, 진행 위치 기록)
+CREATE TABLE IF NOT EXISTS erasure_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    step_index INTEGER NOT NULL DEFAULT 0,
+    current_step VARCHAR(50),
+    deleted_rows BIGINT NOT NULL DEFAULT 0,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error VARCHAR(500),
+    completed_at TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_erasure_jobs_target UNIQUE (target_type, target_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_erasure_jobs_runnable ON erasure_jobs (next_attempt_at)
+    WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1,3 @@
+-- presigned 업로드 처리 중 일시적 오류(처리 슬롯 포화, S3 타임아웃 등) 재시도 횟수와 다음 시도 시각
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE upload_sessions ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
@@ -0,0 +1,9 @@
+-- 업로드 중복 제거 범위를 폴더별로 한정 (같은 파일이라도 폴더가 다르면 각자 객체를 가짐)
+ALTER TABLE stored_files ADD COLUMN IF NOT EXISTS folder VARCHAR(50);
+
+-- 기존 데이터 백필 (object_key = {prefix}{folder}/{uuid}{ext})
+UPDATE stored_files SET folder = reverse(split_part(reverse(object_key), '/', 2)) WHERE folder IS NULL;
+
+ALTER TABLE stored_files ALTER COLUMN folder SET NOT NULL;
+ALTER TABLE stored_files DROP CONSTRAINT IF EXISTS stored_files_pkey;
+ALTER TABLE stored_files ADD CONSTRAINT stored_files_pkey PRIMARY KEY (folder, content_hash);
@@ -0,0 +1,3 @@
+-- 지도 경계 조회 / 반경 검색 1단계(위도·경도 BETWEEN) 범위 스캔용 복합 인덱스
+-- 위도 조건으로 범위를 좁힌 뒤 경도 조건은 인덱스 내에서 필터링
+CREATE INDEX IF NOT EXISTS idx_shops_latitude_longitude ON shops(latitude, longitude);
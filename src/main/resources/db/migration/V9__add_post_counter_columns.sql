@@ -0,0 +1,8 @@
+-- 게시글 목록 조회 시 좋아요/댓글 수를 GROUP BY 집계 대신 게시글 행에서 직접 읽기 위한 비정규화 카운터
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS like_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필
+UPDATE posts p SET
+    like_count = (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id),
+    comment_count = (SELECT COUNT(*) FROM post_comments pc WHERE pc.post_id = p.id);
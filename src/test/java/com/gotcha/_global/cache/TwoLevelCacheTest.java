@@ -0,0 +1,110 @@
+package com.gotcha._global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationBroker broker;
+
+    private ConcurrentMapCache redisCache;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redisCache = new ConcurrentMapCache("shop-detail");
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache(redisCache, Caffeine.newBuilder().maximumSize(100).build(), broker, meterRegistry);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tag("cache", "shop-detail")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("L2 적중 시 L1에 채우고 다음 조회는 L1에서 반환")
+    void l2HitPopulatesL1() {
+        // given
+        redisCache.put(1L, "value");
+
+        // when
+        cache.get(1L);
+        redisCache.evict(1L);
+        Object second = cache.get(1L).get();
+
+        // then
+        assertThat(second).isEqualTo("value");
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("양쪽 모두 없으면 null과 L2 미스 기록")
+    void missOnBothTiers() {
+        assertThat(cache.get(1L)).isNull();
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict는 L1/L2 모두 제거하고 무효화를 전파")
+    void evictPropagates() {
+        // given - put도 무효화를 전파하므로 evict 호출만 검증하도록 초기화
+        cache.put(1L, "value");
+        clearInvocations(broker);
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(redisCache.get(1L)).isNull();
+        verify(broker).publishEvict("shop-detail", "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 수신 시 L1만 제거")
+    void evictLocalKeepsL2() {
+        // given
+        cache.put(1L, "value");
+
+        // when
+        cache.evictLocal("1");
+
+        // then
+        assertThat(redisCache.get(1L)).isNotNull();
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+        assertThat(count("l1", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("clear는 전체 비우기를 전파")
+    void clearPropagates() {
+        cache.put(1L, "value");
+
+        cache.clear();
+
+        assertThat(cache.get(1L)).isNull();
+        verify(broker).publishClear("shop-detail");
+    }
+}
@@ -0,0 +1,203 @@
+package com.gotcha._global.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gotcha._global.config.HttpClientProperties;
+import com.gotcha._global.config.RestTemplateConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class HttpClientPoolMetricsTest {
+
+    private static final String HOST = "127.0.0.1";
+
+    private final RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+    private final CountDownLatch holding = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClientProperties properties;
+    private MeterRegistry meterRegistry;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private HttpClientPoolMetrics poolMetrics;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/ok", exchange -> respond(exchange, "ok"));
+        // 테스트가 release를 열 때까지 응답을 보내지 않는 느린 호스트
+        server.createContext("/hold", exchange -> {
+            holding.countDown();
+            awaitQuietly(release);
+            respond(exchange, "late");
+        });
+        server.start();
+
+        properties = new HttpClientProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (connectionManager != null) {
+            connectionManager.close();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 운영과 같은 빈 구성 (커넥션 매니저 → HttpClient → 공용 RestTemplate)
+     */
+    private void buildClient() {
+        connectionManager = restTemplateConfig.httpClientConnectionManager(properties, meterRegistry);
+        httpClient = restTemplateConfig.httpClient(connectionManager, properties);
+        restTemplate = restTemplateConfig.restTemplate(new RestTemplateBuilder(), httpClient);
+        poolMetrics = new HttpClientPoolMetrics(connectionManager, meterRegistry);
+    }
+
+    private String url(String path) {
+        return "http://" + HOST + ":" + server.getAddress().getPort() + path;
+    }
+
+    private double connections(String state) {
+        return meterRegistry.get("http.client.pool.connections").tags("host", HOST, "state", state).gauge().value();
+    }
+
+    private double maxConnections() {
+        return meterRegistry.get("http.client.pool.max").tags("host", HOST).gauge().value();
+    }
+
+    @Test
+    @DisplayName("호출한 호스트별로 풀 사용량과 상한 게이지를 기록하고 keep-alive 커넥션을 재사용")
+    void refresh_recordsPerHostRows() {
+        // given
+        properties.setMaxConnectionsPerRoute(4);
+        buildClient();
+
+        // when
+        assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        poolMetrics.refresh();
+
+        // then
+        assertThat(connections("leased")).isZero();
+        assertThat(connections("available")).isEqualTo(1);
+        assertThat(connections("pending")).isZero();
+        assertThat(maxConnections()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("호출 전에는 호스트별 게이지가 없음")
+    void refresh_noRoutes_noRows() {
+        // given
+        buildClient();
+
+        // when
+        poolMetrics.refresh();
+
+        // then
+        assertThat(meterRegistry.find("http.client.pool.connections").gauges()).isEmpty();
+        assertThat(meterRegistry.find("http.client.pool.max").gauges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답이 read-timeout-ms 안에 오지 않으면 실패하고 커넥션은 풀에 남지 않음")
+    void readTimeout() {
+        // given
+        properties.setReadTimeoutMs(200);
+        buildClient();
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/hold"), String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(3_000);
+
+        poolMetrics.refresh();
+        assertThat(connections("leased")).isZero();
+    }
+
+    @Test
+    @DisplayName("호스트 풀이 포화되면 pool-acquire-timeout-ms 후 실패하고 leased 게이지에 점유가 보임")
+    void poolSaturated_failsFastAndReportsLeased() throws Exception {
+        // given - 호스트당 커넥션 1개를 느린 요청이 점유
+        properties.setMaxConnectionsPerRoute(1);
+        properties.setPoolAcquireTimeoutMs(200);
+        buildClient();
+        Future<String> slow = executor.submit(() -> restTemplate.getForObject(url("/hold"), String.class));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        poolMetrics.refresh();
+
+        // then
+        assertThat(connections("leased")).isEqualTo(1);
+        assertThat(maxConnections()).isEqualTo(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/ok"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(3_000);
+
+        // when - 느린 요청이 끝나면 커넥션 반환
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+        poolMetrics.refresh();
+
+        // then
+        assertThat(connections("leased")).isZero();
+        assertThat(connections("available")).isEqualTo(1);
+        assertThat(connections("pending")).isZero();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
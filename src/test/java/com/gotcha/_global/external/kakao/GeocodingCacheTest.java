@@ -0,0 +1,188 @@
+package com.gotcha._global.external.kakao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.gotcha._global.config.GeocodingProperties;
+import com.gotcha._global.external.kakao.dto.AddressInfo;
+import com.gotcha.domain.shop.exception.ShopException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class GeocodingCacheTest {
+
+    private static final String BASE_URL = "http://kakao.local";
+    private static final String ADDRESS_JSON = """
+            {"documents":[{"address":{"address_name":"서울 중구 태평로1가 31",
+            "region_1depth_name":"서울","region_2depth_name":"중구","region_3depth_name":"태평로1가",
+            "mountain_yn":"N","main_address_no":"31","sub_address_no":""},"road_address":null}]}
+            """;
+    private static final String EMPTY_JSON = "{\"documents\":[]}";
+
+    // 같은 geohash(9자리) 셀 안의 두 좌표와 약 100m 떨어진 좌표
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+    private static final double NEARBY_LAT = 37.56647;
+    private static final double NEARBY_LNG = 126.97797;
+    private static final double FAR_LAT = 37.5675;
+
+    private GeocodingProperties properties;
+    private GeocodingCache geocodingCache;
+    private MockRestServiceServer server;
+    private KakaoMapClient kakaoMapClient;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeocodingProperties();
+        geocodingCache = new GeocodingCache(new ConcurrentMapCacheManager(GeocodingCache.CACHE_NAME), properties,
+                new SimpleMeterRegistry());
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        kakaoMapClient = new KakaoMapClient(restTemplate, geocodingCache);
+        ReflectionTestUtils.setField(kakaoMapClient, "restApiKey", "test-key");
+        ReflectionTestUtils.setField(kakaoMapClient, "baseUrl", BASE_URL);
+    }
+
+    private void expectAddress(String json, int count) {
+        server.expect(times(count), requestTo(Matchers.startsWith(BASE_URL + "/v2/local/geo/coord2address.json")))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("같은 셀 안의 좌표는 외부 API를 한 번만 호출")
+    void sameCellHitsCache() {
+        // given
+        assertThat(GeocodingCache.geohash(LAT, LNG, 9)).isEqualTo(GeocodingCache.geohash(NEARBY_LAT, NEARBY_LNG, 9));
+        expectAddress(ADDRESS_JSON, 1);
+
+        // when
+        AddressInfo first = kakaoMapClient.getAddressInfo(LAT, LNG);
+        AddressInfo second = kakaoMapClient.getAddressInfo(NEARBY_LAT, NEARBY_LNG);
+
+        // then
+        assertThat(first.addressName()).isEqualTo("서울 중구 태평로1가 31");
+        assertThat(second).isEqualTo(first);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("다른 셀의 좌표는 각각 조회")
+    void differentCellCallsApi() {
+        // given
+        server.expect(once(), queryParam("y", String.valueOf(LAT)))
+                .andRespond(withSuccess(ADDRESS_JSON, MediaType.APPLICATION_JSON));
+        server.expect(once(), queryParam("y", String.valueOf(FAR_LAT)))
+                .andRespond(withSuccess(ADDRESS_JSON, MediaType.APPLICATION_JSON));
+
+        // when
+        kakaoMapClient.getAddressInfo(LAT, LNG);
+        kakaoMapClient.getAddressInfo(FAR_LAT, LNG);
+
+        // then
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("주소 없음 결과도 캐시하여 다시 호출하지 않음")
+    void cachesAddressNotFound() {
+        // given
+        expectAddress(EMPTY_JSON, 1);
+
+        // when & then
+        assertThatThrownBy(() -> kakaoMapClient.getAddressInfo(LAT, LNG)).isInstanceOf(ShopException.class);
+        assertThatThrownBy(() -> kakaoMapClient.getAddressInfo(LAT, LNG)).isInstanceOf(ShopException.class);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("negative-caching 비활성화 시 주소 없음 결과는 매번 조회")
+    void negativeCachingDisabled() {
+        // given
+        properties.setNegativeCaching(false);
+        expectAddress(EMPTY_JSON, 2);
+
+        // when & then
+        assertThatThrownBy(() -> kakaoMapClient.getAddressInfo(LAT, LNG)).isInstanceOf(ShopException.class);
+        assertThatThrownBy(() -> kakaoMapClient.getAddressInfo(LAT, LNG)).isInstanceOf(ShopException.class);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("외부 API 오류는 캐시하지 않음")
+    void doesNotCacheApiError() {
+        // given
+        server.expect(once(), requestTo(Matchers.startsWith(BASE_URL)))
+                .andRespond(withServerError());
+        server.expect(once(), requestTo(Matchers.startsWith(BASE_URL)))
+                .andRespond(withSuccess(ADDRESS_JSON, MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> kakaoMapClient.getAddressInfo(LAT, LNG)).isInstanceOf(ShopException.class);
+        assertThat(kakaoMapClient.getAddressInfo(LAT, LNG).addressName()).isEqualTo("서울 중구 태평로1가 31");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 조회는 하나의 외부 호출로 합침")
+    void coalescesConcurrentLookups() throws Exception {
+        // given
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        AddressInfo address = new AddressInfo("서울 중구 태평로1가 31", "서울", "중구", "태평로1가", "N", "31", "");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Optional<AddressInfo>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return geocodingCache.get(LAT, LNG, () -> {
+                    loads.incrementAndGet();
+                    sleep(200);
+                    return Optional.of(address);
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Optional<AddressInfo>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).contains(address);
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
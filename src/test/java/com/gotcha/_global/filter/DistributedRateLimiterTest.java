@@ -0,0 +1,117 @@
+package com.gotcha._global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gotcha._global.config.RateLimitProperties;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedRateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private DistributedRateLimiter distributedRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDistributed(true);
+        properties.setPrefetchTokens(5);
+        properties.setPrefetchTtlMillis(60_000);
+        distributedRateLimiter = new DistributedRateLimiter(redisTemplate, properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisReturns(List<Long> result) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .willReturn(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyRedisCalls(int count) {
+        verify(redisTemplate, times(count)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("미리 받아 둔 토큰을 모두 쓸 때까지 Redis를 다시 호출하지 않음")
+    void prefetchedTokensServedLocally() {
+        // given - Redis가 5개 허용, 남은 토큰 95
+        givenRedisReturns(List.of(5L, 95L, 0L));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            Optional<DistributedRateLimiter.Decision> decision = distributedRateLimiter.tryConsume("ip:1.1.1.1", 1, 100, 100);
+            assertThat(decision).isPresent();
+            assertThat(decision.get().consumed()).isTrue();
+        }
+        distributedRateLimiter.tryConsume("ip:1.1.1.1", 1, 100, 100);
+
+        // then - 6번째 요청에서 다시 조회
+        verifyRedisCalls(2);
+    }
+
+    @Test
+    @DisplayName("거부되면 리필 예정 시각까지 Redis 없이 로컬에서 거부")
+    void rejectionCachedUntilRefill() {
+        // given - 토큰 없음, 다음 토큰까지 60초
+        givenRedisReturns(List.of(0L, 0L, 60_000L));
+
+        // when
+        DistributedRateLimiter.Decision first = distributedRateLimiter.tryConsume("ip:2.2.2.2", 1, 100, 100).orElseThrow();
+        DistributedRateLimiter.Decision second = distributedRateLimiter.tryConsume("ip:2.2.2.2", 1, 100, 100).orElseThrow();
+
+        // then
+        assertThat(first.consumed()).isFalse();
+        assertThat(second.consumed()).isFalse();
+        assertThat(second.nanosToWait()).isPositive();
+        verifyRedisCalls(1);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 empty를 반환하고 대기 시간 동안 Redis를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void redisFailureFallsBack() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        Optional<DistributedRateLimiter.Decision> first = distributedRateLimiter.tryConsume("ip:3.3.3.3", 1, 100, 100);
+        Optional<DistributedRateLimiter.Decision> second = distributedRateLimiter.tryConsume("ip:3.3.3.3", 1, 100, 100);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verifyRedisCalls(1);
+    }
+
+    @Test
+    @DisplayName("비용이 큰 요청은 미리 받아 둔 토큰이 비용보다 적으면 Redis에서 다시 판정")
+    void costlyRequestRefetchesWhenLeaseInsufficient() {
+        // given - 5개 허용
+        givenRedisReturns(List.of(5L, 95L, 0L));
+
+        // when - 비용 1 요청으로 lease 4개 남김, 이후 비용 10 요청
+        distributedRateLimiter.tryConsume("user:1", 1, 300, 300);
+        distributedRateLimiter.tryConsume("user:1", 10, 300, 300);
+
+        // then
+        verifyRedisCalls(2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.gotcha._global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gotcha._global.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RateLimitFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(2);
+        properties.setRefillTokens(2);
+        properties.setPreAuthCapacity(6);
+        properties.setPreAuthRefillTokens(6);
+        properties.setAuthenticatedCapacity(3);
+        properties.setAuthenticatedRefillTokens(3);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = new RateLimitFilter(properties, new ObjectMapper(),
+                new DistributedRateLimiter(null, properties), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/shops");
+        request.setRemoteAddr("10.0.0.1");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    private boolean passes(Filter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain.getRequest() != null;
+    }
+
+    /**
+     * 보안 필터 체인 순서대로 실행 (1단계 → JWT 인증 → 2단계)
+     */
+    private boolean passesChain(String token, Long authenticatedUserId) throws Exception {
+        MockHttpServletRequest request = request(token);
+        if (!passes(rateLimitFilter, request)) {
+            return false;
+        }
+        if (authenticatedUserId != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(authenticatedUserId, null, List.of()));
+        }
+        try {
+            return passes(rateLimitFilter.userFilter(), request);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private double rejected(String principal) {
+        return meterRegistry.get("rate_limit.rejected").tag("route", "default").tag("principal", principal)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 요청은 JWT 검증 전에 IP 버킷으로 제한")
+    void anonymous_limitedBeforeAuthentication() throws Exception {
+        assertThat(passes(rateLimitFilter, request(null))).isTrue();
+        assertThat(passes(rateLimitFilter, request(null))).isTrue();
+        assertThat(passes(rateLimitFilter, request(null))).isFalse();
+        assertThat(rejected("ip")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 IP 버킷이 아닌 사용자 버킷으로 제한")
+    void authenticated_limitedByUserBucket() throws Exception {
+        // IP 버킷 용량(2)을 넘어도 사용자 버킷 용량(3)까지 허용
+        assertThat(passesChain("valid", 1L)).isTrue();
+        assertThat(passesChain("valid", 1L)).isTrue();
+        assertThat(passesChain("valid", 1L)).isTrue();
+        assertThat(passesChain("valid", 1L)).isFalse();
+        assertThat(rejected("user")).isEqualTo(1);
+
+        // 같은 IP의 다른 사용자는 별도 버킷
+        assertThat(passesChain("valid", 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰이 있는 요청도 JWT 검증 전에 인증 전 IP 버킷으로 제한")
+    void tokenFlood_limitedBeforeAuthentication() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            assertThat(passes(rateLimitFilter, request("garbage-" + i))).isTrue();
+        }
+        assertThat(passes(rateLimitFilter, request("garbage-6"))).isFalse();
+        assertThat(rejected("pre-auth")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰이 유효하지 않아 인증되지 않은 요청은 JWT 검증 후 IP 버킷으로 제한")
+    void invalidToken_limitedByIpBucketAfterAuthentication() throws Exception {
+        assertThat(passesChain("expired", null)).isTrue();
+        assertThat(passesChain("expired", null)).isTrue();
+        assertThat(passesChain("expired", null)).isFalse();
+        assertThat(rejected("ip")).isEqualTo(1);
+    }
+}
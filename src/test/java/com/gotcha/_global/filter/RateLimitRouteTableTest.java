@@ -0,0 +1,68 @@
+package com.gotcha._global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gotcha._global.config.RateLimitProperties;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitRouteTableTest {
+
+    private static RateLimitProperties.Route route(String name, String pattern, List<String> methods, int cost) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName(name);
+        route.setPattern(pattern);
+        route.setMethods(methods);
+        route.setCost(cost);
+        return route;
+    }
+
+    @Test
+    @DisplayName("메서드와 경로가 모두 일치하는 규칙의 비용 적용")
+    void resolvesByMethodAndPath() {
+        RateLimitRouteTable table = RateLimitRouteTable.compile(List.of(
+                route("file-upload", "/api/files/**", List.of("post"), 10),
+                route("shop-map", "/api/shops/map", List.of(), 2)
+        ));
+
+        assertThat(table.resolve("POST", "/api/files/upload").cost()).isEqualTo(10);
+        assertThat(table.resolve("GET", "/api/files/upload")).isEqualTo(RateLimitRouteTable.DEFAULT_ROUTE);
+        assertThat(table.resolve("GET", "/api/shops/map").name()).isEqualTo("shop-map");
+        assertThat(table.resolve("DELETE", "/api/shops/map").cost()).isEqualTo(2);
+        assertThat(table.resolve("GET", "/api/shops/1").cost()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 규칙이 일치하면 먼저 선언된 규칙 적용")
+    void firstMatchWins() {
+        RateLimitRouteTable table = RateLimitRouteTable.compile(List.of(
+                route("review-write", "/api/shops/*/reviews", List.of("POST"), 3),
+                route("shops", "/api/shops/**", List.of(), 2)
+        ));
+
+        assertThat(table.resolve("POST", "/api/shops/7/reviews").name()).isEqualTo("review-write");
+        assertThat(table.resolve("GET", "/api/shops/7/reviews").name()).isEqualTo("shops");
+    }
+
+    @Test
+    @DisplayName("비용 0 규칙은 제한 제외, 이름이 없으면 패턴을 이름으로 사용")
+    void exemptAndDefaultName() {
+        RateLimitRouteTable table = RateLimitRouteTable.compile(List.of(
+                route(null, "/api/push/vapid-key", List.of("GET"), 0)
+        ));
+
+        RateLimitRouteTable.Route resolved = table.resolve("GET", "/api/push/vapid-key");
+        assertThat(resolved.isExempt()).isTrue();
+        assertThat(resolved.name()).isEqualTo("/api/push/vapid-key");
+        assertThat(table.routes()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("패턴이 없는 규칙은 시작 시 실패")
+    void rejectsMissingPattern() {
+        assertThatThrownBy(() -> RateLimitRouteTable.compile(List.of(route("broken", " ", List.of(), 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,14 +2,21 @@ package com.gotcha._global.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.gotcha.domain.auth.exception.AuthException;
+import com.gotcha.domain.user.dto.UserStatusSnapshot;
 import com.gotcha.domain.user.entity.SocialType;
 import com.gotcha.domain.user.entity.User;
+import com.gotcha.domain.user.entity.UserStatus;
+import com.gotcha.domain.user.entity.UserType;
 import com.gotcha.domain.user.repository.UserRepository;
+import com.gotcha.domain.user.service.UserStatusService;
+import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +36,9 @@ class SecurityUtilTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserStatusService userStatusService;
+
     @InjectMocks
     private SecurityUtil securityUtil;
 
@@ -69,23 +79,28 @@ class SecurityUtilTest {
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
+    private UserStatusSnapshot snapshot(UserStatus status, LocalDateTime suspendedUntil, boolean deleted) {
+        return new UserStatusSnapshot(1L, UserType.NORMAL, status, suspendedUntil, deleted);
+    }
+
     @Nested
     @DisplayName("getCurrentUser")
     class GetCurrentUser {
 
         @Test
-        @DisplayName("인증된 사용자의 User 엔티티를 반환한다")
-        void shouldReturnUserWhenAuthenticated() {
+        @DisplayName("상태 스냅샷으로 검증하고 User 엔티티는 조회하지 않고 참조만 반환한다")
+        void shouldReturnReferenceWithoutLoadingUser() {
             // given
             setAuthentication(1L);
-            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(userStatusService.getSnapshot(1L)).thenReturn(snapshot(UserStatus.ACTIVE, null, false));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
 
             // when
             User result = securityUtil.getCurrentUser();
 
             // then
             assertThat(result).isEqualTo(testUser);
-            assertThat(result.getNickname()).isEqualTo("테스트유저");
+            verify(userRepository, never()).findById(any());
         }
 
         @Test
@@ -103,7 +118,7 @@ class SecurityUtilTest {
         void shouldThrowExceptionWhenUserNotFound() {
             // given
             setAuthentication(999L);
-            when(userRepository.findById(999L)).thenReturn(Optional.empty());
+            when(userStatusService.getSnapshot(999L)).thenReturn(null);
 
             // when & then
             assertThatThrownBy(() -> securityUtil.getCurrentUser())
@@ -114,9 +129,8 @@ class SecurityUtilTest {
         @DisplayName("탈퇴한 사용자가 API 접근 시 A012 예외를 던진다")
         void shouldThrowExceptionWhenUserIsDeleted() {
             // given
-            testUser.delete(); // 탈퇴 처리
             setAuthentication(1L);
-            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(userStatusService.getSnapshot(1L)).thenReturn(snapshot(UserStatus.DELETED, null, true));
 
             // when & then
             assertThatThrownBy(() -> securityUtil.getCurrentUser())
@@ -125,6 +139,53 @@ class SecurityUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("getCurrentUserStatus")
+    class GetCurrentUserStatus {
+
+        @Test
+        @DisplayName("정지 기간 중이면 AuthException을 던진다")
+        void shouldThrowExceptionWhenSuspended() {
+            // given
+            setAuthentication(1L);
+            when(userStatusService.getSnapshot(1L))
+                    .thenReturn(snapshot(UserStatus.SUSPENDED, LocalDateTime.now().plusHours(1), false));
+
+            // when & then
+            assertThatThrownBy(() -> securityUtil.getCurrentUserStatus())
+                    .isInstanceOf(AuthException.class);
+            verify(userStatusService, never()).restoreIfSuspensionExpired(any());
+        }
+
+        @Test
+        @DisplayName("정지 기간이 지났으면 복구(캐시 무효화 포함) 후 통과한다")
+        void shouldRestoreWhenSuspensionExpired() {
+            // given
+            setAuthentication(1L);
+            when(userStatusService.getSnapshot(1L))
+                    .thenReturn(snapshot(UserStatus.SUSPENDED, LocalDateTime.now().minusMinutes(1), false));
+
+            // when
+            UserStatusSnapshot result = securityUtil.getCurrentUserStatus();
+
+            // then
+            assertThat(result.userId()).isEqualTo(1L);
+            verify(userStatusService).restoreIfSuspensionExpired(1L);
+        }
+
+        @Test
+        @DisplayName("영구 차단된 사용자는 AuthException을 던진다")
+        void shouldThrowExceptionWhenBanned() {
+            // given
+            setAuthentication(1L);
+            when(userStatusService.getSnapshot(1L)).thenReturn(snapshot(UserStatus.BANNED, null, false));
+
+            // when & then
+            assertThatThrownBy(() -> securityUtil.getCurrentUserStatus())
+                    .isInstanceOf(AuthException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getCurrentUserId")
     class GetCurrentUserId {
@@ -29,6 +29,11 @@ public class TestcontainersConfig {
                 return new FileUploadResponse(mockUrl, file.getOriginalFilename(), file.getSize(), file.getContentType());
             }
 
+            @Override
+            public void claimFile(String fileUrl) {
+                // 테스트에서는 참조 수를 세지 않음
+            }
+
             @Override
             public void deleteFile(String fileUrl) {
                 // 테스트에서는 실제 삭제 없이 무시
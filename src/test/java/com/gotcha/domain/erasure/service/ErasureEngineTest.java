@@ -0,0 +1,207 @@
+package com.gotcha.domain.erasure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gotcha._global.config.ErasureProperties;
+import com.gotcha.domain.erasure.entity.ErasureJob;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import com.gotcha.domain.erasure.repository.ErasureJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ErasureEngineTest {
+
+    private static final long JOB_ID = 1L;
+    private static final long TARGET_ID = 42L;
+
+    @Mock
+    private ErasureJobRepository erasureJobRepository;
+
+    @Mock
+    private ErasurePlan erasurePlan;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ErasureProperties erasureProperties;
+    private ErasureEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        erasureProperties = new ErasureProperties();
+        erasureProperties.setChunkSize(2);
+        engine = new ErasureEngine(erasureJobRepository, erasurePlan, erasureProperties, transactionManager,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private void givenClaimedJob(int stepIndex) {
+        ErasureJob job = new ErasureJob(ErasureTargetType.USER, TARGET_ID);
+        ReflectionTestUtils.setField(job, "id", JOB_ID);
+        ReflectionTestUtils.setField(job, "stepIndex", stepIndex);
+        when(erasureJobRepository.claim(eq(JOB_ID), any(), any())).thenReturn(1);
+        when(erasureJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+    }
+
+    /**
+     * 주어진 청크 크기 순서대로 처리했다고 응답하는 단계 (소진 후 0)
+     */
+    private ErasureStep step(String name, List<String> calls, Integer... chunks) {
+        Deque<Integer> remaining = new ArrayDeque<>(List.of(chunks));
+        return new ErasureStep(name, (targetId, chunkSize) -> {
+            calls.add(name);
+            return remaining.isEmpty() ? 0 : remaining.poll();
+        });
+    }
+
+    @Test
+    @DisplayName("단계마다 처리할 행이 없을 때까지 청크를 반복하고, 청크마다 진행 위치를 기록한 뒤 완료 처리")
+    void runsStepsInChunks() {
+        // given
+        givenClaimedJob(0);
+        List<String> calls = new ArrayList<>();
+        when(erasurePlan.stepsFor(ErasureTargetType.USER)).thenReturn(List.of(
+                step("favorites", calls, 2, 1),
+                step("reviews", calls)));
+
+        // when
+        boolean completed = engine.run(JOB_ID);
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(calls).containsExactly("favorites", "favorites", "favorites", "reviews");
+
+        InOrder inOrder = inOrder(erasureJobRepository);
+        inOrder.verify(erasureJobRepository).recordProgress(eq(JOB_ID), eq(0), eq("favorites"), eq(2L), any());
+        inOrder.verify(erasureJobRepository).recordProgress(eq(JOB_ID), eq(0), eq("favorites"), eq(1L), any());
+        inOrder.verify(erasureJobRepository).recordProgress(eq(JOB_ID), eq(1), eq("favorites"), eq(0L), any());
+        inOrder.verify(erasureJobRepository).recordProgress(eq(JOB_ID), eq(2), eq("reviews"), eq(0L), any());
+        inOrder.verify(erasureJobRepository).markCompleted(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("기록된 진행 위치 이전 단계는 다시 실행하지 않음")
+    void resumesFromRecordedStep() {
+        // given
+        givenClaimedJob(1);
+        List<String> calls = new ArrayList<>();
+        when(erasurePlan.stepsFor(ErasureTargetType.USER)).thenReturn(List.of(
+                step("favorites", calls, 2),
+                step("reviews", calls, 1)));
+
+        // when
+        engine.run(JOB_ID);
+
+        // then
+        assertThat(calls).containsExactly("reviews", "reviews");
+        verify(erasureJobRepository).markCompleted(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면(선점 실패) 아무 단계도 실행하지 않음")
+    void skipsWhenNotClaimed() {
+        // given
+        when(erasureJobRepository.claim(eq(JOB_ID), any(), any())).thenReturn(0);
+
+        // when
+        boolean completed = engine.run(JOB_ID);
+
+        // then
+        assertThat(completed).isFalse();
+        verify(erasurePlan, never()).stepsFor(any());
+        verify(erasureJobRepository, never()).markCompleted(anyLong());
+    }
+
+    @Test
+    @DisplayName("단계 실패 시 실패 기록 후 재시도 대기 (완료 처리하지 않음)")
+    void recordsFailure() {
+        // given
+        givenClaimedJob(0);
+        when(erasurePlan.stepsFor(ErasureTargetType.USER)).thenReturn(List.of(
+                new ErasureStep("chats", (targetId, chunkSize) -> {
+                    throw new IllegalStateException("lock timeout");
+                })));
+
+        // when
+        boolean completed = engine.run(JOB_ID);
+
+        // then
+        assertThat(completed).isFalse();
+        verify(erasureJobRepository).recordFailure(eq(JOB_ID), startsWith("chats: lock timeout"),
+                eq(erasureProperties.getMaxAttempts()), any());
+        verify(erasureJobRepository, never()).markCompleted(anyLong());
+        verify(erasureJobRepository, never()).recordProgress(anyLong(), anyInt(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("앞 단계가 끝난 뒤 추가된 자식 행은 마지막 단계에서 다시 정리한 뒤 부모 행 삭제")
+    void finalStepSweepsRowsAddedAfterChildStep() {
+        // given
+        givenClaimedJob(0);
+        List<String> reviews = new ArrayList<>(List.of("review-1", "review-2", "review-3"));
+        List<String> parent = new ArrayList<>(List.of("shop"));
+        ErasureStep reviewStep = new ErasureStep("reviews", (targetId, chunkSize) -> {
+            int count = Math.min(chunkSize, reviews.size());
+            reviews.subList(0, count).clear();
+            return count;
+        });
+        // reviews 단계가 끝난 뒤 새 리뷰가 한 번 등록됨
+        AtomicBoolean lateReviewAdded = new AtomicBoolean();
+        ErasureStep favoriteStep = new ErasureStep("favorites", (targetId, chunkSize) -> {
+            if (lateReviewAdded.compareAndSet(false, true)) {
+                reviews.add("late-review");
+            }
+            return 0;
+        });
+        List<ErasureStep> childSteps = List.of(reviewStep, favoriteStep);
+        ErasureStep shopStep = ErasureStep.finalStep("shop", childSteps, (targetId, chunkSize) -> {
+            if (!reviews.isEmpty()) {
+                throw new IllegalStateException("FK violation: reviews reference shop");
+            }
+            int count = parent.size();
+            parent.clear();
+            return count;
+        });
+        when(erasurePlan.stepsFor(ErasureTargetType.USER)).thenReturn(List.of(reviewStep, favoriteStep, shopStep));
+
+        // when
+        boolean completed = engine.run(JOB_ID);
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(reviews).isEmpty();
+        assertThat(parent).isEmpty();
+        verify(erasureJobRepository).markCompleted(JOB_ID);
+        verify(erasureJobRepository, never()).recordFailure(anyLong(), anyString(), anyInt(), any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.gotcha.domain.file.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gotcha.config.TestcontainersConfig;
+import com.gotcha.domain.file.entity.FileDeletion;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfig.class)
+class FileDeletionRepositoryTest {
+
+    @Autowired
+    private FileDeletionRepository fileDeletionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("처리 시각이 된 PENDING 기록만 limit까지 선점하고, lease 동안은 다시 선점되지 않음")
+    void claimBatch_claimsDuePendingRowsOnce() {
+        // given
+        fileDeletionRepository.saveAll(List.of(
+                new FileDeletion("test/reviews/a.webp"),
+                new FileDeletion("test/reviews/b.webp"),
+                new FileDeletion("test/reviews/c.webp")));
+        FileDeletion dead = new FileDeletion("test/reviews/dead.webp");
+        dead.recordFailure("AccessDenied", 1, LocalDateTime.now().minusMinutes(1));
+        fileDeletionRepository.save(dead);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusMinutes(1);
+
+        // when
+        int first = fileDeletionRepository.claimBatch("token-1", now, leaseUntil, 2);
+        int second = fileDeletionRepository.claimBatch("token-2", now, leaseUntil, 10);
+        int third = fileDeletionRepository.claimBatch("token-3", now, leaseUntil, 10);
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(fileDeletionRepository.findAllByClaimToken("token-1"))
+                .extracting(FileDeletion::getObjectKey)
+                .containsExactlyInAnyOrder("test/reviews/a.webp", "test/reviews/b.webp");
+        assertThat(fileDeletionRepository.findAllByClaimToken("token-2"))
+                .extracting(FileDeletion::getObjectKey)
+                .containsExactly("test/reviews/c.webp");
+    }
+}
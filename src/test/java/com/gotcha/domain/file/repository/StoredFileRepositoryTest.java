@@ -0,0 +1,108 @@
+package com.gotcha.domain.file.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gotcha.config.TestcontainersConfig;
+import com.gotcha.domain.file.entity.StoredFile;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfig.class)
+class StoredFileRepositoryTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String FOLDER = "reviews";
+    private static final String KEY = "test/reviews/abc.webp";
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 해시는 한 번만 등록 (두 번째 등록은 무시), 연결 전이므로 참조 수 0")
+    void insertIfAbsent_duplicateHash_ignored() {
+        // when
+        int first = storedFileRepository.insertIfAbsent(FOLDER, HASH, KEY, "test/reviews/abc_thumb.webp", "image/webp", 1024);
+        int second = storedFileRepository.insertIfAbsent(FOLDER, HASH, "test/reviews/other.webp", null, "image/webp", 1024);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        StoredFile stored = storedFileRepository.findByFolderAndContentHash(FOLDER, HASH).orElseThrow();
+        assertThat(stored.getObjectKey()).isEqualTo(KEY);
+        assertThat(stored.getRefCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 해시라도 폴더가 다르면 각자 등록")
+    void insertIfAbsent_sameHashOtherFolder_registered() {
+        // given
+        storedFileRepository.insertIfAbsent(FOLDER, HASH, KEY, null, "image/webp", 1024);
+
+        // when
+        int inserted = storedFileRepository.insertIfAbsent("profiles", HASH, "test/profiles/abc.webp", null,
+                "image/webp", 1024);
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(storedFileRepository.touch("posts", HASH, LocalDateTime.now())).isZero();
+        assertThat(storedFileRepository.findByFolderAndContentHash("profiles", HASH).orElseThrow().getObjectKey())
+                .isEqualTo("test/profiles/abc.webp");
+    }
+
+    @Test
+    @DisplayName("연결된 객체는 만료 정리 대상에서 제외, 마지막 참조 해제 후에만 정리")
+    void refCount_unclaimedAfterLastRelease() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+        storedFileRepository.insertIfAbsent(FOLDER, HASH, KEY, null, "image/webp", 1024);
+        assertThat(storedFileRepository.incrementRefCount(KEY)).isEqualTo(1);
+        assertThat(storedFileRepository.incrementRefCount(KEY)).isEqualTo(1);
+
+        // when & then - 첫 번째 해제: 아직 참조 남음
+        assertThat(storedFileRepository.decrementRefCount(KEY)).isEqualTo(1);
+        assertThat(storedFileRepository.findUnclaimed(cutoff, PageRequest.of(0, 10))).isEmpty();
+        assertThat(storedFileRepository.deleteIfUnclaimed(FOLDER, HASH, cutoff)).isZero();
+
+        // when & then - 두 번째 해제: 정리 대상
+        assertThat(storedFileRepository.decrementRefCount(KEY)).isEqualTo(1);
+        assertThat(storedFileRepository.findUnclaimed(cutoff, PageRequest.of(0, 10)))
+                .extracting(StoredFile::getObjectKey)
+                .containsExactly(KEY);
+        assertThat(storedFileRepository.deleteIfUnclaimed(FOLDER, HASH, cutoff)).isEqualTo(1);
+        entityManager.clear();
+        assertThat(storedFileRepository.findByFolderAndContentHash(FOLDER, HASH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연결 대기 시간이 지나지 않은(재사용된) 객체는 정리하지 않음")
+    void deleteIfUnclaimed_recentlyTouched_kept() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        storedFileRepository.insertIfAbsent(FOLDER, HASH, KEY, null, "image/webp", 1024);
+        storedFileRepository.touch(FOLDER, HASH, now.plusMinutes(10));
+
+        // when
+        int deleted = storedFileRepository.deleteIfUnclaimed(FOLDER, HASH, now.plusMinutes(1));
+
+        // then
+        assertThat(deleted).isZero();
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 객체 참조 해제 시 0 반환 (바로 삭제 대상)")
+    void decrementRefCount_unindexed_returnsZero() {
+        assertThat(storedFileRepository.decrementRefCount("test/reviews/legacy.webp")).isZero();
+    }
+}
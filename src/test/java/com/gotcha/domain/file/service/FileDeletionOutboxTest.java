@@ -0,0 +1,157 @@
+package com.gotcha.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.entity.FileDeletion;
+import com.gotcha.domain.file.entity.FileDeletionStatus;
+import com.gotcha.domain.file.repository.FileDeletionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@ExtendWith(MockitoExtension.class)
+class FileDeletionOutboxTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private FileDeletionRepository fileDeletionRepository;
+
+    private FileUploadProperties fileUploadProperties;
+    private FileDeletionOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadProperties = new FileUploadProperties();
+        outbox = new FileDeletionOutbox(s3Client, fileDeletionRepository, fileUploadProperties,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(outbox, "bucketName", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        outbox.shutdown();
+    }
+
+    private FileDeletion deletion(long id, String key) {
+        FileDeletion deletion = new FileDeletion(key);
+        ReflectionTestUtils.setField(deletion, "id", id);
+        return deletion;
+    }
+
+    private void givenClaimed(List<FileDeletion> batch) {
+        when(fileDeletionRepository.claimBatch(anyString(), any(), any(), anyInt())).thenReturn(batch.size(), 0);
+        when(fileDeletionRepository.findAllByClaimToken(anyString())).thenReturn(batch);
+    }
+
+    @Test
+    @DisplayName("선점한 키를 DeleteObjects 한 번으로 삭제하고 기록 제거 (같은 키는 한 번만 전송)")
+    void drainDeletesInOneRequest() {
+        // given
+        givenClaimed(List.of(
+                deletion(1L, "env/reviews/a.webp"),
+                deletion(2L, "env/reviews/a_thumb.webp"),
+                deletion(3L, "env/reviews/a.webp")));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder().build());
+
+        // when
+        int processed = outbox.drain();
+
+        // then
+        assertThat(processed).isEqualTo(3);
+        ArgumentCaptor<DeleteObjectsRequest> request = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(request.capture());
+        assertThat(request.getValue().delete().objects())
+                .extracting(ObjectIdentifier::key)
+                .containsExactlyInAnyOrder("env/reviews/a.webp", "env/reviews/a_thumb.webp");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> deletedIds = ArgumentCaptor.forClass(List.class);
+        verify(fileDeletionRepository).deleteAllByIdInBatch(deletedIds.capture());
+        assertThat(deletedIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(fileDeletionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("키별 오류는 해당 기록만 재시도로 남김")
+    void drainRetriesFailedKeys() {
+        // given
+        FileDeletion ok = deletion(1L, "env/reviews/a.webp");
+        FileDeletion denied = deletion(2L, "env/reviews/b.webp");
+        givenClaimed(List.of(ok, denied));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("env/reviews/b.webp").code("AccessDenied").message("denied").build())
+                .build());
+
+        // when
+        outbox.drain();
+
+        // then
+        verify(fileDeletionRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(fileDeletionRepository).saveAll(List.of(denied));
+        assertThat(denied.getAttempts()).isEqualTo(1);
+        assertThat(denied.getStatus()).isEqualTo(FileDeletionStatus.PENDING);
+        assertThat(denied.getLastError()).contains("AccessDenied");
+        assertThat(denied.getClaimToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 DEAD로 남김")
+    void drainDeadLettersAfterMaxAttempts() {
+        // given
+        fileUploadProperties.getDeletion().setMaxAttempts(1);
+        FileDeletion deletion = deletion(1L, "env/reviews/a.webp");
+        givenClaimed(List.of(deletion));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(S3Exception.builder().message("Service Unavailable").build());
+
+        // when
+        outbox.drain();
+
+        // then
+        assertThat(deletion.isDead()).isTrue();
+        verify(fileDeletionRepository).saveAll(List.of(deletion));
+        verify(fileDeletionRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 기록하면 바로 삭제 요청")
+    void enqueueOutsideTransaction() {
+        // when
+        outbox.enqueue(List.of("env/reviews/a.webp", "env/reviews/a_thumb.webp"));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FileDeletion>> saved = ArgumentCaptor.forClass(List.class);
+        verify(fileDeletionRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(FileDeletion::getObjectKey)
+                .containsExactly("env/reviews/a.webp", "env/reviews/a_thumb.webp");
+        verify(fileDeletionRepository, timeout(1_000))
+                .claimBatch(anyString(), any(), any(), anyInt());
+    }
+}
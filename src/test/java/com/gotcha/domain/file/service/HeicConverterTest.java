@@ -0,0 +1,144 @@
+package com.gotcha.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.gotcha._global.config.FileUploadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HeicConverterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HeicConverter converter(String command, long timeoutSeconds) {
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.getHeic().setCommand(command);
+        properties.getHeic().setTimeoutSeconds(timeoutSeconds);
+        properties.getHeic().setWorkDir(tempDir.toString());
+        return new HeicConverter(properties, meterRegistry);
+    }
+
+    private static boolean commandAvailable(String command) {
+        try {
+            Process process = new ProcessBuilder("sh", "-c", "command -v " + command)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            return process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("명령에 {input}/{output}이 없으면 원본을 stdin으로, stdout을 결과 파일로 연결")
+    void pipesStdinAndStdout() throws IOException {
+        assumeTrue(commandAvailable("cat"));
+        Path source = Files.write(tempDir.resolve("source.heic"), new byte[]{1, 2, 3, 4});
+
+        Path converted = converter("cat", 5).convert(source);
+
+        assertThat(converted).isNotNull();
+        assertThat(Files.readAllBytes(converted)).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("변환 프로세스가 실패하면 null 반환 후 결과 파일 삭제")
+    void failureReturnsNull() throws IOException {
+        assumeTrue(commandAvailable("false"));
+        Path source = Files.write(tempDir.resolve("source.heic"), new byte[]{1});
+
+        Path converted = converter("false {input} {output}", 5).convert(source);
+
+        assertThat(converted).isNull();
+        assertThat(meterRegistry.get("file.heic.convert.failures").tag("reason", "error").counter().count())
+                .isEqualTo(1.0);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.filter(path -> path.getFileName().toString().startsWith("heic_"))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 프로세스를 종료하고 null 반환")
+    void timeoutKillsProcess() throws IOException {
+        assumeTrue(commandAvailable("sleep"));
+        Path source = Files.write(tempDir.resolve("source.heic"), new byte[]{1});
+
+        Path converted = converter("sleep 10", 1).convert(source);
+
+        assertThat(converted).isNull();
+        assertThat(meterRegistry.get("file.heic.convert.failures").tag("reason", "timeout").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성능 측정 - heif-convert 변환 처리량 (libheif-examples 설치 시에만 실행)")
+    void benchmarkHeifConvert() throws Exception {
+        assumeTrue(commandAvailable("heif-enc") && commandAvailable("heif-convert"));
+
+        // given - 12MP JPEG를 HEIC로 인코딩한 샘플
+        BufferedImage image = new BufferedImage(4032, 3024, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, 4032, 3024, Color.BLUE));
+        graphics.fillRect(0, 0, 4032, 3024);
+        graphics.dispose();
+        Path jpeg = tempDir.resolve("sample.jpg");
+        ImageIO.write(image, "jpg", jpeg.toFile());
+        Path heic = tempDir.resolve("sample.heic");
+        Process encode = new ProcessBuilder("heif-enc", jpeg.toString(), "-o", heic.toString())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assumeTrue(encode.waitFor(60, TimeUnit.SECONDS) && encode.exitValue() == 0);
+
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.getHeic().setWorkDir(tempDir.toString());
+        HeicConverter converter = new HeicConverter(properties, meterRegistry);
+        int conversions = 8;
+        int clients = 4;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long start = System.nanoTime();
+        List<Future<Path>> results = new ArrayList<>();
+        for (int i = 0; i < conversions; i++) {
+            results.add(executor.submit(() -> converter.convert(heic)));
+        }
+        for (Future<Path> result : results) {
+            Path converted = result.get();
+            assertThat(converted).isNotNull();
+            Files.deleteIfExists(converted);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        // then
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.println("=== HEIC 변환 (12MP, 동시 실행 " + properties.getHeic().getMaxConcurrent() + ") ===");
+        System.out.printf("변환 %d건 - 총 %.2fs, 처리량 %.2f건/s, 평균 %.0fms%n",
+                conversions, seconds, conversions / seconds,
+                meterRegistry.get("file.heic.convert").timer().mean(TimeUnit.MILLISECONDS));
+    }
+}
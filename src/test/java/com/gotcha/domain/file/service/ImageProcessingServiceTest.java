@@ -0,0 +1,295 @@
+package com.gotcha.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.exception.FileErrorCode;
+import com.gotcha.domain.file.exception.FileException;
+import com.gotcha.domain.file.service.ImageProcessingService.ImageDimensions;
+import com.gotcha.domain.file.service.ImageProcessingService.PendingImage;
+import com.sksamuel.scrimage.ImmutableImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageProcessingServiceTest {
+
+    private static final int BUDGET_MB = 64;
+
+    @TempDir
+    Path tempDir;
+
+    private FileUploadProperties fileUploadProperties;
+    private ImageProcessingService service;
+    private Path image;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileUploadProperties = new FileUploadProperties();
+        fileUploadProperties.getPipeline().setEncodeThreads(1);
+        fileUploadProperties.getPipeline().setEncodeQueueCapacity(1);
+        fileUploadProperties.getPipeline().setDecodeMemoryBudgetMb(BUDGET_MB);
+        fileUploadProperties.getPipeline().setAdmissionTimeoutMs(50);
+        service = new ImageProcessingService(fileUploadProperties,
+                new HeicConverter(fileUploadProperties, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        image = writePng(640, 480);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private Path writePng(int width, int height) throws Exception {
+        BufferedImage buffered = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = buffered.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        Path file = Files.createTempFile(tempDir, "image_", ".png");
+        ImageIO.write(buffered, "png", file.toFile());
+        return file;
+    }
+
+    /**
+     * 픽셀 데이터 없이 IHDR 헤더만 있는 PNG (헤더 크기만으로 처리 여부가 결정되는지 확인용)
+     */
+    private Path writePngHeader(int width, int height) throws Exception {
+        ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(ihdr);
+        data.writeInt(width);
+        data.writeInt(height);
+        data.write(new byte[]{8, 6, 0, 0, 0});
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(png);
+        out.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'});
+        writeChunk(out, "IHDR", ihdr.toByteArray());
+        writeChunk(out, "IEND", new byte[0]);
+
+        Path file = Files.createTempFile(tempDir, "header_", ".png");
+        Files.write(file, png.toByteArray());
+        return file;
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] body) throws Exception {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(body);
+        out.writeInt(body.length);
+        out.write(typeBytes);
+        out.write(body);
+        out.writeInt((int) crc.getValue());
+    }
+
+    private Semaphore decodeMemory() {
+        return (Semaphore) ReflectionTestUtils.getField(service, "decodeMemory");
+    }
+
+    private ThreadPoolExecutor encodeExecutor() {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(service, "encodeExecutor");
+    }
+
+    private void awaitAvailablePermits(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (decodeMemory().availablePermits() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(decodeMemory().availablePermits()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("본 이미지/썸네일 인코딩이 끝나면 메모리 예산을 모두 반환")
+    void processAsync_releasesPermitsAfterEncoding() throws Exception {
+        // when
+        PendingImage pending = service.processAsync(image, "image/png");
+
+        // then
+        assertThat(pending.mainImage().get(30, TimeUnit.SECONDS)).isNotEmpty();
+        assertThat(pending.thumbnail().get(30, TimeUnit.SECONDS)).isNotEmpty();
+        assertThat(pending.contentType()).isEqualTo("image/webp");
+        awaitAvailablePermits(BUDGET_MB);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 대기 시간 안에 얻지 못하면 FILE_PROCESSING_BUSY")
+    void processAsync_budgetExhausted_busy() {
+        // given
+        decodeMemory().acquireUninterruptibly(BUDGET_MB);
+
+        // when & then
+        assertThatThrownBy(() -> service.processAsync(image, "image/png"))
+                .isInstanceOf(FileException.class)
+                .extracting(e -> ((FileException) e).getErrorCode())
+                .isEqualTo(FileErrorCode.FILE_PROCESSING_BUSY);
+        assertThat(decodeMemory().availablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("CPU 풀이 작업을 받지 않으면 확보한 메모리 예산을 반환하고 FILE_PROCESSING_BUSY")
+    void processAsync_rejected_releasesPermits() {
+        // given
+        ThreadPoolExecutor rejecting = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        rejecting.shutdown();
+        encodeExecutor().shutdownNow();
+        ReflectionTestUtils.setField(service, "encodeExecutor", rejecting);
+
+        // when & then
+        assertThatThrownBy(() -> service.processAsync(image, "image/png"))
+                .isInstanceOf(FileException.class)
+                .extracting(e -> ((FileException) e).getErrorCode())
+                .isEqualTo(FileErrorCode.FILE_PROCESSING_BUSY);
+        assertThat(decodeMemory().availablePermits()).isEqualTo(BUDGET_MB);
+    }
+
+    @Test
+    @DisplayName("CPU 풀 대기열이 가득 차면 요청 스레드에서 직접 처리 (back-pressure)")
+    void processAsync_queueFull_runsOnCaller() throws Exception {
+        // given - 스레드 1개는 작업 중, 대기열 1칸도 차 있음
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        encodeExecutor().execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await(5, TimeUnit.SECONDS);
+        encodeExecutor().execute(() -> awaitQuietly(release));
+
+        try {
+            // when
+            PendingImage pending = service.processAsync(image, "image/png");
+
+            // then - 풀이 막혀 있어도 반환 시점에 디코딩/인코딩이 끝나 있음
+            assertThat(pending.mainImage()).isDone();
+            assertThat(pending.thumbnail()).isDone();
+            assertThat(pending.mainImage().join()).isNotEmpty();
+        } finally {
+            release.countDown();
+        }
+        awaitAvailablePermits(BUDGET_MB);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("서브샘플링 배수는 긴 변이 1920px 이상 남는 최대값")
+    void subsamplingFactor_boundaries() {
+        int max = ImageProcessingService.MAX_DIMENSION;
+
+        assertThat(ImageProcessingService.subsamplingFactor(new ImageDimensions(640, 480))).isEqualTo(1);
+        assertThat(ImageProcessingService.subsamplingFactor(new ImageDimensions(max, max))).isEqualTo(1);
+        assertThat(ImageProcessingService.subsamplingFactor(new ImageDimensions(max * 2 - 1, 100))).isEqualTo(1);
+        assertThat(ImageProcessingService.subsamplingFactor(new ImageDimensions(max * 2, 100))).isEqualTo(2);
+        assertThat(ImageProcessingService.subsamplingFactor(new ImageDimensions(100, max * 3))).isEqualTo(3);
+        assertThat(ImageProcessingService.subsamplingFactor(new ImageDimensions(10_000, 10_000))).isEqualTo(5);
+
+        for (int longSide : new int[]{max, max + 1, max * 2 - 1, max * 2, max * 5 + 7, 10_000}) {
+            int factor = ImageProcessingService.subsamplingFactor(new ImageDimensions(longSide, 1));
+            assertThat(Math.ceilDiv(longSide, factor)).isGreaterThanOrEqualTo(max);
+        }
+    }
+
+    @Test
+    @DisplayName("서브샘플링 디코딩 결과 크기는 메모리 추정에 쓰는 픽셀 수와 일치")
+    void readSubsampled_matchesEstimate() throws Exception {
+        // given
+        Path odd = writePng(641, 481);
+
+        // when
+        BufferedImage decoded = ImageProcessingService.readSubsampled(odd, 3);
+
+        // then
+        assertThat(decoded.getWidth()).isEqualTo(214);
+        assertThat(decoded.getHeight()).isEqualTo(161);
+        assertThat((long) decoded.getWidth() * decoded.getHeight())
+                .isEqualTo(new ImageDimensions(641, 481).subsampledPixels(3));
+    }
+
+    @Test
+    @DisplayName("서브샘플링 후에도 긴 변이 크면 1920px로 축소")
+    void decodeBounded_boundsToMaxDimension() throws Exception {
+        // given
+        Path wide = writePng(4000, 300);
+
+        // when
+        ImmutableImage image = ImageProcessingService.decodeBounded(wide, 2, false);
+
+        // then
+        assertThat(image.width).isEqualTo(ImageProcessingService.MAX_DIMENSION);
+        assertThat(image.height).isLessThanOrEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("ImageIO 리더가 없는 파일은 전체 디코딩이 허용되지 않으면 거부")
+    void decodeBounded_noReaderAndFullDecodeNotAllowed_rejects() throws Exception {
+        // given
+        Path unknown = Files.createTempFile(tempDir, "unknown_", ".bin");
+        Files.write(unknown, "not an image".getBytes(StandardCharsets.US_ASCII));
+
+        // when & then
+        assertThat(ImageProcessingService.readSubsampled(unknown, 1)).isNull();
+        assertThatThrownBy(() -> ImageProcessingService.decodeBounded(unknown, 1, false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("헤더 픽셀 수가 상한을 넘으면 디코딩하지 않고 원본 업로드로 처리")
+    void processAsync_pixelBomb_rejectedBeforeDecode() throws Exception {
+        // given - 10001 x 10000 = 1억 픽셀 초과
+        Path bomb = writePngHeader(10_001, 10_000);
+        assertThat(10_001L * 10_000).isGreaterThan(ImageProcessingService.MAX_SOURCE_PIXELS);
+
+        // when
+        PendingImage pending = service.processAsync(bomb, "image/png");
+
+        // then
+        assertThat(pending).isNull();
+        assertThat(decodeMemory().availablePermits()).isEqualTo(BUDGET_MB);
+        assertThat(encodeExecutor().getTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤더 픽셀 수가 상한과 같으면 서브샘플링 디코딩을 시도 (데이터가 없어 실패해도 예산 반환)")
+    void processAsync_atSourceLimit_accepted() throws Exception {
+        // given - 10000 x 10000 = 1억 픽셀
+        Path atLimit = writePngHeader(10_000, 10_000);
+
+        // when
+        PendingImage pending = service.processAsync(atLimit, "image/png");
+
+        // then
+        assertThat(pending).isNotNull();
+        assertThatThrownBy(() -> pending.mainImage().get(30, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        awaitAvailablePermits(BUDGET_MB);
+    }
+}
@@ -0,0 +1,314 @@
+package com.gotcha.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.dto.FileUploadResponse;
+import com.gotcha.domain.file.entity.StoredFile;
+import com.gotcha.domain.file.exception.FileErrorCode;
+import com.gotcha.domain.file.exception.FileException;
+import com.gotcha.domain.file.repository.StoredFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+class S3FileUploadServiceTest {
+
+    private static final String CDN = "cdn.test";
+    private static final String REVIEW_KEY = "env/reviews/abc.webp";
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private ImageProcessingService imageProcessingService;
+
+    @Mock
+    private StoredFileRepository storedFileRepository;
+
+    @Mock
+    private FileDeletionOutbox fileDeletionOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileUploadProperties fileUploadProperties;
+    private S3FileUploadService service;
+    private Path spoolFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileUploadProperties = new FileUploadProperties();
+        service = new S3FileUploadService(s3AsyncClient, imageProcessingService, fileUploadProperties,
+                storedFileRepository, fileDeletionOutbox, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(service, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(service, "prefix", "env");
+        ReflectionTestUtils.setField(service, "cloudfrontDomain", CDN);
+        ReflectionTestUtils.setField(service, "endpoint", "");
+
+        spoolFile = Files.createTempFile("upload_test_", ".tmp");
+        Files.write(spoolFile, new byte[]{1, 2, 3, 4});
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(spoolFile);
+    }
+
+    private FileUploadResponse store(String folder) {
+        return service.storeImage(spoolFile, 4, "image/webp", "photo.webp", folder);
+    }
+
+    private void givenPutSucceeds() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+    }
+
+    private StoredFile storedFile(String folder, String objectKey, String thumbnailKey) {
+        return StoredFile.builder()
+                .folder(folder)
+                .contentHash("a".repeat(64))
+                .objectKey(objectKey)
+                .thumbnailKey(thumbnailKey)
+                .contentType("image/webp")
+                .fileSize(1024)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 폴더의 같은 파일은 업로드 없이 기존 URL 반환 (참조는 연결 시점에 증가)")
+    void reusesStoredFileInSameFolder() {
+        // given
+        when(storedFileRepository.touch(eq("reviews"), anyString(), any())).thenReturn(1);
+        when(storedFileRepository.findByFolderAndContentHash(eq("reviews"), anyString()))
+                .thenReturn(Optional.of(storedFile("reviews", REVIEW_KEY, "env/reviews/abc_thumb.webp")));
+
+        // when
+        FileUploadResponse response = store("reviews");
+
+        // then
+        assertThat(response.fileUrl()).isEqualTo("https://" + CDN + "/" + REVIEW_KEY);
+        assertThat(response.thumbnailUrl()).isEqualTo("https://" + CDN + "/env/reviews/abc_thumb.webp");
+        verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(storedFileRepository, never()).incrementRefCount(anyString());
+        assertThat(spoolFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("다른 폴더에 같은 파일이 있어도 새로 업로드하고 해당 폴더로 등록 (연결 전이므로 참조 없음)")
+    void uploadsWhenNotStoredInFolder() {
+        // given
+        when(storedFileRepository.touch(eq("profiles"), anyString(), any())).thenReturn(0);
+        givenPutSucceeds();
+
+        // when
+        FileUploadResponse response = store("profiles");
+
+        // then
+        assertThat(response.fileUrl()).startsWith("https://" + CDN + "/env/profiles/");
+        ArgumentCaptor<String> objectKey = ArgumentCaptor.forClass(String.class);
+        verify(storedFileRepository).insertIfAbsent(eq("profiles"), anyString(), objectKey.capture(), any(),
+                eq("image/webp"), anyLong());
+        assertThat(objectKey.getValue()).startsWith("env/profiles/");
+        verify(storedFileRepository, never()).incrementRefCount(anyString());
+    }
+
+    @Test
+    @DisplayName("재사용 조회가 실패하면 참조를 남기지 않고 중복 제거 없이 업로드")
+    void uploadsWhenReuseLookupFails() {
+        // given
+        when(storedFileRepository.touch(eq("reviews"), anyString(), any())).thenReturn(1);
+        when(storedFileRepository.findByFolderAndContentHash(eq("reviews"), anyString()))
+                .thenThrow(new IllegalStateException("connection reset"));
+        givenPutSucceeds();
+
+        // when
+        FileUploadResponse response = store("reviews");
+
+        // then
+        assertThat(response.fileUrl()).startsWith("https://" + CDN + "/env/reviews/");
+        verify(transactionManager).rollback(any());
+        verify(storedFileRepository, never()).incrementRefCount(anyString());
+    }
+
+    @Test
+    @DisplayName("연결 시 참조 수 증가, 스토리지 밖의 URL은 무시")
+    void claimFileIncrementsRefCount() {
+        // when
+        service.claimFile("https://" + CDN + "/" + REVIEW_KEY);
+
+        // then
+        verify(storedFileRepository).incrementRefCount(REVIEW_KEY);
+        assertThatCode(() -> service.claimFile("https://example.com/defaults/profile.png"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("인덱스의 파일은 참조 해제만 하고 삭제는 만료 정리에 맡김")
+    void deleteIndexedFileOnlyReleases() {
+        // given
+        when(storedFileRepository.decrementRefCount(REVIEW_KEY)).thenReturn(1);
+
+        // when
+        service.deleteFile("https://" + CDN + "/" + REVIEW_KEY);
+
+        // then
+        verify(fileDeletionOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 파일은 본 이미지와 썸네일을 바로 삭제 예약")
+    void deleteUnindexedFileEnqueues() {
+        // given
+        when(storedFileRepository.decrementRefCount(REVIEW_KEY)).thenReturn(0);
+
+        // when
+        service.deleteFile("https://" + CDN + "/" + REVIEW_KEY);
+
+        // then
+        verify(fileDeletionOutbox).enqueue(List.of(REVIEW_KEY, "env/reviews/abc_thumb.webp"));
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 채 만료된 파일만 삭제 (그 사이 재사용/연결된 파일은 유지)")
+    void expireUnclaimedDeletesOnlyStillUnclaimed() {
+        // given
+        StoredFile expired = storedFile("reviews", REVIEW_KEY, "env/reviews/abc_thumb.webp");
+        StoredFile reclaimed = StoredFile.builder()
+                .folder("posts")
+                .contentHash("b".repeat(64))
+                .objectKey("env/posts/def.webp")
+                .contentType("image/webp")
+                .fileSize(1024)
+                .build();
+        when(storedFileRepository.findUnclaimed(any(), any(Pageable.class))).thenReturn(List.of(expired, reclaimed));
+        when(storedFileRepository.deleteIfUnclaimed(eq("reviews"), anyString(), any())).thenReturn(1);
+        when(storedFileRepository.deleteIfUnclaimed(eq("posts"), anyString(), any())).thenReturn(0);
+
+        // when
+        int count = service.expireUnclaimed();
+
+        // then
+        assertThat(count).isEqualTo(1);
+        verify(fileDeletionOutbox).enqueue(List.of(REVIEW_KEY, "env/reviews/abc_thumb.webp"));
+    }
+
+    @Test
+    @DisplayName("업로드가 끝나면 임시 파일 삭제")
+    void storeImage_success_deletesSpoolFile() {
+        // given
+        givenPutSucceeds();
+
+        // when
+        store("reviews");
+
+        // then
+        assertThat(spoolFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("S3 업로드 실패 시에도 임시 파일 삭제")
+    void storeImage_uploadFails_deletesSpoolFile() {
+        // given
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection reset")));
+
+        // when & then
+        assertThatThrownBy(() -> store("reviews"))
+                .isInstanceOf(FileException.class)
+                .extracting(e -> ((FileException) e).getErrorCode())
+                .isEqualTo(FileErrorCode.FILE_UPLOAD_FAILED);
+        assertThat(spoolFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 시 진행 중인 업로드가 끝난 뒤 임시 파일 삭제")
+    void storeImage_timeout_deletesSpoolFileAfterUpload() {
+        // given
+        fileUploadProperties.getPipeline().setUploadTimeoutSeconds(0);
+        CompletableFuture<PutObjectResponse> upload = new CompletableFuture<>();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenReturn(upload);
+
+        // when & then - 요청은 실패하지만 S3 클라이언트가 아직 파일을 읽는 중이므로 유지
+        assertThatThrownBy(() -> store("reviews"))
+                .isInstanceOf(FileException.class)
+                .extracting(e -> ((FileException) e).getErrorCode())
+                .isEqualTo(FileErrorCode.FILE_UPLOAD_FAILED);
+        assertThat(spoolFile).exists();
+
+        // when & then - 업로드가 끝나면 삭제
+        upload.complete(PutObjectResponse.builder().build());
+        assertThat(spoolFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("변환 작업을 시작하지 못하면 임시 파일 삭제 후 FILE_PROCESSING_BUSY")
+    void storeImage_processingBusy_deletesSpoolFile() {
+        // given
+        when(imageProcessingService.processAsync(spoolFile, "image/webp")).thenThrow(FileException.processingBusy());
+
+        // when & then
+        assertThatThrownBy(() -> store("reviews"))
+                .isInstanceOf(FileException.class)
+                .extracting(e -> ((FileException) e).getErrorCode())
+                .isEqualTo(FileErrorCode.FILE_PROCESSING_BUSY);
+        assertThat(spoolFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("업로드 파일을 디스크로 옮기다 실패하면 임시 파일 삭제")
+    void uploadImage_transferFails_deletesSpoolFile() throws Exception {
+        // given
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getSize()).thenReturn(4L);
+        when(file.getContentType()).thenReturn("image/webp");
+        AtomicReference<File> spooled = new AtomicReference<>();
+        doAnswer(invocation -> {
+            spooled.set(invocation.getArgument(0));
+            throw new IOException("disk full");
+        }).when(file).transferTo(any(File.class));
+
+        // when & then
+        assertThatThrownBy(() -> service.uploadImage(file, "reviews"))
+                .isInstanceOf(FileException.class)
+                .extracting(e -> ((FileException) e).getErrorCode())
+                .isEqualTo(FileErrorCode.FILE_UPLOAD_FAILED);
+        assertThat(spooled.get()).isNotNull().doesNotExist();
+    }
+}
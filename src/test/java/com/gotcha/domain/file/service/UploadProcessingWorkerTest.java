@@ -0,0 +1,213 @@
+package com.gotcha.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.gotcha._global.config.FileUploadProperties;
+import com.gotcha.domain.file.dto.FileUploadResponse;
+import com.gotcha.domain.file.entity.UploadSession;
+import com.gotcha.domain.file.entity.UploadStatus;
+import com.gotcha.domain.file.exception.FileException;
+import com.gotcha.domain.file.repository.UploadSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+class UploadProcessingWorkerTest {
+
+    private static final String UPLOAD_ID = "3f2b8c1e-4d5a-4b6c-9e7f-1a2b3c4d5e6f";
+    private static final String RAW_KEY = "env/raw/reviews/" + UPLOAD_ID;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3FileUploadService s3FileUploadService;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    private FileUploadProperties fileUploadProperties;
+    private UploadProcessingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        fileUploadProperties = new FileUploadProperties();
+        worker = new UploadProcessingWorker(s3Client, s3FileUploadService, uploadSessionRepository,
+                fileUploadProperties, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "bucketName", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    private UploadSession processingSession() {
+        UploadSession session = UploadSession.builder()
+                .id(UPLOAD_ID)
+                .folder("reviews")
+                .rawKey(RAW_KEY)
+                .contentType("image/jpeg")
+                .originalFilename("photo.jpg")
+                .fileSize(4)
+                .expiresAt(LocalDateTime.now().plusMinutes(60))
+                .build();
+        ReflectionTestUtils.setField(session, "status", UploadStatus.PROCESSING);
+        return session;
+    }
+
+    private void givenRawObject(byte[] bytes) {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) bytes.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    @DisplayName("원본을 받아 처리 후 최종 URL을 기록하고 raw 원본 삭제")
+    void processCompletes() {
+        // given
+        UploadSession session = processingSession();
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        givenRawObject(new byte[]{1, 2, 3, 4});
+        when(s3FileUploadService.storeImage(any(Path.class), eq(4L), eq("image/jpeg"), eq("photo.jpg"), eq("reviews")))
+                .thenReturn(FileUploadResponse.of("https://cdn/reviews/a.webp", "photo.jpg", 2L, "image/webp",
+                        "https://cdn/reviews/a_thumb.webp"));
+
+        // when
+        worker.process(UPLOAD_ID);
+
+        // then
+        assertThat(session.getStatus()).isEqualTo(UploadStatus.COMPLETED);
+        assertThat(session.getFileUrl()).isEqualTo("https://cdn/reviews/a.webp");
+        assertThat(session.getThumbnailUrl()).isEqualTo("https://cdn/reviews/a_thumb.webp");
+        assertThat(session.getContentType()).isEqualTo("image/webp");
+        verify(uploadSessionRepository).save(session);
+
+        ArgumentCaptor<DeleteObjectRequest> deleted = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client).deleteObject(deleted.capture());
+        assertThat(deleted.getValue().key()).isEqualTo(RAW_KEY);
+    }
+
+    @Test
+    @DisplayName("파일 내용 문제로 실패 시 FAILED로 기록하고 raw 원본 삭제")
+    void processFails() {
+        // given
+        UploadSession session = processingSession();
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        givenRawObject(new byte[]{1, 2, 3, 4});
+        doThrow(FileException.unsupportedType("image/bmp"))
+                .when(s3FileUploadService).validateImage(anyLong(), anyString());
+
+        // when
+        worker.process(UPLOAD_ID);
+
+        // then
+        assertThat(session.getStatus()).isEqualTo(UploadStatus.FAILED);
+        assertThat(session.getFailureReason()).isNotBlank();
+        verify(uploadSessionRepository).save(session);
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("처리 슬롯 포화 시 raw 원본을 유지한 채 지연 후 다시 처리 대기로")
+    void processRetriesWhenBusy() {
+        // given
+        UploadSession session = processingSession();
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        givenRawObject(new byte[]{1, 2, 3, 4});
+        when(s3FileUploadService.storeImage(any(Path.class), anyLong(), anyString(), anyString(), anyString()))
+                .thenThrow(FileException.processingBusy());
+
+        // when
+        worker.process(UPLOAD_ID);
+
+        // then
+        assertThat(session.getStatus()).isEqualTo(UploadStatus.UPLOADED);
+        assertThat(session.getAttempts()).isEqualTo(1);
+        assertThat(session.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        verify(uploadSessionRepository).save(session);
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("S3 오류가 재시도 한도까지 반복되면 FAILED로 기록하고 raw 원본 삭제")
+    void processFailsAfterMaxAttempts() {
+        // given
+        UploadSession session = processingSession();
+        ReflectionTestUtils.setField(session, "attempts",
+                fileUploadProperties.getPresigned().getMaxProcessingAttempts() - 1);
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.of(session));
+        givenRawObject(new byte[]{1, 2, 3, 4});
+        when(s3FileUploadService.storeImage(any(Path.class), anyLong(), anyString(), anyString(), anyString()))
+                .thenThrow(FileException.uploadFailed("Upload timed out"));
+
+        // when
+        worker.process(UPLOAD_ID);
+
+        // then
+        assertThat(session.getStatus()).isEqualTo(UploadStatus.FAILED);
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("선점하지 못한 세션은 처리하지 않음 (다른 워커가 처리 중)")
+    void pollSkipsUnclaimedSessions() {
+        // given
+        when(uploadSessionRepository.findProcessableIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of("taken", UPLOAD_ID));
+        when(uploadSessionRepository.claim(eq("taken"), any(LocalDateTime.class))).thenReturn(0);
+        when(uploadSessionRepository.claim(eq(UPLOAD_ID), any(LocalDateTime.class))).thenReturn(1);
+        when(uploadSessionRepository.findById(UPLOAD_ID)).thenReturn(Optional.empty());
+
+        // when
+        worker.poll();
+
+        // then
+        verify(uploadSessionRepository, timeout(1_000)).findById(UPLOAD_ID);
+        verify(uploadSessionRepository, never()).findById("taken");
+    }
+
+    @Test
+    @DisplayName("워커를 끈 노드는 세션을 조회하지 않음")
+    void pollDisabled() {
+        // given
+        fileUploadProperties.getPresigned().setWorkerEnabled(false);
+
+        // when
+        worker.poll();
+        worker.expireStaleSessions();
+
+        // then
+        verifyNoInteractions(uploadSessionRepository);
+    }
+}
@@ -0,0 +1,161 @@
+package com.gotcha.domain.moderation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.gotcha._global.config.ModerationProperties;
+import com.gotcha.domain.moderation.entity.ModerationTargetType;
+import com.gotcha.domain.moderation.repository.ContentFlagRepository;
+import com.gotcha.domain.moderation.repository.ScannableContent;
+import com.gotcha.domain.post.repository.PostCommentRepository;
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.review.repository.ReviewRepository;
+import com.gotcha.domain.user.service.ForbiddenWordMatcher;
+import com.gotcha.domain.user.service.ForbiddenWordService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class ContentModerationServiceTest {
+
+    @Mock
+    private ForbiddenWordService forbiddenWordService;
+
+    @Mock
+    private ContentFlagRepository contentFlagRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCommentRepository postCommentRepository;
+
+    private ModerationProperties moderationProperties;
+    private ContentModerationService contentModerationService;
+
+    private final ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(List.of("병신"), List.of("fuck"));
+
+    @BeforeEach
+    void setUp() {
+        moderationProperties = new ModerationProperties();
+        moderationProperties.setRescanPageSize(2);
+        given(forbiddenWordService.rulesVersion()).willReturn(1L);
+        contentModerationService = new ContentModerationService(forbiddenWordService, contentFlagRepository,
+                reviewRepository, postRepository, postCommentRepository, moderationProperties, Runnable::run);
+    }
+
+    private record Content(Long id, String content) implements ScannableContent {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+    }
+
+    @Test
+    @DisplayName("작성 시 금칙어가 있으면 기록")
+    void scanCreated_flagsForbiddenContent() {
+        // given
+        given(forbiddenWordService.currentMatcher()).willReturn(matcher);
+
+        // when & then
+        assertThat(contentModerationService.scanCreated(ModerationTargetType.REVIEW, 1L, "이 가게 사장 병신같음")).isTrue();
+        assertThat(contentModerationService.scanCreated(ModerationTargetType.REVIEW, 2L, "친절하고 좋아요")).isFalse();
+        verify(contentFlagRepository).insertIfAbsent("REVIEW", 1L);
+        verify(contentFlagRepository, never()).insertIfAbsent("REVIEW", 2L);
+    }
+
+    @Test
+    @DisplayName("수정 후 금칙어가 없어지면 기존 기록 삭제")
+    void scanUpdated_clearsFlag() {
+        // given
+        given(forbiddenWordService.currentMatcher()).willReturn(matcher);
+
+        // when
+        boolean flagged = contentModerationService.scanUpdated(ModerationTargetType.POST, 3L, "수정된 본문");
+
+        // then
+        assertThat(flagged).isFalse();
+        verify(contentFlagRepository).deleteByTargetTypeAndTargetIdIn(ModerationTargetType.POST, List.of(3L));
+    }
+
+    @Test
+    @DisplayName("목록 버전이 그대로면 재검사하지 않음")
+    void rescanIfRulesChanged_sameVersion_skips() {
+        // when
+        contentModerationService.rescanIfRulesChanged();
+
+        // then
+        verify(forbiddenWordService, never()).currentMatcher();
+    }
+
+    @Test
+    @DisplayName("목록이 바뀌면 keyset 페이지로 재검사해 새 검출은 기록하고 해소된 기록은 삭제")
+    void rescanIfRulesChanged_rescansAllContent() {
+        // given
+        given(forbiddenWordService.rulesVersion()).willReturn(2L);
+        given(forbiddenWordService.currentMatcher()).willReturn(matcher);
+        given(reviewRepository.findContentBatch(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new Content(1L, "병신"), new Content(2L, "좋아요")));
+        given(reviewRepository.findContentBatch(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(new Content(5L, "fuck this")));
+        given(contentFlagRepository.findFlaggedTargetIds(ModerationTargetType.REVIEW, List.of(1L, 2L)))
+                .willReturn(List.of(2L));
+        given(contentFlagRepository.findFlaggedTargetIds(ModerationTargetType.REVIEW, List.of(5L)))
+                .willReturn(List.of());
+        given(postRepository.findContentBatch(anyLong(), any(Pageable.class))).willReturn(List.of());
+        given(postCommentRepository.findContentBatch(anyLong(), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        contentModerationService.rescanIfRulesChanged();
+
+        // then
+        verify(contentFlagRepository).insertIfAbsent("REVIEW", 1L);
+        verify(contentFlagRepository).insertIfAbsent("REVIEW", 5L);
+        verify(contentFlagRepository).deleteByTargetTypeAndTargetIdIn(ModerationTargetType.REVIEW, List.of(2L));
+        verify(contentFlagRepository).deleteOrphans();
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 게시글과 댓글의 검출 기록 삭제")
+    void clearPostFlags_deletesPostAndCommentFlags() {
+        // when
+        contentModerationService.clearPostFlags(List.of(7L));
+
+        // then
+        verify(contentFlagRepository).deleteCommentFlagsByPostIdIn(List.of(7L));
+        verify(contentFlagRepository).deleteByTargetTypeAndTargetIdIn(ModerationTargetType.POST, List.of(7L));
+    }
+
+    @Test
+    @DisplayName("대상이 삭제된 검출 기록은 금칙어 목록 변경 없이도 주기적으로 정리")
+    void deleteOrphans_runsWithoutRulesChange() {
+        // given
+        given(contentFlagRepository.deleteOrphans()).willReturn(3);
+
+        // when
+        contentModerationService.deleteOrphans();
+
+        // then
+        verify(contentFlagRepository).deleteOrphans();
+        verify(forbiddenWordService, never()).currentMatcher();
+    }
+}
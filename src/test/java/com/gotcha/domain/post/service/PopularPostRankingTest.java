@@ -0,0 +1,126 @@
+package com.gotcha.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.gotcha.domain.post.entity.Post;
+import com.gotcha.domain.post.entity.PostType;
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.post.repository.PostTypeRepository;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class PopularPostRankingTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostTypeRepository postTypeRepository;
+
+    private PopularPostRanking popularPostRanking;
+
+    @BeforeEach
+    void setUp() {
+        popularPostRanking = new PopularPostRanking(redisTemplate, postRepository, postTypeRepository, 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("랭킹 순서대로 ID를 반환하고 한 개 더 조회해 다음 페이지 여부 판단")
+    void findPage_returnsRankedIds() {
+        // given
+        given(redisTemplate.hasKey("post:popular:ready")).willReturn(true);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRange("post:popular:type:2", 2, 4)).willReturn(new LinkedHashSet<>(List.of(
+                "0000000000000000030", "0000000000000000012", "0000000000000000007")));
+
+        // when
+        Optional<PopularPostRanking.RankedPage> page = popularPostRanking.findPage(2L, 1, 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().postIds()).containsExactly(30L, 12L);
+        assertThat(page.get().hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("랭킹이 준비되지 않았으면 empty (DB 조회로 대체)")
+    void findPage_notReady_returnsEmpty() {
+        given(redisTemplate.hasKey("post:popular:ready")).willReturn(false);
+
+        assertThat(popularPostRanking.findPage(null, 0, 20)).isEmpty();
+        verify(redisTemplate, never()).opsForZSet();
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 empty (DB 조회로 대체)")
+    void findPage_redisFailure_returnsEmpty() {
+        given(redisTemplate.hasKey("post:popular:ready"))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(popularPostRanking.findPage(null, 0, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 증감은 작성 시각과 랭킹에 남아 있는 게시글에만 조건부로 반영")
+    @SuppressWarnings("unchecked")
+    void onLikeChanged_conditionalIncrement() {
+        // given
+        Post post = mock(Post.class);
+        PostType type = mock(PostType.class);
+        given(post.isPublic()).willReturn(true);
+        given(post.getCreatedAt()).willReturn(LocalDateTime.now().minusDays(1));
+        given(post.getId()).willReturn(42L);
+        given(post.getType()).willReturn(type);
+        given(type.getId()).willReturn(3L);
+
+        // when
+        popularPostRanking.onLikeChanged(post, -1);
+
+        // then - ZINCRBY로 멤버를 새로 만들지 않음
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("post:popular:created", "post:popular:all", "post:popular:type:3")),
+                eq("3:0000000000000000042"), eq("0000000000000000042"), eq("-1"));
+        verify(redisTemplate, never()).opsForZSet();
+    }
+
+    @Test
+    @DisplayName("기간이 지난 게시글의 좋아요는 반영하지 않음")
+    void onLikeChanged_expiredPost_ignored() {
+        // given
+        Post post = mock(Post.class);
+        given(post.isPublic()).willReturn(true);
+        given(post.getCreatedAt()).willReturn(LocalDateTime.now().minusDays(PopularPostRanking.PERIOD_DAYS + 1));
+
+        // when
+        popularPostRanking.onLikeChanged(post, 1);
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,176 @@
+package com.gotcha.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.gotcha.domain.post.repository.PostRepository;
+import com.gotcha.domain.post.repository.PostRepository.CounterDrift;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterBufferTest {
+
+    @InjectMocks
+    private PostCounterBuffer postCounterBuffer;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("같은 게시글의 증감분은 합산되어 flush 시 UPDATE 한 번으로 반영")
+    void flush_mergesDeltasPerPost() {
+        // given
+        postCounterBuffer.addLike(1L, 1);
+        postCounterBuffer.addLike(1L, 1);
+        postCounterBuffer.addLike(1L, -1);
+        postCounterBuffer.addComment(1L, 2);
+        postCounterBuffer.addComment(2L, 1);
+
+        // when
+        postCounterBuffer.flush();
+
+        // then
+        verify(postRepository).applyCounterDelta(1L, 1, 2);
+        verify(postRepository).applyCounterDelta(2L, 0, 1);
+        assertThat(postCounterBuffer.pendingLikes(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 전 증감분은 pending으로 조회")
+    void pending_beforeFlush() {
+        postCounterBuffer.addLike(1L, 1);
+        postCounterBuffer.addComment(1L, -1);
+
+        assertThat(postCounterBuffer.pendingLikes(1L)).isEqualTo(1);
+        assertThat(postCounterBuffer.pendingComments(1L)).isEqualTo(-1);
+        assertThat(postCounterBuffer.pendingLikes(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("상쇄되어 0이 된 증감분은 UPDATE 하지 않음")
+    void flush_skipsZeroDelta() {
+        postCounterBuffer.addLike(1L, 1);
+        postCounterBuffer.addLike(1L, -1);
+
+        postCounterBuffer.flush();
+
+        verify(postRepository, never()).applyCounterDelta(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분을 버퍼에 되돌림")
+    void flush_failure_keepsDelta() {
+        // given
+        postCounterBuffer.addLike(1L, 3);
+        willThrow(new RuntimeException("db down")).given(postRepository).applyCounterDelta(1L, 3, 0);
+
+        // when
+        postCounterBuffer.flush();
+
+        // then
+        assertThat(postCounterBuffer.pendingLikes(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정합성 보정은 버퍼를 먼저 반영한 뒤 실행")
+    void reconcile_flushesFirst() {
+        // given
+        postCounterBuffer.addLike(1L, 1);
+        given(postRepository.findCounterDrifts()).willReturn(List.of());
+
+        // when
+        postCounterBuffer.reconcile();
+
+        // then
+        verify(postRepository).applyCounterDelta(1L, 1, 0);
+        verify(postRepository).findCounterDrifts();
+    }
+
+    @Test
+    @DisplayName("처음 관측한 불일치는 보정하지 않고, 다음 작업에서도 그대로면 조건부 보정")
+    void reconcile_repairsOnlyStableDrift() {
+        // given
+        given(postRepository.findCounterDrifts()).willReturn(List.of(drift(1L, 5, 6)));
+        given(postRepository.repairCounters(1L, 5, 0, 6, 0)).willReturn(1);
+
+        // when & then - 첫 관측 (반영 대기 중인 증감분일 수 있음)
+        postCounterBuffer.reconcile();
+        verify(postRepository, never()).repairCounters(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+
+        // when & then - 같은 불일치가 그대로 남아 있음
+        postCounterBuffer.reconcile();
+        verify(postRepository).repairCounters(1L, 5, 0, 6, 0);
+    }
+
+    @Test
+    @DisplayName("두 작업 사이에 카운터나 행 수가 바뀐 게시글은 보정하지 않음")
+    void reconcile_changedDrift_notRepaired() {
+        // given - 두 번째 관측 시 새 좋아요가 커밋되어 반영 대기 중
+        given(postRepository.findCounterDrifts())
+                .willReturn(List.of(drift(1L, 5, 6)))
+                .willReturn(List.of(drift(1L, 6, 8)));
+
+        // when
+        postCounterBuffer.reconcile();
+        postCounterBuffer.reconcile();
+
+        // then
+        verify(postRepository, never()).repairCounters(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이 노드에 반영 대기 중인 증감분이 있는 게시글은 보정하지 않음")
+    void reconcile_pendingDelta_notRepaired() {
+        // given
+        given(postRepository.findCounterDrifts()).willReturn(List.of(drift(1L, 5, 6)));
+        postCounterBuffer.reconcile();
+        willThrow(new RuntimeException("db down")).given(postRepository).applyCounterDelta(1L, 1, 0);
+        postCounterBuffer.addLike(1L, 1);
+
+        // when
+        postCounterBuffer.reconcile();
+
+        // then
+        verify(postRepository, never()).repairCounters(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+        assertThat(postCounterBuffer.pendingLikes(1L)).isEqualTo(1);
+    }
+
+    private static CounterDrift drift(Long postId, long likeCount, long actualLikeCount) {
+        return new CounterDrift() {
+            @Override
+            public Long getId() {
+                return postId;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return likeCount;
+            }
+
+            @Override
+            public Long getCommentCount() {
+                return 0L;
+            }
+
+            @Override
+            public Long getActualLikeCount() {
+                return actualLikeCount;
+            }
+
+            @Override
+            public Long getActualCommentCount() {
+                return 0L;
+            }
+        };
+    }
+}
@@ -7,6 +7,7 @@ import com.gotcha.domain.push.entity.PushSubscription;
 import com.gotcha.domain.user.entity.SocialType;
 import com.gotcha.domain.user.entity.User;
 import com.gotcha.domain.user.repository.UserRepository;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -369,4 +371,33 @@ class PushSubscriptionRepositoryTest {
         // then
         assertThat(exists).isFalse();
     }
+
+    @Test
+    @DisplayName("keyset 페이지 조회 - lastId 이후 구독을 id 순으로 페이지 크기만큼 반환")
+    void findNextBatch_returnsSubscriptionsAfterLastIdInOrder() {
+        // given
+        List<PushSubscription> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(pushSubscriptionRepository.save(PushSubscription.builder()
+                    .user(i % 2 == 0 ? user : otherUser)
+                    .endpoint("https://fcm.googleapis.com/fcm/send/batch-" + i)
+                    .p256dh("p256dh-" + i)
+                    .auth("auth-" + i)
+                    .build()));
+        }
+
+        // when
+        List<PushSubscription> first = pushSubscriptionRepository.findNextBatch(0L, PageRequest.ofSize(2));
+        List<PushSubscription> second = pushSubscriptionRepository
+                .findNextBatch(first.get(1).getId(), PageRequest.ofSize(2));
+        List<PushSubscription> last = pushSubscriptionRepository
+                .findNextBatch(saved.get(4).getId(), PageRequest.ofSize(2));
+
+        // then
+        assertThat(first).extracting(PushSubscription::getId)
+                .containsExactly(saved.get(0).getId(), saved.get(1).getId());
+        assertThat(second).extracting(PushSubscription::getId)
+                .containsExactly(saved.get(2).getId(), saved.get(3).getId());
+        assertThat(last).isEmpty();
+    }
 }
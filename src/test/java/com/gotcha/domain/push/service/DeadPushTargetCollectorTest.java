@@ -0,0 +1,108 @@
+package com.gotcha.domain.push.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gotcha._global.config.PushProperties;
+import com.gotcha.domain.push.repository.DeviceTokenRepository;
+import com.gotcha.domain.push.repository.PushSubscriptionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeadPushTargetCollectorTest {
+
+    @Mock
+    private PushSubscriptionRepository pushSubscriptionRepository;
+
+    @Mock
+    private DeviceTokenRepository deviceTokenRepository;
+
+    private MeterRegistry meterRegistry;
+    private DeadPushTargetCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        PushProperties pushProperties = new PushProperties();
+        pushProperties.getCleanup().setFlushSize(3);
+        meterRegistry = new SimpleMeterRegistry();
+        // 크기 조건 삭제를 호출 스레드에서 바로 실행
+        collector = new DeadPushTargetCollector(
+                pushSubscriptionRepository, deviceTokenRepository, pushProperties, Runnable::run, meterRegistry);
+    }
+
+    private double pruned(String platform) {
+        return meterRegistry.get("push.tokens.pruned").tag("platform", platform).counter().count();
+    }
+
+    @Test
+    @DisplayName("버퍼가 flush-size에 도달하면 한 번의 IN 삭제로 정리")
+    void flushOnSize() {
+        // when
+        collector.markExpiredSubscription(1L);
+        collector.markExpiredSubscription(2L);
+        verify(pushSubscriptionRepository, never()).deleteAllByIdInBatch(any());
+        collector.markExpiredSubscription(3L);
+
+        // then
+        verify(pushSubscriptionRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertThat(pruned("web")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("주기 flush는 플랫폼별로 남은 ID를 삭제")
+    void flushOnSchedule() {
+        // given
+        collector.markExpiredSubscription(10L);
+        collector.markInvalidDeviceToken(20L);
+        collector.markInvalidDeviceToken(21L);
+
+        // when
+        collector.flush();
+
+        // then
+        verify(pushSubscriptionRepository).deleteAllByIdInBatch(List.of(10L));
+        verify(deviceTokenRepository).deleteAllByIdInBatch(List.of(20L, 21L));
+        assertThat(pruned("web")).isEqualTo(1);
+        assertThat(pruned("ios")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 삭제하지 않음")
+    void flushEmpty() {
+        collector.flush();
+
+        verify(pushSubscriptionRepository, never()).deleteAllByIdInBatch(any());
+        verify(deviceTokenRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 ID는 버퍼로 되돌려 다음 flush에서 다시 삭제")
+    void flushFailure_requeues() {
+        // given
+        collector.markInvalidDeviceToken(20L);
+        collector.markInvalidDeviceToken(21L);
+        doThrow(new IllegalStateException("connection reset"))
+                .doNothing()
+                .when(deviceTokenRepository).deleteAllByIdInBatch(List.of(20L, 21L));
+
+        // when
+        collector.flush();
+        collector.flush();
+
+        // then
+        verify(deviceTokenRepository, times(2)).deleteAllByIdInBatch(List.of(20L, 21L));
+        assertThat(pruned("ios")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gotcha.domain.push.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PushBroadcasterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private Cache<String, PushBroadcastJob> jobs;
+
+    @BeforeEach
+    void setUp() {
+        jobs = Caffeine.newBuilder()
+                .ticker(nanos::get)
+                .executor(Runnable::run)
+                .expireAfter(new PushBroadcaster.JobExpiry(Duration.ofMinutes(60)))
+                .build();
+    }
+
+    private void advanceMinutes(long minutes) {
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+        jobs.cleanUp();
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업은 보관 시간이 지나도 조회")
+    void runningJobNeverExpires() {
+        // given
+        PushBroadcastJob job = new PushBroadcastJob("job-1");
+        jobs.put(job.getJobId(), job);
+
+        // when
+        advanceMinutes(180);
+
+        // then
+        assertThat(jobs.getIfPresent("job-1")).isSameAs(job);
+    }
+
+    @Test
+    @DisplayName("끝난 작업은 시작이 아닌 종료 시점부터 보관 시간 적용")
+    void finishedJobExpiresFromCompletion() {
+        // given - 2시간 걸린 작업
+        PushBroadcastJob job = new PushBroadcastJob("job-1");
+        jobs.put(job.getJobId(), job);
+        advanceMinutes(120);
+        job.complete();
+        jobs.put(job.getJobId(), job);
+
+        // when & then
+        advanceMinutes(59);
+        assertThat(jobs.getIfPresent("job-1")).isSameAs(job);
+
+        advanceMinutes(2);
+        assertThat(jobs.getIfPresent("job-1")).isNull();
+    }
+}
@@ -288,6 +288,24 @@ class ReviewLikeRepositoryTest {
         assertThat(likedReviewIds).containsExactlyInAnyOrderElementsOf(expectedIds);
     }
 
+    @Test
+    @DisplayName("좋아요 취소 - 삭제 후 좋아요 수 감소 시 삭제가 유실되지 않음")
+    void removeLike_DeletesRowBeforeDecrement() {
+        // given
+        reviewLikeRepository.save(ReviewLike.builder().user(user1).review(review1).build());
+        reviewRepository.incrementLikeCount(review1.getId());
+
+        // when - ReviewLikeService.removeLike와 같은 순서
+        ReviewLike reviewLike = reviewLikeRepository.findByUserIdAndReviewId(user1.getId(), review1.getId())
+                .orElseThrow();
+        reviewLikeRepository.delete(reviewLike);
+        reviewRepository.decrementLikeCount(review1.getId());
+
+        // then
+        assertThat(reviewLikeRepository.findByUserIdAndReviewId(user1.getId(), review1.getId())).isEmpty();
+        assertThat(reviewRepository.findById(review1.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+
     private Review createReview(String content) {
         return reviewRepository.save(Review.builder()
                 .shop(shop)
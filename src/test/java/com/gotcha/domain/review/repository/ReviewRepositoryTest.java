@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.gotcha.config.TestcontainersConfig;
 import com.gotcha.domain.review.entity.Review;
+import com.gotcha.domain.review.entity.ReviewLike;
 import com.gotcha.domain.shop.entity.Shop;
 import com.gotcha.domain.shop.repository.ShopRepository;
 import com.gotcha.domain.user.entity.SocialType;
@@ -27,6 +28,9 @@ class ReviewRepositoryTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -272,4 +276,66 @@ class ReviewRepositoryTest {
         assertThat(reviewRepository.findAllByUserId(user.getId())).isEmpty();
         assertThat(reviewRepository.findAllByUserId(user2.getId())).hasSize(1);
     }
+
+    @Test
+    @DisplayName("좋아요순 조회 - like_count 내림차순, 동점은 최신 작성순")
+    void findAllByShopIdOrderByLikeCountDesc() {
+        // given
+        Review older = reviewRepository.save(Review.builder()
+                .shop(shop).user(user).content("먼저 쓴 리뷰").build());
+        Review newer = reviewRepository.save(Review.builder()
+                .shop(shop).user(user2).content("나중에 쓴 리뷰").build());
+        Review popular = reviewRepository.save(Review.builder()
+                .shop(shop).user(user).content("인기 리뷰").build());
+        reviewRepository.incrementLikeCount(popular.getId());
+        reviewRepository.incrementLikeCount(popular.getId());
+        reviewRepository.incrementLikeCount(older.getId());
+        reviewRepository.incrementLikeCount(newer.getId());
+
+        // when
+        Page<Review> reviewPage = reviewRepository.findAllByShopIdOrderByLikeCountDesc(
+                shop.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(reviewPage.getContent()).extracting(Review::getId)
+                .containsExactly(popular.getId(), newer.getId(), older.getId());
+        assertThat(reviewPage.getContent()).extracting(Review::getLikeCount)
+                .containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 감소는 0 미만으로 내려가지 않음")
+    void decrementLikeCount_NotBelowZero() {
+        // given
+        Review review = reviewRepository.save(Review.builder()
+                .shop(shop).user(user).content("리뷰").build());
+
+        // when
+        int updated = reviewRepository.decrementLikeCount(review.getId());
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(reviewRepository.findById(review.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 보정 - 실제 좋아요 행 수와 다른 리뷰만 보정")
+    void reconcileLikeCounts() {
+        // given
+        Review drifted = reviewRepository.save(Review.builder()
+                .shop(shop).user(user).content("오차 있는 리뷰").build());
+        Review accurate = reviewRepository.save(Review.builder()
+                .shop(shop).user(user2).content("정확한 리뷰").build());
+        reviewLikeRepository.save(ReviewLike.builder().user(user2).review(drifted).build());
+        reviewLikeRepository.save(ReviewLike.builder().user(user).review(accurate).build());
+        reviewRepository.incrementLikeCount(accurate.getId());
+
+        // when
+        int repaired = reviewRepository.reconcileLikeCounts();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(reviewRepository.findById(drifted.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+        assertThat(reviewRepository.findById(accurate.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+    }
 }
@@ -0,0 +1,192 @@
+package com.gotcha.domain.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gotcha.config.TestcontainersConfig;
+import com.gotcha.domain.shop.entity.Shop;
+import com.gotcha.domain.shop.repository.ShopRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfig.class, NearbyShopFinder.class})
+class NearbyShopFinderTest {
+
+    // 강남역 기준
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+
+    // 기존 반경 쿼리 (전체 행 대상 구면 코사인 계산) - 결과/성능 비교 기준
+    private static final String LEGACY_NEARBY_QUERY = "SELECT s FROM Shop s WHERE "
+            + "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * "
+            + "cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * "
+            + "sin(radians(s.latitude)))) < :radius "
+            + "ORDER BY (6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * "
+            + "cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * "
+            + "sin(radians(s.latitude))))";
+
+    @Autowired
+    private NearbyShopFinder nearbyShopFinder;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Shop> findWithLegacyQuery(double latitude, double longitude, double radiusKm) {
+        return entityManager.getEntityManager()
+                .createQuery(LEGACY_NEARBY_QUERY, Shop.class)
+                .setParameter("lat", latitude)
+                .setParameter("lng", longitude)
+                .setParameter("radius", radiusKm)
+                .getResultList();
+    }
+
+    private void saveShop(String name, double latitude, double longitude) {
+        shopRepository.save(Shop.builder()
+                .name(name)
+                .addressName("서울시 강남구")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build());
+    }
+
+    private void saveRandomShops(int count, double spreadDegrees) {
+        Random random = new Random(42);
+        List<Shop> shops = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shops.add(Shop.builder()
+                    .name("가챠샵" + i)
+                    .addressName("서울시")
+                    .latitude(CENTER_LAT + (random.nextDouble() * 2 - 1) * spreadDegrees)
+                    .longitude(CENTER_LNG + (random.nextDouble() * 2 - 1) * spreadDegrees)
+                    .build());
+        }
+        shopRepository.saveAll(shops);
+    }
+
+    private List<Long> ids(List<Shop> shops) {
+        return shops.stream().map(Shop::getId).toList();
+    }
+
+    @Test
+    @DisplayName("반경 내 가게를 가까운 순으로 반환")
+    void findWithinRadius_orderedByDistance() {
+        // given - 약 11m, 22m, 110m 떨어진 가게
+        saveShop("먼가게", CENTER_LAT + 0.001, CENTER_LNG);
+        saveShop("두번째", CENTER_LAT + 0.0002, CENTER_LNG);
+        saveShop("첫번째", CENTER_LAT + 0.0001, CENTER_LNG);
+
+        // when - 50m 반경
+        List<Shop> result = nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 0.05);
+
+        // then
+        assertThat(result).extracting(Shop::getName).containsExactly("첫번째", "두번째");
+    }
+
+    @Test
+    @DisplayName("반경 0 이하는 빈 리스트 반환")
+    void findWithinRadius_zeroRadius() {
+        // given
+        saveShop("가챠샵", CENTER_LAT, CENTER_LNG);
+
+        // when & then
+        assertThat(nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 0.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위 밖 가게만 있으면 빈 리스트 반환")
+    void findWithinRadius_onlyFarShops() {
+        // given - 부산 해운대
+        saveShop("먼가게", 35.1628, 129.1635);
+
+        // when & then
+        assertThat(nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 1.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반경 내 여러 가게를 모두 반환하고 범위 밖 가게는 제외")
+    void findWithinRadius_multipleShops() {
+        // given
+        saveShop("가챠샵1", 37.4980, 127.0277);
+        saveShop("가챠샵2", 37.4981, 127.0278);
+        saveShop("가챠샵3", 37.4982, 127.0279);
+        saveShop("먼가게", 35.1628, 129.1635);
+
+        // when
+        List<Shop> result = nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 1.0);
+
+        // then
+        assertThat(result).extracting(Shop::getName).containsExactly("가챠샵1", "가챠샵2", "가챠샵3");
+    }
+
+    @Test
+    @DisplayName("가게 데이터가 없으면 빈 리스트 반환")
+    void findWithinRadius_noShops() {
+        // when & then
+        assertThat(nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 10.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 JPQL 반경 쿼리와 동일한 결과를 반환")
+    void findWithinRadius_matchesLegacyQuery() {
+        // given - 중심에서 약 ±5.5km 범위에 무작위 분포
+        saveRandomShops(500, 0.05);
+
+        for (double radiusKm : new double[]{0.05, 0.5, 1.0, 3.0, 5.0}) {
+            // when
+            List<Shop> legacy = findWithLegacyQuery(CENTER_LAT, CENTER_LNG, radiusKm);
+            List<Shop> result = nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, radiusKm);
+
+            // then
+            assertThat(ids(result)).as("radius %.2fkm", radiusKm).containsExactlyElementsOf(ids(legacy));
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성능 비교 - 기존 JPQL 반경 쿼리 vs 사각형 후보 + Java 거리 계산")
+    void benchmarkAgainstLegacyQuery() {
+        // given - 전국 규모 분포를 흉내낸 가게 데이터
+        saveRandomShops(3_000, 1.5);
+        int warmup = 20;
+        int iterations = 200;
+
+        for (int i = 0; i < warmup; i++) {
+            findWithLegacyQuery(CENTER_LAT, CENTER_LNG, 0.05);
+            nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 0.05);
+        }
+
+        // when
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            findWithLegacyQuery(CENTER_LAT, CENTER_LNG, 0.05);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long finderStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 0.05);
+        }
+        long finderNanos = System.nanoTime() - finderStart;
+
+        // then
+        System.out.println("=== 50m 반경 검색 (" + iterations + "회, 가게 3000개) ===");
+        System.out.printf("JPQL acos 전체 스캔: 평균 %.3fms%n", legacyNanos / 1_000_000.0 / iterations);
+        System.out.printf("BETWEEN + Java Haversine: 평균 %.3fms%n", finderNanos / 1_000_000.0 / iterations);
+
+        assertThat(ids(nearbyShopFinder.findWithinRadius(CENTER_LAT, CENTER_LNG, 0.05)))
+                .containsExactlyElementsOf(ids(findWithLegacyQuery(CENTER_LAT, CENTER_LNG, 0.05)));
+    }
+}
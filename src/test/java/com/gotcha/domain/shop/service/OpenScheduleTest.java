@@ -0,0 +1,99 @@
+package com.gotcha.domain.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gotcha.domain.shop.service.OpenSchedule.Moment;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenScheduleTest {
+
+    // 2026-01-05 = 월요일
+    private Moment moment(int dayOfMonth, int hour, int minute) {
+        return Moment.of(ZonedDateTime.of(2026, 1, dayOfMonth, hour, minute, 0, 0, ZoneId.of("Asia/Seoul")));
+    }
+
+    private Map<String, String> everyDay(String schedule) {
+        Map<String, String> timeMap = new HashMap<>();
+        for (String day : new String[]{"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"}) {
+            timeMap.put(day, schedule);
+        }
+        return timeMap;
+    }
+
+    @Test
+    @DisplayName("일반 영업 시간 - 시작/종료 시각 포함")
+    void normalHours() {
+        OpenSchedule schedule = OpenSchedule.compile(everyDay("10:00 - 21:30"));
+
+        assertThat(schedule.status(moment(5, 9, 59))).isEqualTo(OpenSchedule.CLOSED);
+        assertThat(schedule.status(moment(5, 10, 0))).isEqualTo(OpenSchedule.OPEN);
+        assertThat(schedule.status(moment(5, 21, 30))).isEqualTo(OpenSchedule.OPEN);
+        assertThat(schedule.status(moment(5, 21, 31))).isEqualTo(OpenSchedule.CLOSED);
+        assertThat(schedule.isOpen(moment(5, 12, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("익일 영업 (22:00~02:00)")
+    void overnightHours() {
+        OpenSchedule schedule = OpenSchedule.compile(everyDay("22:00~02:00"));
+
+        assertThat(schedule.status(moment(5, 23, 0))).isEqualTo(OpenSchedule.OPEN);
+        assertThat(schedule.status(moment(5, 1, 0))).isEqualTo(OpenSchedule.OPEN);
+        assertThat(schedule.status(moment(5, 12, 0))).isEqualTo(OpenSchedule.CLOSED);
+    }
+
+    @Test
+    @DisplayName("24시간 영업 (00:00 - 24:00)")
+    void allDay() {
+        OpenSchedule schedule = OpenSchedule.compile(everyDay("00:00 - 24:00"));
+
+        assertThat(schedule.status(moment(5, 0, 0))).isEqualTo(OpenSchedule.OPEN);
+        assertThat(schedule.status(moment(5, 23, 59))).isEqualTo(OpenSchedule.OPEN);
+    }
+
+    @Test
+    @DisplayName("요일별 휴무/정보 없음/형식 오류 처리")
+    void dayKinds() {
+        Map<String, String> timeMap = everyDay("10:00-22:00");
+        timeMap.put("Mon", "휴무");
+        timeMap.put("Tue", null);
+        timeMap.put("Wed", " ");
+        timeMap.put("Thu", "10시-22시");
+
+        OpenSchedule schedule = OpenSchedule.compile(timeMap);
+
+        assertThat(schedule.status(moment(5, 12, 0))).isEqualTo(OpenSchedule.DAY_OFF);
+        assertThat(schedule.isOpen(moment(5, 12, 0))).isFalse();
+        assertThat(schedule.status(moment(6, 12, 0))).isEqualTo(OpenSchedule.UNKNOWN);
+        assertThat(schedule.status(moment(7, 12, 0))).isEqualTo(OpenSchedule.UNKNOWN);
+        assertThat(schedule.status(moment(8, 12, 0))).isEqualTo(OpenSchedule.UNKNOWN);
+        assertThat(schedule.status(moment(9, 12, 0))).isEqualTo(OpenSchedule.OPEN);
+        assertThat(schedule.scheduleOf(moment(5, 12, 0))).isEqualTo("휴무");
+        assertThat(schedule.scheduleOf(moment(9, 12, 0))).isEqualTo("10:00-22:00");
+    }
+
+    @Test
+    @DisplayName("빈 영업 시간은 빈 상태와 null 스케줄")
+    void empty() {
+        OpenSchedule schedule = OpenSchedule.compile(Map.of());
+
+        assertThat(schedule.status(moment(5, 12, 0))).isEqualTo(OpenSchedule.UNKNOWN);
+        assertThat(schedule.scheduleOf(moment(5, 12, 0))).isNull();
+        assertThat(OpenSchedule.compile(null).isOpen(moment(5, 12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Moment는 한국 시간 기준으로 변환")
+    void momentUsesKoreaTime() {
+        // UTC 2026-01-04(일) 16:00 = KST 2026-01-05(월) 01:00
+        Moment moment = Moment.of(ZonedDateTime.of(2026, 1, 4, 16, 0, 0, 0, ZoneId.of("UTC")));
+
+        assertThat(moment.dayIndex()).isZero();
+        assertThat(moment.secondOfDay()).isEqualTo(3600);
+    }
+}
@@ -49,6 +49,9 @@ class ShopServiceTest {
     @Mock
     private com.gotcha.domain.review.repository.ReviewLikeRepository reviewLikeRepository;
 
+    @Mock
+    private ShopSpatialIndex shopSpatialIndex;
+
     private User testUser;
     private Shop testShop;
 
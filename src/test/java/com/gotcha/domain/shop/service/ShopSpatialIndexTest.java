@@ -0,0 +1,247 @@
+package com.gotcha.domain.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gotcha._global.config.ShopSpatialIndexProperties;
+import com.gotcha.domain.shop.entity.Shop;
+import com.gotcha.domain.shop.repository.ShopRepository;
+import com.gotcha.domain.shop.repository.ShopRepository.ShopCoordinate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ShopSpatialIndexTest {
+
+    @Mock
+    private ShopRepository shopRepository;
+
+    private ShopSpatialIndexProperties properties;
+    private ShopSpatialIndex shopSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ShopSpatialIndexProperties();
+        properties.setEnabled(true);
+        shopSpatialIndex = new ShopSpatialIndex(shopRepository, properties);
+    }
+
+    private record Coordinate(Long id, Double latitude, Double longitude) implements ShopCoordinate {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Double getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public Double getLongitude() {
+            return longitude;
+        }
+    }
+
+    private Shop shop(Long id, Double latitude, Double longitude) {
+        Shop shop = Shop.builder()
+                .name("가챠샵 " + id)
+                .addressName("서울시 강남구")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+        ReflectionTestUtils.setField(shop, "id", id);
+        return shop;
+    }
+
+    @Nested
+    @DisplayName("findShopIdsWithinBounds - 경계 내 가게 조회")
+    class FindShopIdsWithinBounds {
+
+        @Test
+        @DisplayName("경계 안의 가게만 반환하고 경계값은 포함한다")
+        void returnsShopsInsideBoundsInclusive() {
+            // given
+            given(shopRepository.findAllCoordinates()).willReturn(List.of(
+                    new Coordinate(1L, 37.5150, 127.0450),
+                    new Coordinate(2L, 37.5200, 127.0500),
+                    new Coordinate(3L, 37.5300, 127.0450),
+                    new Coordinate(4L, 35.1796, 129.0756)
+            ));
+            shopSpatialIndex.rebuild();
+
+            // when
+            List<Long> result = shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("셀 수가 가게 수보다 많은 넓은 영역도 동일하게 조회한다")
+        void wideBoundsFallsBackToLinearScan() {
+            // given
+            given(shopRepository.findAllCoordinates()).willReturn(List.of(
+                    new Coordinate(1L, 37.5150, 127.0450),
+                    new Coordinate(2L, 35.1796, 129.0756)
+            ));
+            shopSpatialIndex.rebuild();
+
+            // when
+            List<Long> result = shopSpatialIndex.findShopIdsWithinBounds(38.6, 131.0, 33.0, 124.5);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("적재 전에는 사용 불가 상태이며 빈 목록을 반환한다")
+        void notLoaded_isUnavailable() {
+            assertThat(shopSpatialIndex.isAvailable()).isFalse();
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("설정이 비활성화되면 적재되어 있어도 사용 불가 상태")
+        void disabled_isUnavailable() {
+            // given
+            given(shopRepository.findAllCoordinates()).willReturn(List.of());
+            shopSpatialIndex.rebuild();
+
+            // when
+            properties.setEnabled(false);
+
+            // then
+            assertThat(shopSpatialIndex.isAvailable()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 반영")
+    class IncrementalUpdate {
+
+        @Test
+        @DisplayName("가게 추가/이동/삭제가 조회 결과에 반영된다")
+        void putMoveRemove() {
+            // given
+            given(shopRepository.findAllCoordinates()).willReturn(List.of());
+            shopSpatialIndex.rebuild();
+
+            // when & then
+            shopSpatialIndex.put(shop(1L, 37.5150, 127.0450));
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04))
+                    .containsExactly(1L);
+
+            shopSpatialIndex.put(shop(1L, 37.5650, 126.9780));
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04)).isEmpty();
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.57, 126.98, 37.56, 126.97))
+                    .containsExactly(1L);
+
+            shopSpatialIndex.remove(1L);
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.57, 126.98, 37.56, 126.97)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("좌표가 없는 가게는 인덱스에서 제외된다")
+        void nullCoordinates_removed() {
+            // given
+            given(shopRepository.findAllCoordinates()).willReturn(List.of(new Coordinate(1L, 37.5150, 127.0450)));
+            shopSpatialIndex.rebuild();
+
+            // when
+            shopSpatialIndex.put(shop(1L, null, null));
+
+            // then
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(38.6, 131.0, 33.0, 124.5)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("재구성 중 반영된 추가/삭제는 DB 스냅샷으로 덮어쓰이지 않는다")
+        void changesDuringRebuild_reapplied() {
+            // given - 스냅샷 조회 중 다른 트랜잭션의 커밋 이후 반영이 일어남
+            given(shopRepository.findAllCoordinates()).willReturn(List.of()).willAnswer(invocation -> {
+                shopSpatialIndex.put(shop(2L, 37.5160, 127.0460));
+                shopSpatialIndex.remove(1L);
+                return List.of(new Coordinate(1L, 37.5150, 127.0450));
+            });
+            shopSpatialIndex.rebuild();
+
+            // when
+            shopSpatialIndex.rebuild();
+
+            // then
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04))
+                    .containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("verifyConsistency - 정합성 검사")
+    class VerifyConsistency {
+
+        @Test
+        @DisplayName("DB와 불일치하면 DB 좌표로 재구성한다")
+        void driftDetected_rebuilds() {
+            // given
+            given(shopRepository.findAllCoordinates())
+                    .willReturn(List.of(new Coordinate(1L, 37.5150, 127.0450)))
+                    .willReturn(List.of(new Coordinate(2L, 37.5160, 127.0460)));
+            shopSpatialIndex.rebuild();
+
+            // when
+            shopSpatialIndex.verifyConsistency();
+
+            // then
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04))
+                    .containsExactly(2L);
+            verify(shopRepository, times(2)).findAllCoordinates();
+        }
+
+        @Test
+        @DisplayName("좌표가 없는 가게는 비교에서 제외하여 불필요하게 재구성하지 않는다")
+        void nullCoordinates_ignored() {
+            // given
+            given(shopRepository.findAllCoordinates()).willReturn(List.of(
+                    new Coordinate(1L, 37.5150, 127.0450),
+                    new Coordinate(2L, null, null)
+            ));
+            shopSpatialIndex.rebuild();
+
+            // when
+            shopSpatialIndex.verifyConsistency();
+
+            // then
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(38.6, 131.0, 33.0, 124.5)).containsExactly(1L);
+            verify(shopRepository, times(2)).findAllCoordinates();
+        }
+
+        @Test
+        @DisplayName("정합성 검사 중 반영된 변경은 재구성 후에도 유지된다")
+        void changesDuringCheck_reapplied() {
+            // given
+            given(shopRepository.findAllCoordinates())
+                    .willReturn(List.of(new Coordinate(1L, 37.5150, 127.0450)))
+                    .willAnswer(invocation -> {
+                        shopSpatialIndex.put(shop(3L, 37.5170, 127.0470));
+                        return List.of(new Coordinate(2L, 37.5160, 127.0460));
+                    });
+            shopSpatialIndex.rebuild();
+
+            // when
+            shopSpatialIndex.verifyConsistency();
+
+            // then
+            assertThat(shopSpatialIndex.findShopIdsWithinBounds(37.52, 127.05, 37.51, 127.04))
+                    .containsExactlyInAnyOrder(2L, 3L);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.gotcha.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class ForbiddenWordMatcherTest {
+
+    private List<String> koreanWords;
+    private List<String> englishWords;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        koreanWords = load("forbidden-words/ko.txt");
+        englishWords = load("forbidden-words/en.txt");
+    }
+
+    private List<String> load(String resourcePath) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    words.add(line);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 금칙어 조각, 우회 문자(숫자/특수문자/자모), 일반 문자를 섞은 무작위 입력
+     */
+    private List<String> randomInputs(int count, int maxLength, long seed) {
+        String alphabet = "시씨발팔벌병신지랄새끼쉬쒸색삭십섭가나다ㅅㅂㅣㅇㅏㄱㄴㄷㅈㄹㅄ이아fuckshitasFUCK@$!0123456789 .-";
+        List<String> fragments = new ArrayList<>(koreanWords);
+        fragments.addAll(englishWords);
+        Random random = new Random(seed);
+
+        List<String> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(maxLength);
+            for (int j = 0; j < length; j++) {
+                if (random.nextInt(60) == 0) {
+                    sb.append(fragments.get(random.nextInt(fragments.size())));
+                } else {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            inputs.add(sb.toString());
+        }
+        return inputs;
+    }
+
+    @Nested
+    @DisplayName("AhoCorasick 오토마톤")
+    class Automaton {
+
+        @Test
+        @DisplayName("여러 패턴 중 하나라도 포함되면 true")
+        void containsAny() {
+            AhoCorasick automaton = AhoCorasick.compile(List.of("he", "she", "his", "hers"));
+
+            assertThat(automaton.containsAny("ushers")).isTrue();
+            assertThat(automaton.containsAny("ahishe")).isTrue();
+            assertThat(automaton.containsAny("hxsx")).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 링크를 따라 접미사 패턴 검출 (abcd 실패 후 bce)")
+        void followsFailureLinks() {
+            AhoCorasick automaton = AhoCorasick.compile(List.of("abcd", "bce"));
+
+            assertThat(automaton.containsAny("abce")).isTrue();
+            assertThat(automaton.containsAny("abcx")).isFalse();
+        }
+
+        @Test
+        @DisplayName("빈 패턴 목록은 아무것도 검출하지 않음")
+        void empty() {
+            assertThat(AhoCorasick.compile(List.of("", "")).containsAny("anything")).isFalse();
+            assertThat(AhoCorasick.empty().isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("기존 구현과의 호환성")
+    class Compatibility {
+
+        @Test
+        @DisplayName("무작위 입력에 대해 기존 정규식 기반 구현과 동일한 결과")
+        void matchesLegacyImplementation() {
+            ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(koreanWords, englishWords);
+            LegacyForbiddenWordMatcher legacy = new LegacyForbiddenWordMatcher(koreanWords, englishWords);
+
+            for (String input : randomInputs(1_000, 14, 42)) {
+                assertThat(matcher.matches(input) && !input.isBlank())
+                        .as("input: %s", input)
+                        .isEqualTo(legacy.containsForbiddenWord(input));
+            }
+        }
+
+        @Test
+        @DisplayName("정규화 규칙별 대표 입력")
+        void normalizationRules() {
+            ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(koreanWords, englishWords);
+
+            assertThat(matcher.matches("ㅅㅣㅂㅏㄹ")).isTrue();
+            assertThat(matcher.matches("씨이이이발")).isTrue();
+            assertThat(matcher.matches("시1발")).isTrue();
+            assertThat(matcher.matches("f.u.c.k")).isTrue();
+            assertThat(matcher.matches("fuuuuck")).isTrue();
+            assertThat(matcher.matches("$h!t")).isTrue();
+            assertThat(matcher.matches("ㅅㅂ")).isTrue();
+            assertThat(matcher.matches("시바견")).isFalse();
+            assertThat(matcher.matches("classic")).isFalse();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("성능 비교 - Set 순회 + 정규식 vs Aho-Corasick 단일 패스")
+    void benchmarkAgainstLegacyImplementation() {
+        // given
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(koreanWords, englishWords);
+        LegacyForbiddenWordMatcher legacy = new LegacyForbiddenWordMatcher(koreanWords, englishWords);
+        List<String> nicknames = randomInputs(5_000, 12, 7);
+        List<String> paragraphs = randomInputs(200, 1_000, 11);
+        int rounds = 3;
+
+        for (String input : nicknames) {
+            legacy.containsForbiddenWord(input);
+            matcher.matches(input);
+        }
+
+        // when
+        long legacyStart = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            nicknames.forEach(legacy::containsForbiddenWord);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long matcherStart = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            nicknames.forEach(matcher::matches);
+        }
+        long matcherNanos = System.nanoTime() - matcherStart;
+
+        long legacyLongStart = System.nanoTime();
+        paragraphs.forEach(legacy::containsForbiddenWord);
+        long legacyLongNanos = System.nanoTime() - legacyLongStart;
+
+        long matcherLongStart = System.nanoTime();
+        paragraphs.forEach(matcher::matches);
+        long matcherLongNanos = System.nanoTime() - matcherLongStart;
+
+        // then
+        int nicknameCalls = nicknames.size() * rounds;
+        System.out.println("=== 금칙어 검사 (금칙어 " + matcher.size() + "개) ===");
+        System.out.printf("닉네임 길이 - 기존: 평균 %.2fus, Aho-Corasick: 평균 %.2fus%n",
+                legacyNanos / 1_000.0 / nicknameCalls, matcherNanos / 1_000.0 / nicknameCalls);
+        System.out.printf("본문 길이(최대 1000자) - 기존: 평균 %.2fus, Aho-Corasick: 평균 %.2fus%n",
+                legacyLongNanos / 1_000.0 / paragraphs.size(), matcherLongNanos / 1_000.0 / paragraphs.size());
+
+        for (String input : nicknames) {
+            assertThat(matcher.matches(input) && !input.isBlank())
+                    .as("input: %s", input)
+                    .isEqualTo(legacy.containsForbiddenWord(input));
+        }
+        for (String input : paragraphs) {
+            assertThat(matcher.matches(input)).isEqualTo(legacy.containsForbiddenWord(input));
+        }
+    }
+}
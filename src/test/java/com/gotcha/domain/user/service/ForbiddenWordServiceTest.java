@@ -2,10 +2,15 @@ package com.gotcha.domain.user.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.gotcha._global.config.ModerationProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * ForbiddenWordService 테스트
@@ -19,7 +24,7 @@ class ForbiddenWordServiceTest {
 
     @BeforeEach
     void setUp() {
-        forbiddenWordService = new ForbiddenWordService();
+        forbiddenWordService = new ForbiddenWordService(new ModerationProperties());
         forbiddenWordService.init();
     }
 
@@ -212,4 +217,68 @@ class ForbiddenWordServiceTest {
             assertThat(forbiddenWordService.containsForbiddenWord("가나다라마바사아자차카타")).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("금칙어 목록 재로드")
+    class Reload {
+
+        @TempDir
+        Path directory;
+
+        private ForbiddenWordService serviceWithFiles(String korean, String english) throws IOException {
+            Files.writeString(directory.resolve("ko.txt"), korean);
+            Files.writeString(directory.resolve("en.txt"), english);
+            ModerationProperties properties = new ModerationProperties();
+            properties.setForbiddenWordsLocation(directory.toUri().toString());
+            ForbiddenWordService service = new ForbiddenWordService(properties);
+            service.init();
+            return service;
+        }
+
+        @Test
+        @DisplayName("파일이 바뀌면 새 목록으로 교체하고 버전 증가")
+        void reloadsChangedList() throws IOException {
+            // given
+            ForbiddenWordService service = serviceWithFiles("병신\n", "fuck\n");
+            long version = service.rulesVersion();
+
+            // when
+            Files.writeString(directory.resolve("ko.txt"), "병신\n바보\n");
+            service.reloadIfChanged();
+
+            // then
+            assertThat(service.containsForbiddenWord("바보")).isTrue();
+            assertThat(service.rulesVersion()).isEqualTo(version + 1);
+        }
+
+        @Test
+        @DisplayName("내용이 같으면 다시 컴파일하지 않음")
+        void unchangedList_keepsVersion() throws IOException {
+            // given
+            ForbiddenWordService service = serviceWithFiles("병신\n", "fuck\n");
+            long version = service.rulesVersion();
+
+            // when
+            service.reloadIfChanged();
+
+            // then
+            assertThat(service.rulesVersion()).isEqualTo(version);
+        }
+
+        @Test
+        @DisplayName("파일을 읽지 못하면 기존 목록 유지")
+        void unreadableFile_keepsCurrentList() throws IOException {
+            // given
+            ForbiddenWordService service = serviceWithFiles("병신\n", "fuck\n");
+            long version = service.rulesVersion();
+
+            // when
+            Files.delete(directory.resolve("en.txt"));
+            service.reloadIfChanged();
+
+            // then
+            assertThat(service.containsForbiddenWord("fuck")).isTrue();
+            assertThat(service.rulesVersion()).isEqualTo(version);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.gotcha.domain.user.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,21 +12,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.gotcha._global.util.SecurityUtil;
 import com.gotcha.domain.auth.repository.RedisRefreshTokenStore;
 import com.gotcha.domain.auth.service.SocialUnlinkService;
-import com.gotcha.domain.chat.repository.ChatRepository;
-import com.gotcha.domain.chat.repository.ChatRoomRepository;
-import com.gotcha.domain.comment.repository.CommentRepository;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import com.gotcha.domain.erasure.service.ErasureEngine;
 import com.gotcha.domain.favorite.repository.FavoriteRepository;
 import com.gotcha.domain.file.service.FileStorageService;
-import com.gotcha.domain.inquiry.repository.InquiryRepository;
-import com.gotcha.domain.post.repository.PostCommentRepository;
-import com.gotcha.domain.post.repository.PostRepository;
-import com.gotcha.domain.review.entity.Review;
-import com.gotcha.domain.review.entity.ReviewImage;
 import com.gotcha.domain.review.repository.ReviewImageRepository;
 import com.gotcha.domain.review.repository.ReviewLikeRepository;
 import com.gotcha.domain.review.repository.ReviewRepository;
-import com.gotcha.domain.shop.entity.Shop;
-import com.gotcha.domain.shop.repository.ShopSuggestionRepository;
 import com.gotcha.domain.shop.repository.ShopRepository;
 import com.gotcha.domain.shop.service.ShopService;
 import com.gotcha.domain.user.dto.UserResponse;
@@ -35,10 +28,8 @@ import com.gotcha.domain.user.entity.User;
 import com.gotcha.domain.user.entity.WithdrawalReason;
 import com.gotcha.domain.user.entity.WithdrawalSurvey;
 import com.gotcha.domain.user.exception.UserException;
-import com.gotcha.domain.user.repository.UserPermissionRepository;
 import com.gotcha.domain.user.repository.UserRepository;
 import com.gotcha.domain.user.repository.WithdrawalSurveyRepository;
-import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -58,9 +49,6 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private UserPermissionRepository userPermissionRepository;
-
     @Mock
     private WithdrawalSurveyRepository withdrawalSurveyRepository;
 
@@ -79,9 +67,6 @@ class UserServiceTest {
     @Mock
     private ReviewLikeRepository reviewLikeRepository;
 
-    @Mock
-    private CommentRepository commentRepository;
-
     @Mock
     private FileStorageService fileStorageService;
 
@@ -91,9 +76,6 @@ class UserServiceTest {
     @Mock
     private ShopRepository shopRepository;
 
-    @Mock
-    private ShopSuggestionRepository shopSuggestionRepository;
-
     @Mock
     private ShopService shopService;
 
@@ -101,22 +83,7 @@ class UserServiceTest {
     private ForbiddenWordService forbiddenWordService;
 
     @Mock
-    private InquiryRepository inquiryRepository;
-
-    @Mock
-    private ChatRepository chatRepository;
-
-    @Mock
-    private ChatRoomRepository chatRoomRepository;
-
-    @Mock
-    private PostRepository postRepository;
-
-    @Mock
-    private PostCommentRepository postCommentRepository;
-
-    @Mock
-    private com.gotcha.domain.block.repository.UserBlockRepository userBlockRepository;
+    private ErasureEngine erasureEngine;
 
     @InjectMocks
     private UserService userService;
@@ -240,7 +207,7 @@ class UserServiceTest {
     class Withdraw {
 
         @Test
-        @DisplayName("회원 탈퇴 성공 - 설문 저장, 관련 데이터 삭제, soft delete, 마스킹")
+        @DisplayName("회원 탈퇴 성공 - 설문 저장, 연쇄 삭제 작업 등록, soft delete, 마스킹")
         void withdraw_Success() {
             // given
             testUser = User.builder()
@@ -254,9 +221,6 @@ class UserServiceTest {
 
             when(securityUtil.getCurrentUserId()).thenReturn(testUser.getId());
             when(userRepository.findById(testUser.getId())).thenReturn(java.util.Optional.of(testUser));
-            when(reviewRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
-            when(chatRoomRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
-            when(postRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
             WithdrawalRequest request = new WithdrawalRequest(
                     List.of(WithdrawalReason.LOW_USAGE, WithdrawalReason.INSUFFICIENT_INFO),
                     "사용 빈도가 낮아서");
@@ -277,17 +241,8 @@ class UserServiceTest {
             assertThat(savedSurvey.getUser()).isEqualTo(testUser);
 
             // then - 데이터 삭제 검증
-            verify(favoriteRepository).deleteByUserId(testUser.getId());
-            verify(reviewLikeRepository).deleteByUserId(testUser.getId());
-            verify(reviewRepository).deleteByUserId(testUser.getId());
-            verify(commentRepository).deleteByUserId(testUser.getId());
-            verify(userPermissionRepository).deleteByUserId(testUser.getId());
             verify(redisRefreshTokenStore).deleteByUserId(testUser.getId());
-            verify(shopSuggestionRepository).deleteBySuggesterId(testUser.getId());
-            verify(inquiryRepository).deleteByUserId(testUser.getId());
-            verify(postCommentRepository).clearParentByUserId(testUser.getId());
-            verify(postCommentRepository).deleteByUserId(testUser.getId());
-            verify(postRepository).deleteByUserId(testUser.getId());
+            verify(erasureEngine).schedule(ErasureTargetType.USER, testUser.getId());
 
             // then - soft delete 및 마스킹 검증
             assertThat(testUser.getIsDeleted()).isTrue();
@@ -304,9 +259,6 @@ class UserServiceTest {
             // given
             when(securityUtil.getCurrentUserId()).thenReturn(testUser.getId());
             when(userRepository.findById(testUser.getId())).thenReturn(java.util.Optional.of(testUser));
-            when(reviewRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
-            when(chatRoomRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
-            when(postRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
             WithdrawalRequest request = new WithdrawalRequest(List.of(WithdrawalReason.INSUFFICIENT_INFO), null);
 
             // when
@@ -337,67 +289,7 @@ class UserServiceTest {
             assertThatThrownBy(() -> userService.withdraw(request))
                     .isInstanceOf(UserException.class)
                     .hasMessageContaining("이미 탈퇴한 사용자입니다");
-        }
-
-        @Test
-        @DisplayName("회원 탈퇴 시 리뷰 이미지 GCS 삭제 및 DB 삭제")
-        void withdraw_WithReviewImages_DeletesGCSAndDB() {
-            // given
-            when(securityUtil.getCurrentUserId()).thenReturn(testUser.getId());
-            when(userRepository.findById(testUser.getId())).thenReturn(java.util.Optional.of(testUser));
-
-            // 리뷰 mock 설정
-            Review mockReview = Review.builder()
-                    .shop(Shop.builder().name("테스트샵").addressName("주소").latitude(37.0).longitude(127.0).createdBy(testUser).build())
-                    .user(testUser)
-                    .content("리뷰 내용")
-                    .build();
-            setReviewId(mockReview, 100L);
-
-            ReviewImage mockImage1 = ReviewImage.builder()
-                    .review(mockReview)
-                    .imageUrl("https://storage.googleapis.com/bucket/image1.jpg")
-                    .displayOrder(0)
-                    .build();
-            ReviewImage mockImage2 = ReviewImage.builder()
-                    .review(mockReview)
-                    .imageUrl("https://storage.googleapis.com/bucket/image2.jpg")
-                    .displayOrder(1)
-                    .build();
-
-            when(reviewRepository.findAllByUserId(testUser.getId())).thenReturn(List.of(mockReview));
-            when(reviewImageRepository.findAllByReviewIdInOrderByReviewIdAscDisplayOrderAsc(List.of(100L)))
-                    .thenReturn(List.of(mockImage1, mockImage2));
-            when(chatRoomRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
-            when(postRepository.findAllByUserId(testUser.getId())).thenReturn(Collections.emptyList());
-
-            WithdrawalRequest request = new WithdrawalRequest(List.of(WithdrawalReason.LOW_USAGE), null);
-
-            // when
-            userService.withdraw(request);
-
-            // then - GCS 이미지 삭제 검증
-            verify(fileStorageService).deleteFile("https://storage.googleapis.com/bucket/image1.jpg");
-            verify(fileStorageService).deleteFile("https://storage.googleapis.com/bucket/image2.jpg");
-
-            // then - DB 이미지 삭제 검증
-            verify(reviewImageRepository).deleteAllByReviewIdIn(List.of(100L));
-
-            // then - 리뷰 좋아요 삭제 검증
-            verify(reviewLikeRepository).deleteAllByReviewIdIn(List.of(100L));
-
-            // then - 리뷰 삭제 검증
-            verify(reviewRepository).deleteByUserId(testUser.getId());
-        }
-
-        private void setReviewId(Review review, Long id) {
-            try {
-                var field = Review.class.getDeclaredField("id");
-                field.setAccessible(true);
-                field.set(review, id);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            verify(erasureEngine, never()).schedule(ErasureTargetType.USER, testUser.getId());
         }
     }
 }
@@ -14,6 +14,10 @@ import com.gotcha.domain.chat.repository.ChatRepository;
 import com.gotcha.domain.chat.repository.ChatRoomRepository;
 import com.gotcha.domain.comment.entity.Comment;
 import com.gotcha.domain.comment.repository.CommentRepository;
+import com.gotcha.domain.erasure.entity.ErasureJob;
+import com.gotcha.domain.erasure.entity.ErasureTargetType;
+import com.gotcha.domain.erasure.repository.ErasureJobRepository;
+import com.gotcha.domain.erasure.service.ErasureEngine;
 import com.gotcha.domain.favorite.entity.Favorite;
 import com.gotcha.domain.favorite.repository.FavoriteRepository;
 import com.gotcha.domain.file.service.FileStorageService;
@@ -112,6 +116,12 @@ class UserWithdrawalIntegrationTest {
     @Autowired
     private PostCommentRepository postCommentRepository;
 
+    @Autowired
+    private ErasureEngine erasureEngine;
+
+    @Autowired
+    private ErasureJobRepository erasureJobRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -180,6 +190,7 @@ class UserWithdrawalIntegrationTest {
 
             // when
             userService.withdraw(request);
+            runErasureJob();
 
             // 영속성 컨텍스트 초기화 (DB 상태 확인을 위해)
             entityManager.flush();
@@ -287,6 +298,7 @@ class UserWithdrawalIntegrationTest {
 
             // when
             userService.withdraw(request);
+            runErasureJob();
 
             // then - 다른 유저의 데이터는 유지
             assertThat(reviewRepository.findById(otherUserReview.getId())).isPresent();
@@ -296,6 +308,16 @@ class UserWithdrawalIntegrationTest {
             assertThat(reviewRepository.findAllByUserId(testUser.getId())).isEmpty();
         }
 
+        /**
+         * 커밋 이후 백그라운드에서 실행될 연쇄 삭제 작업을 테스트 트랜잭션 안에서 바로 실행
+         */
+        private void runErasureJob() {
+            ErasureJob job = erasureJobRepository
+                    .findByTargetTypeAndTargetId(ErasureTargetType.USER, testUser.getId())
+                    .orElseThrow();
+            assertThat(erasureEngine.run(job.getId())).isTrue();
+        }
+
         private void setupAllUserData() {
             // Favorite
             favoriteRepository.save(Favorite.builder()